@@ -0,0 +1,220 @@
+package com.likelion.attserver.ChangeLog;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.Event.AttendanceChangedEvent;
+import com.likelion.attserver.JWT.JwtTokenUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 출석 변경 이력을 로컬 디스크에 추가만 하는 로그.
+// 세그먼트 파일을 mmap 해두고 메모리 복사만 하므로 요청 경로에 디스크 I/O가 끼지 않고,
+// 디스크 반영(force)은 스케줄러가 주기적으로 처리함.
+// 세그먼트마다 출석 ID 블룸 필터를 두어 출석 한 건의 이력은 그 ID가 들어있는 세그먼트만 읽음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceChangeLog {
+    private static final String PREFIX = "attendance-";
+    private static final String SUFFIX = ".log";
+
+    private final JwtTokenUtil jwtTokenUtil;
+
+    @Value("${att.changelog.dir:changelog}")
+    private String dir;
+    @Value("${att.changelog.segment-size:67108864}")
+    private int segmentSize;
+
+    private Path directory;
+    private ChangeLogSegment active;
+    private AttendanceIdFilter activeFilter;
+    private long activeIndex;
+    // 다 쓴 세그먼트의 필터. 재시작 전에 쓴 세그먼트는 처음 조회할 때 한 번 읽어서 만듦
+    private final Map<Long, AttendanceIdFilter> sealedFilters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    synchronized void open() throws IOException {
+        directory = Paths.get(dir);
+        Files.createDirectories(directory);
+        List<Path> segments = segments();
+        activeIndex = segments.isEmpty() ? 0 : indexOf(segments.get(segments.size() - 1));
+        openActive();
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에만 기록. 롤백된 변경은 로그에 남지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        append(event.changes());
+    }
+
+    public synchronized void append(List<AttendanceChangeDTO> changes) {
+        try {
+            for (AttendanceChangeDTO change : changes) {
+                byte[] note = note(change.getNote());
+                int size = ChangeLogSegment.recordSize(note);
+                if (!active.hasRoom(size)) roll();
+                active.append(change, note);
+                activeFilter.add(change.getAttendanceId());
+            }
+        } catch (IOException e) {
+            // 이력 기록 실패로 이미 커밋된 출석 수정을 되돌릴 수는 없으므로 로그만 남김
+            log.error("Failed to append attendance change log", e);
+        }
+    }
+
+    // 현재 요청의 JWT에서 변경자 학번을 꺼냄. 스케줄러 등 요청 밖이면 null
+    public Long currentActor() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes))
+            return null;
+        HttpServletRequest request = attributes.getRequest();
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith("Bearer ")) return null;
+        try {
+            return jwtTokenUtil.getIdFromToken(header.substring(7));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 처음부터 순서대로 읽어서 시각 until 이전까지의 변경을 넘김
+    public void replay(Instant until, Consumer<AttendanceChangeDTO> consumer) {
+        scan(until == null ? Long.MAX_VALUE : until.toEpochMilli(), null, consumer);
+    }
+
+    // 출석 한 건의 변경 이력. 필터에 그 ID가 없는 세그먼트는 열지 않음
+    public List<AttendanceChangeDTO> history(Long attendanceId) {
+        List<AttendanceChangeDTO> history = new ArrayList<>();
+        scan(Long.MAX_VALUE, attendanceId, change -> {
+            if (attendanceId.equals(change.getAttendanceId())) history.add(change);
+        });
+        return history;
+    }
+
+    // attendanceId가 있으면 그 ID가 없다고 확실한 세그먼트는 건너뜀
+    private void scan(long limit, Long attendanceId, Consumer<AttendanceChangeDTO> consumer) {
+        // 쓰기 중인 세그먼트는 지금까지의 끝 위치만 잡아두고 락 밖에서 읽어 기록을 막지 않음
+        ChangeLogSegment current;
+        AttendanceIdFilter currentFilter;
+        long currentIndex;
+        int currentEnd;
+        synchronized (this) {
+            current = active;
+            currentFilter = activeFilter;
+            currentIndex = activeIndex;
+            currentEnd = active.position();
+        }
+        for (Path path : segments()) {
+            long index = indexOf(path);
+            if (index > currentIndex) break;
+            if (index == currentIndex) {
+                if (attendanceId == null || currentFilter.mightContain(attendanceId))
+                    current.forEach(currentEnd, limit, consumer);
+                break;
+            }
+            if (attendanceId != null && !sealedFilter(index, path).mightContain(attendanceId)) continue;
+            try (ChangeLogSegment segment = ChangeLogSegment.openForRead(path)) {
+                segment.forEach(segment.capacity(), limit, consumer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private AttendanceIdFilter sealedFilter(long index, Path path) {
+        return sealedFilters.computeIfAbsent(index, key -> {
+            try (ChangeLogSegment segment = ChangeLogSegment.openForRead(path)) {
+                return filterOf(segment, segment.capacity());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static AttendanceIdFilter filterOf(ChangeLogSegment segment, int end) {
+        AttendanceIdFilter filter = AttendanceIdFilter.forCapacity(segment.capacity());
+        segment.forEach(end, Long.MAX_VALUE, change -> filter.add(change.getAttendanceId()));
+        return filter;
+    }
+
+    // 시각 at 기준으로 출석별 마지막 변경을 모아 그때의 상태를 재구성 (teamId가 있으면 그 팀만)
+    public List<AttendanceChangeDTO> stateAsOf(Instant at, Long teamId) {
+        Map<Long, AttendanceChangeDTO> state = new LinkedHashMap<>();
+        replay(at, change -> {
+            if (teamId == null || teamId.equals(change.getTeamId())) state.put(change.getAttendanceId(), change);
+        });
+        return new ArrayList<>(state.values());
+    }
+
+    @Scheduled(fixedDelayString = "${att.changelog.force-interval-ms:1000}")
+    public synchronized void force() {
+        active.force();
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        active.force();
+        active.close();
+    }
+
+    private void roll() throws IOException {
+        active.force();
+        active.close();
+        sealedFilters.put(activeIndex, activeFilter);
+        activeIndex++;
+        openActive();
+    }
+
+    // 재시작이면 이미 쓰인 레코드로 필터를 채움
+    private void openActive() throws IOException {
+        active = ChangeLogSegment.openForWrite(segmentPath(activeIndex), segmentSize);
+        activeFilter = filterOf(active, active.position());
+    }
+
+    private static byte[] note(String note) {
+        if (note == null) return new byte[0];
+        byte[] bytes = note.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= ChangeLogSegment.MAX_NOTE ? bytes : Arrays.copyOf(bytes, ChangeLogSegment.MAX_NOTE);
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(PREFIX)
+                            && path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(AttendanceChangeLog::indexOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, index, SUFFIX));
+    }
+
+    private static long indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
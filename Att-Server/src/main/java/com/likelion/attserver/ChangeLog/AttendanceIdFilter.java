@@ -0,0 +1,48 @@
+package com.likelion.attserver.ChangeLog;
+
+// 세그먼트 하나에 들어있는 출석 ID의 블룸 필터.
+// mightContain이 false면 그 세그먼트에는 확실히 없으므로 이력 조회 때 세그먼트를 통째로 건너뜀
+class AttendanceIdFilter {
+    private static final int BITS_PER_ID = 10;
+    private static final int HASHES = 7;
+
+    private final long[] bits;
+    private final int size;
+
+    AttendanceIdFilter(int expected) {
+        size = Math.max(Long.SIZE, expected * BITS_PER_ID);
+        bits = new long[(size + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    // 세그먼트 크기에 들어갈 수 있는 최대 레코드 수 기준으로 잡음
+    static AttendanceIdFilter forCapacity(int capacity) {
+        return new AttendanceIdFilter(capacity / (Integer.BYTES + ChangeLogSegment.FIXED_SIZE));
+    }
+
+    void add(Long attendanceId) {
+        if (attendanceId == null) return;
+        long h1 = mix(attendanceId);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (int) Math.floorMod(h1 + i * h2, (long) size);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(Long attendanceId) {
+        long h1 = mix(attendanceId);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (int) Math.floorMod(h1 + i * h2, (long) size);
+            if ((bits[bit >>> 6] & 1L << bit) == 0) return false;
+        }
+        return true;
+    }
+
+    // splitmix64 마무리 단계. 연속된 ID도 비트가 고르게 퍼지게 함
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,159 @@
+package com.likelion.attserver.ChangeLog;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+// 고정 크기로 미리 잡아둔 파일 하나를 mmap 해서 레코드를 이어 붙임.
+// 레코드: [int 길이][long 시각][long 출석][long 유저][long 팀][long 변경자]
+//        [byte 이전상태][byte 새상태][long 이전점수][long 새점수][long 버전][short 노트길이][노트]
+// 길이가 0인 곳이 기록의 끝 (새 파일은 0으로 채워져 있음)
+// 상태는 enum 순서와 무관한 고정 코드(N/P/L/A, 없으면 -1)로 저장
+class ChangeLogSegment implements AutoCloseable {
+    static final int FIXED_SIZE = 8 * 8 + 2 + 2;
+    static final int MAX_NOTE = 1024;
+    private static final long NULL = Long.MIN_VALUE;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private ChangeLogSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static ChangeLogSegment openForWrite(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+        ChangeLogSegment segment = new ChangeLogSegment(path, channel, buffer);
+        // 재시작 시 기록 끝 위치를 찾아 이어서 씀
+        buffer.position(segment.forEach(buffer.capacity(), Long.MAX_VALUE, change -> { }));
+        return segment;
+    }
+
+    static ChangeLogSegment openForRead(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        return new ChangeLogSegment(path, channel, buffer);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    static int recordSize(byte[] note) {
+        return Integer.BYTES + FIXED_SIZE + note.length;
+    }
+
+    boolean hasRoom(int recordSize) {
+        // 끝 표시용 길이 0 자리까지 남겨둠
+        return buffer.remaining() >= recordSize + Integer.BYTES;
+    }
+
+    // 지금까지 기록된 끝 위치. 이 앞까지는 다 쓰인 레코드만 있음
+    int position() {
+        return buffer.position();
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    // 길이를 마지막에 채워서, 쓰는 중인 레코드는 읽는 쪽에서 끝(0)으로 보이게 함
+    void append(AttendanceChangeDTO change, byte[] note) {
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.putLong(change.getChangedAt().toEpochMilli());
+        buffer.putLong(orNull(change.getAttendanceId()));
+        buffer.putLong(orNull(change.getUserId()));
+        buffer.putLong(orNull(change.getTeamId()));
+        buffer.putLong(orNull(change.getChangedBy()));
+        buffer.put(status(change.getOldStatus()));
+        buffer.put(status(change.getNewStatus()));
+        buffer.putLong(orNull(change.getOldScore()));
+        buffer.putLong(orNull(change.getNewScore()));
+        buffer.putLong(orNull(change.getVersion()));
+        buffer.putShort((short) note.length);
+        buffer.put(note);
+        buffer.putInt(start, FIXED_SIZE + note.length);
+    }
+
+    // end 위치까지 읽으면서 changedAt <= until 인 레코드를 넘기고, 마지막으로 읽은 레코드의 끝 위치를 반환
+    int forEach(int end, long until, Consumer<AttendanceChangeDTO> consumer) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(0).limit(end);
+        int last = 0;
+        while (view.remaining() >= Integer.BYTES) {
+            int length = view.getInt();
+            if (length <= 0 || length > view.remaining()) break;
+            long changedAt = view.getLong();
+            AttendanceChangeDTO change = AttendanceChangeDTO.builder()
+                    .changedAt(Instant.ofEpochMilli(changedAt))
+                    .attendanceId(fromNull(view.getLong()))
+                    .userId(fromNull(view.getLong()))
+                    .teamId(fromNull(view.getLong()))
+                    .changedBy(fromNull(view.getLong()))
+                    .oldStatus(status(view.get()))
+                    .newStatus(status(view.get()))
+                    .oldScore(fromNull(view.getLong()))
+                    .newScore(fromNull(view.getLong()))
+                    .version(fromNull(view.getLong()))
+                    .build();
+            byte[] note = new byte[view.getShort()];
+            view.get(note);
+            change.setNote(note.length == 0 ? null : new String(note, StandardCharsets.UTF_8));
+            last = view.position();
+            if (changedAt <= until) consumer.accept(change);
+        }
+        return last;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static long orNull(Long value) {
+        return value == null ? NULL : value;
+    }
+
+    private static Long fromNull(long value) {
+        return value == NULL ? null : value;
+    }
+
+    private static byte status(AttendanceEntity.Status status) {
+        if (status == null) return -1;
+        return switch (status) {
+            case NOT -> (byte) 'N';
+            case PRESENT -> (byte) 'P';
+            case LATE -> (byte) 'L';
+            case ABSENT -> (byte) 'A';
+        };
+    }
+
+    private static AttendanceEntity.Status status(byte value) {
+        return switch (value) {
+            case 'N' -> AttendanceEntity.Status.NOT;
+            case 'P' -> AttendanceEntity.Status.PRESENT;
+            case 'L' -> AttendanceEntity.Status.LATE;
+            case 'A' -> AttendanceEntity.Status.ABSENT;
+            default -> null;
+        };
+    }
+}
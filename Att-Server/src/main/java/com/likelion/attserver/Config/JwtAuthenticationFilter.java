@@ -1,6 +1,7 @@
 package com.likelion.attserver.Config;
 
 import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.JWT.CalendarFeedToken;
 import com.likelion.attserver.JWT.JwtTokenUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,6 +20,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenUtil jwtUtil;
+    private final CalendarFeedToken feedToken;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -46,31 +48,74 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Authorization 헤더 가져오기
-        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.setContentType("application/json"); // JSON 형식으로 설정
-            String errorMessage = "{ \"message\": \"JWT Token is missing\" }";
-            response.getWriter().write(errorMessage); // JSON 형식으로 메시지 전송
+        // 캘린더 앱은 헤더를 붙이지 못하므로 피드 두 경로만 URL의 서명 토큰으로 통과
+        if (hasFeedToken(key, request)) {
+            filterChain.doFilter(request, response);
             return;
         }
 
-        // 토큰 검증 및 역할(Role) 정보 추출
-        String token = authHeader.substring(7);
-        if (!jwtUtil.validateToken(token)) {
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.setContentType("application/json");
-            String errorMessage = "{ \"message\": \"Invalid JWT Token\" }";
-            response.getWriter().write(errorMessage);
-            return;
+        // EventSource도 헤더를 붙이지 못하므로 구독 두 경로만 쿼리의 짧은 구독 토큰을 받음
+        Set<String> eventRoutes = Set.of(
+                "GET:/api/schedules/events",
+                "GET:/api/schedules/events/all"
+        );
+
+        String token;
+        if (eventRoutes.contains(key) && request.getParameter("token") != null) {
+            token = request.getParameter("token");
+            if (!jwtUtil.validateToken(token) || !jwtUtil.isEventsToken(token)) {
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setContentType("application/json");
+                String errorMessage = "{ \"message\": \"Invalid events token\" }";
+                response.getWriter().write(errorMessage);
+                return;
+            }
+        } else {
+            // Authorization 헤더 가져오기
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setContentType("application/json"); // JSON 형식으로 설정
+                String errorMessage = "{ \"message\": \"JWT Token is missing\" }";
+                response.getWriter().write(errorMessage); // JSON 형식으로 메시지 전송
+                return;
+            }
+
+            // 토큰 검증 및 역할(Role) 정보 추출. 구독 토큰은 구독 경로 밖에서 쓸 수 없음
+            token = authHeader.substring(7);
+            if (!jwtUtil.validateToken(token) || jwtUtil.isEventsToken(token)) {
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setContentType("application/json");
+                String errorMessage = "{ \"message\": \"Invalid JWT Token\" }";
+                response.getWriter().write(errorMessage);
+                return;
+            }
         }
 
         Set<String> adminOnlyRoutes = Set.of(
                 "POST:/api/schedules",
+                "POST:/api/schedules/recurring",
                 "POST:/api/team",
+                "PUT:/api/team/members",
                 "DELETE:/api/schedules",
                 "PUT:/api/att",
+                "PUT:/api/att/bulk",
+                "PUT:/api/att/stream",
+                "GET:/api/att/summary/verify",
+                "POST:/api/att/summary/rebuild",
+                "GET:/api/att/checkin/code",
+                "GET:/api/att/export",
+                "GET:/api/att/history",
+                "GET:/api/att/history/as-of",
+                "POST:/api/att/finalize",
+                "GET:/api/att/finalize/last",
+                "GET:/api/att/grades",
+                "GET:/api/att/grades/rules",
+                "POST:/api/att/grades",
+                "GET:/api/att/matrix/streaks",
+                "GET:/api/att/matrix/slots",
+                "GET:/api/att/matrix/footprint",
+                "GET:/api/schedules/events/all",
                 "DELETE:/api/team",
                 "POST:/api/docs",
                 "DELETE:/api/docs",
@@ -92,4 +137,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean hasFeedToken(String key, HttpServletRequest request) {
+        String token = request.getParameter("token");
+        if (token == null) return false;
+        return switch (key) {
+            case "GET:/api/schedules/calendar" ->
+                    feedToken.verify(CalendarFeedToken.Kind.TEAM, parseId(request.getParameter("teamId")), token);
+            case "GET:/api/schedules/calendar/user" ->
+                    feedToken.verify(CalendarFeedToken.Kind.USER, parseId(request.getParameter("userId")), token);
+            default -> false;
+        };
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
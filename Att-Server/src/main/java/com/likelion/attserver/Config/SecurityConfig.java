@@ -44,7 +44,12 @@ public class SecurityConfig {
                                 "/api/auth/signin",
                                 "/api/team",
                                 "/api/schedules",
+                                "/api/schedules/recurring",
                                 "/api/docs",
+                                "/api/att/summary/rebuild",
+                                "/api/att/finalize",
+                                "/api/att/grades",
+                                "/api/att/checkin",
                                 "/api/mail/mail-send").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/user/all",
                                 "/api/user",
@@ -52,9 +57,35 @@ public class SecurityConfig {
                                 "/api/team/all",
                                 "/api/schedules",
                                 "/api/schedules/all",
+                                "/api/schedules/events",
+                                "/api/schedules/events/all",
+                                "/api/schedules/events/token",
+                                "/api/schedules/calendar",
+                                "/api/schedules/calendar/user",
+                                "/api/schedules/calendar/link",
+                                "/api/schedules/calendar/user/link",
+                                "/api/att/stats",
+                                "/api/att/search",
+                                "/api/att/export",
+                                "/api/att/history",
+                                "/api/att/history/as-of",
+                                "/api/att/finalize/last",
+                                "/api/att/leaderboard",
+                                "/api/att/leaderboard/rank",
+                                "/api/att/grades",
+                                "/api/att/grades/rules",
+                                "/api/att/matrix/streaks",
+                                "/api/att/matrix/slots",
+                                "/api/att/matrix/footprint",
+                                "/api/att/summary",
+                                "/api/att/summary/verify",
+                                "/api/att/checkin/code",
                                 "/api/docs",
                                 "/api/mail/mail-check").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/api/att",
+                                "/api/team/members",
+                                "/api/att/bulk",
+                                "/api/att/stream",
                                 "/api/docs",
                                 "/api/auth/detail",
                                 "/api/auth").permitAll()
@@ -1,15 +1,36 @@
 package com.likelion.attserver.Controller;
 
 import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
 import com.likelion.attserver.DTO.StatusDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Exception.CustomException;
 import com.likelion.attserver.Service.Attendance.AttendanceService;
+import com.likelion.attserver.Service.CheckIn.CheckInService;
+import com.likelion.attserver.Service.Grading.GradingService;
+import com.likelion.attserver.Service.Leaderboard.LeaderboardService;
+import com.likelion.attserver.Service.Matrix.AttendanceMatrixService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +40,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class Attendance {
     private final AttendanceService attendanceService;
+    private final CheckInService checkInService;
+    private final AttendanceMatrixService matrixService;
+    private final LeaderboardService leaderboardService;
+    private final GradingService gradingService;
 
     // List 형식으로 받음으로서 한방에 여러개 가능.
     @Operation(summary = "출석 수정", description = """
@@ -28,4 +53,227 @@ public class Attendance {
     public ResponseEntity<?> updateAttendances(@RequestBody List<AttendanceDTO> attendanceDTO) {
         return ResponseEntity.ok(attendanceService.updateAttendance(attendanceDTO));
     }
+
+    @Operation(summary = "출석 일괄 수정", description = """
+            대상 출석을 한 번에 조회한 뒤 배치로 수정.
+            조회 때 받은 version을 같이 보내면 그 사이 다른 수정이 있었던 행은 CONFLICT와 현재 상태를 반환.
+            없는 ID나 충돌 행이 섞여 있어도 전체가 실패하지 않고 행별 결과(UPDATED/NOT_FOUND/CONFLICT)를 반환""")
+    @PutMapping("/bulk")
+    public ResponseEntity<?> bulkUpdateAttendances(@RequestBody List<AttendanceDTO> attendanceDTO) {
+        return ResponseEntity.ok(attendanceService.bulkUpdateAttendance(attendanceDTO));
+    }
+
+    @Operation(summary = "출석 스트리밍 수정", description = """
+            한 줄에 attendanceDTO 하나씩 NDJSON(application/x-ndjson)으로 전송.
+            정해진 크기의 청크 단위로 각각 커밋되며, 청크별 결과가 NDJSON으로 바로 응답됨.
+            마지막 줄(done=true)에 전체 처리 건수 포함""")
+    @PutMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAttendances(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> attendanceService.streamUpdateAttendance(body, out));
+    }
+
+    @Operation(summary = "출석 통계", description = """
+            유저별(users), 팀별(teams), 트랙별(tracks) PRESENT/LATE/ABSENT/NOT 건수와 점수 합계.
+            DB에서 집계된 결과만 반환""")
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats() {
+        return ResponseEntity.ok(attendanceService.getStats());
+    }
+
+    @Operation(summary = "출석 요약 조회", description = """
+            userId 또는 teamId로 유저 x 팀 단위 요약 카운터 조회.
+            출석이 바뀔 때 같이 갱신되는 값이라 집계 쿼리 없이 바로 반환""")
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(@RequestParam(required = false) Long userId,
+                                        @RequestParam(required = false) Long teamId) {
+        return ResponseEntity.ok(attendanceService.getSummary(userId, teamId));
+    }
+
+    @Operation(summary = "출석 요약 검증", description = "요약 카운터와 출석 테이블을 비교해 어긋난 항목 반환")
+    @GetMapping("/summary/verify")
+    public ResponseEntity<?> verifySummary() {
+        return ResponseEntity.ok(attendanceService.verifySummary());
+    }
+
+    @Operation(summary = "출석 요약 재구성", description = "어긋난 요약 카운터를 출석 테이블 기준으로 다시 계산")
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<?> rebuildSummary() {
+        return ResponseEntity.ok(attendanceService.rebuildSummary());
+    }
+
+    @Operation(summary = "출석 변경 이력", description = "attendanceId 한 건이 언제, 누구에 의해, 무엇에서 무엇으로 바뀌었는지 시간순으로 반환")
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory(@RequestParam Long attendanceId) {
+        return ResponseEntity.ok(attendanceService.getHistory(attendanceId));
+    }
+
+    @Operation(summary = "시점 기준 출석 상태", description = """
+            변경 이력을 처음부터 재생해서 at 시각(ISO-8601, 예: 2025-04-01T09:00:00Z) 당시 출석별 마지막 상태를 반환.
+            teamId를 주면 해당 팀만. 이력 기록 이후 한 번도 바뀌지 않은 출석은 포함되지 않음""")
+    @GetMapping("/history/as-of")
+    public ResponseEntity<?> getStateAsOf(@RequestParam Instant at,
+                                          @RequestParam(required = false) Long teamId) {
+        return ResponseEntity.ok(attendanceService.getStateAsOf(at, teamId));
+    }
+
+    @Operation(summary = "미출결 자동 마감 실행", description = """
+            스케쥴 시작 후 정해진 시간이 지나도 NOT인 출석을 지금 바로 ABSENT로 마감 (평소엔 스케줄러가 주기적으로 실행).
+            마감된 스케쥴별로 ABSENT로 바뀐 출석 ID를 반환""")
+    @PostMapping("/finalize")
+    public ResponseEntity<?> finalizeAttendances() {
+        return ResponseEntity.ok(attendanceService.finalizeAttendances());
+    }
+
+    @Operation(summary = "최근 자동 마감 결과", description = "마지막 자동 마감 실행 시각, 기준 시각, 바뀐 출석 목록")
+    @GetMapping("/finalize/last")
+    public ResponseEntity<?> getLastFinalizeRun() {
+        return ResponseEntity.ok(attendanceService.getLastFinalizeRun());
+    }
+
+    @Operation(summary = "점수 리더보드", description = """
+            출석 점수 합계 상위 limit명. teamId를 주면 팀 안에서, track을 주면 트랙 안에서, 둘 다 없으면 전체 순위.
+            동점은 같은 순위""")
+    @GetMapping("/leaderboard")
+    public ResponseEntity<?> getLeaderboard(@RequestParam(required = false) UserEntity.Track track,
+                                            @RequestParam(required = false) Long teamId,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTop(track, teamId, limit));
+    }
+
+    @Operation(summary = "내 순위", description = "userId의 점수와 순위. teamId/track으로 범위 지정 (없으면 전체)")
+    @GetMapping("/leaderboard/rank")
+    public ResponseEntity<?> getRank(@RequestParam Long userId,
+                                     @RequestParam(required = false) UserEntity.Track track,
+                                     @RequestParam(required = false) Long teamId) {
+        return ResponseEntity.ok(leaderboardService.getRank(userId, track, teamId));
+    }
+
+    @Operation(summary = "성적 조회", description = """
+            서버 기본 규칙(att.grading.rules)으로 계산한 팀원별 출석률, 점수, 통과 여부. teamId/userId로 필터링.
+            출석이 바뀌기 전까지는 계산 결과를 재사용""")
+    @GetMapping("/grades")
+    public ResponseEntity<?> getGrades(@RequestParam(required = false) Long teamId,
+                                       @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(gradingService.getGrades(null, teamId, userId));
+    }
+
+    @Operation(summary = "성적 규칙 조회", description = "기본 성적 규칙 목록")
+    @GetMapping("/grades/rules")
+    public ResponseEntity<?> getGradingRules() {
+        return ResponseEntity.ok(gradingService.getDefaultRules());
+    }
+
+    @Operation(summary = "규칙 지정 성적 계산", description = """
+            보낸 규칙 목록으로 계산. 규칙 종류:
+            LATE_TO_ABSENT(LATE n번 = ABSENT 1번), LATE_WEIGHT(LATE 1번 = 출석 n번),
+            DROP_LOWEST(점수 하위 n회 제외), FAIL_OVER_ABSENCES(ABSENT가 n회 초과면 FAIL).
+            목록 순서와 상관없이 위 순서대로 적용""")
+    @PostMapping("/grades")
+    public ResponseEntity<?> evaluateGrades(@RequestBody List<GradingRuleDTO> rules,
+                                            @RequestParam(required = false) Long teamId,
+                                            @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(gradingService.getGrades(rules, teamId, userId));
+    }
+
+    @Operation(summary = "연속 출결 조회", description = """
+            팀원별로 status(기본 ABSENT)가 연속된 최장 횟수. length 이상인 팀원만 긴 순으로 반환 (예: 3회 연속 결석자).
+            팀 출석을 메모리의 비트셋 행렬로 계산""")
+    @GetMapping("/matrix/streaks")
+    public ResponseEntity<?> getStreaks(@RequestParam Long teamId,
+                                        @RequestParam(defaultValue = "ABSENT") AttendanceEntity.Status status,
+                                        @RequestParam(defaultValue = "3") int length) {
+        return ResponseEntity.ok(matrixService.getStreaks(teamId, status, length));
+    }
+
+    @Operation(summary = "회차별 출결 인원", description = "팀 스케쥴 회차별(시작 시각 순) PRESENT/LATE/ABSENT/NOT 인원")
+    @GetMapping("/matrix/slots")
+    public ResponseEntity<?> getSlots(@RequestParam Long teamId) {
+        return ResponseEntity.ok(matrixService.getSlots(teamId));
+    }
+
+    @Operation(summary = "출석 행렬 메모리 사용량", description = "메모리에 올라와 있는 팀별 출석 행렬의 크기")
+    @GetMapping("/matrix/footprint")
+    public ResponseEntity<?> getFootprint() {
+        return ResponseEntity.ok(matrixService.getFootprint());
+    }
+
+    @Operation(summary = "체크인 코드 발급", description = """
+            강의실 화면에 띄울 scheduleId별 6자리 체크인 코드.
+            일정 주기마다 바뀌며 expiresIn초 뒤 다음 코드로 교체""")
+    @GetMapping("/checkin/code")
+    public ResponseEntity<?> getCheckInCode(@RequestParam Long scheduleId) {
+        return ResponseEntity.ok(checkInService.issueCode(scheduleId));
+    }
+
+    @Operation(summary = "학생 체크인", description = """
+            화면의 코드로 본인 출석 체크. 토큰의 학번 기준으로 반영되며
+            스케쥴 시작 후 정해진 시간이 지나면 자동으로 LATE 처리""")
+    @PostMapping("/checkin")
+    public ResponseEntity<?> checkIn(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                     @RequestParam Long scheduleId, @RequestParam String code) {
+        checkInService.checkIn(authorization.substring(7), scheduleId, code);
+        return ResponseEntity.accepted().body(StatusDTO.builder()
+                .content("체크인 접수")
+                .build());
+    }
+
+    @Operation(summary = "출석 검색", description = """
+            userId, teamId, track, status, 스케쥴 날짜 범위(from~to)로 필터링.
+            날짜/시간 순으로 size개씩 반환하며, 다음 페이지는 응답의 nextCursor를 cursor로 전달""")
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam(required = false) Long userId,
+                                    @RequestParam(required = false) Long teamId,
+                                    @RequestParam(required = false) UserEntity.Track track,
+                                    @RequestParam(required = false) AttendanceEntity.Status status,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(attendanceService.search(AttendanceSearchDTO.builder()
+                .userId(userId)
+                .teamId(teamId)
+                .track(track)
+                .status(status)
+                .from(from)
+                .to(to)
+                .cursor(cursor)
+                .size(size)
+                .build()));
+    }
+
+    @Operation(summary = "출석 내보내기", description = """
+            format=csv 또는 xlsx. teamId, 날짜 범위(from~to) 등 검색과 같은 조건으로 필터링.
+            DB에서 읽는 대로 바로 파일로 흘려보내므로 기수 전체도 내보내기 가능""")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format,
+                                                       @RequestParam(required = false) Long userId,
+                                                       @RequestParam(required = false) Long teamId,
+                                                       @RequestParam(required = false) UserEntity.Track track,
+                                                       @RequestParam(required = false) AttendanceEntity.Status status,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        boolean xlsx = format.equalsIgnoreCase("xlsx");
+        if (!xlsx && !format.equalsIgnoreCase("csv"))
+            throw new CustomException("format must be csv or xlsx", HttpStatus.BAD_REQUEST);
+        AttendanceSearchDTO condition = AttendanceSearchDTO.builder()
+                .userId(userId)
+                .teamId(teamId)
+                .track(track)
+                .status(status)
+                .from(from)
+                .to(to)
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("attendance." + format.toLowerCase())
+                        .build()
+                        .toString())
+                .contentType(xlsx
+                        ? MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                        : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(out -> attendanceService.export(condition, format, out));
+    }
 }
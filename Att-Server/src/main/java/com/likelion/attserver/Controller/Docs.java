@@ -4,9 +4,11 @@ import com.likelion.attserver.DTO.Docs.DocsDTO;
 import com.likelion.attserver.DTO.Docs.ResponseDocsDTO;
 import com.likelion.attserver.DTO.StatusDTO;
 import com.likelion.attserver.Service.Docs.DocsService;
+import com.likelion.attserver.Service.Revision.TeamRevisionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/docs")
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class Docs {
     private final DocsService docsService;
+    private final TeamRevisionService revisionService;
 
     @PostMapping
     public ResponseEntity<?> create(@RequestBody DocsDTO dto) {
@@ -21,7 +24,10 @@ public class Docs {
     }
 
     @GetMapping
-    public ResponseEntity<?> getAll() {
+    public ResponseEntity<?> getAll(WebRequest request) {
+        // 문서 쓰기도 팀 버전을 올리므로 전체 버전이 같으면 바뀐 게 없음
+        if (request.checkNotModified(revisionService.getAllTag()))
+            return null;
         return ResponseEntity.ok(docsService.getAll());
     }
 
@@ -1,14 +1,25 @@
 package com.likelion.attserver.Controller;
 
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
 import com.likelion.attserver.DTO.SchedulesDTO;
 import com.likelion.attserver.DTO.StatusDTO;
+import com.likelion.attserver.Service.Calendar.CalendarService;
+import com.likelion.attserver.Service.Revision.TeamRevisionService;
 import com.likelion.attserver.Service.Schedules.SchedulesService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,9 +28,15 @@ import java.util.List;
 @Tag(name = "스케쥴 API", description = "스케쥴 생성, 삭제 등 스케쥴 관련 API")
 @RequiredArgsConstructor
 public class Schedules {
+    private static final MediaType CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     private final SchedulesService schedulesService;
+    private final TeamRevisionService revisionService;
+    private final CalendarService calendarService;
 
-    @Operation(summary = "스케쥴 생성", description = "teamId와 scheduleDTO로 스케쥴 생성")
+    @Operation(summary = "스케쥴 생성", description = """
+            teamId와 scheduleDTO로 스케쥴 생성. duration(분, 기본 60)과 resources(강의실/멘토 태그)를 줄 수 있고,
+            다른 팀 포함 같은 자원을 쓰는 스케쥴과 시간이 겹치면 거절""")
     @PostMapping
     public ResponseEntity<?> createSchedule(@RequestParam Long teamId, @RequestBody List<SchedulesDTO> schedule) {
         schedulesService.createSchedule(teamId, schedule);
@@ -28,16 +45,115 @@ public class Schedules {
                 .build());
     }
 
-    @Operation(summary = "스케쥴 조회", description = "teamId와 연관된 모든 스케쥴 조회")
+    @Operation(summary = "반복 스케쥴 생성", description = """
+            from~to 사이 days 요일(MONDAY~SUNDAY)마다 time에 스케쥴 생성. except 날짜는 건너뜀.
+            teamIds가 비어 있으면 전체 팀. 이미 같은 날짜/시간 스케쥴이 있는 칸은 건너뛰고 개수만 반환.
+            resources가 있으면 같은 자원과 시간이 겹치는 회차도 만들지 않고 conflicts로 반환""")
+    @PostMapping("/recurring")
+    public ResponseEntity<?> createRecurringSchedules(@RequestBody RecurringScheduleDTO request) {
+        return ResponseEntity.ok(schedulesService.createRecurringSchedules(request));
+    }
+
+    @Operation(summary = "스케쥴 조회", description = """
+            teamId의 스케쥴을 날짜/시간 순으로 조회.
+            from~to(yyyy-MM-dd)로 날짜 범위, upcoming=true면 아직 시작 안 한 스케쥴만, limit으로 앞에서부터 개수 제한.
+            조건이 없으면 전체.
+            ETag를 If-None-Match로 보내면 팀이 그 사이 바뀌지 않았을 때 본문 없이 304 (upcoming=true는 제외)""")
     @GetMapping
-    public ResponseEntity<?> getSchedules(@RequestParam Long teamId) {
-        return ResponseEntity.ok(schedulesService.getSchedules(teamId));
+    public ResponseEntity<?> getSchedules(@RequestParam Long teamId,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                          @RequestParam(defaultValue = "false") boolean upcoming,
+                                          @RequestParam(required = false) Integer limit,
+                                          WebRequest request) {
+        // upcoming은 시간이 지나면 결과가 바뀌므로 버전만으로 판단할 수 없음
+        if (!upcoming && request.checkNotModified(revisionService.getTeamTag(teamId)))
+            return null;
+        return ResponseEntity.ok(schedulesService.getSchedules(teamId, from, to, upcoming, limit));
     }
 
-    @Operation(summary = "스케쥴 전체 조회", description = "모든 스케쥴 조회")
+    @Operation(summary = "스케쥴 전체 조회", description = """
+            모든 팀의 스케쥴을 {팀 ID: [스케쥴...]} 형태로 조회.
+            DB에서 읽는 대로 바로 JSON으로 흘려보내므로 전체 크기와 상관없이 서버 메모리가 일정함.
+            ETag를 If-None-Match로 보내면 어느 팀도 바뀌지 않았을 때 본문 없이 304""")
     @GetMapping("/all")
-    public ResponseEntity<?> getAllSchedules() {
-        return ResponseEntity.ok(schedulesService.getAllSchedules());
+    public ResponseEntity<StreamingResponseBody> getAllSchedules(WebRequest request) {
+        if (request.checkNotModified(revisionService.getAllTag()))
+            return null;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(schedulesService::writeAllSchedules);
+    }
+
+    @Operation(summary = "팀 변경 구독", description = """
+            teamId 팀의 변경을 SSE(text/event-stream)로 받음.
+            ATTENDANCE(바뀐 출석 포함), SCHEDULE, TEAM 이벤트가 커밋 직후 전송되고, 주기적으로 ping 주석이 옴.
+            브라우저 EventSource처럼 헤더를 못 붙이면 구독 토큰 발급 API로 받은 값을 token 쿼리로 보냄""")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam Long teamId) {
+        return schedulesService.subscribe(teamId);
+    }
+
+    @Operation(summary = "전체 팀 변경 구독", description = "모든 팀의 변경을 SSE로 받음. 관리자만. 이벤트 형식과 token 쿼리는 팀 변경 구독과 같음")
+    @GetMapping(value = "/events/all", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAll() {
+        return schedulesService.subscribe(null);
+    }
+
+    @Operation(summary = "구독 토큰 발급", description = """
+            SSE 구독 URL에 token 쿼리로 붙일 짧은 토큰 (기본 60초). 구독 두 경로에서만 쓸 수 있고,
+            연결이 끊겨 다시 붙을 때는 새로 발급받아 연결""")
+    @GetMapping("/events/token")
+    public ResponseEntity<?> getEventsToken(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        return ResponseEntity.ok(StatusDTO.builder()
+                .content(schedulesService.issueEventsToken(authorization.substring(7)))
+                .build());
+    }
+
+    @Operation(summary = "팀 캘린더 피드", description = """
+            teamId 팀의 스케쥴을 iCalendar(.ics)로 조회. 캘린더 앱에서 구독용으로 씀.
+            캘린더 앱은 헤더를 못 붙이므로 피드 주소 발급 API로 받은 token 쿼리로도 인증됨.
+            스케쥴이나 팀 이름이 바뀌었을 때만 다시 만들고, ETag를 If-None-Match로 보내면 DB 조회 없이 304""")
+    @GetMapping("/calendar")
+    public ResponseEntity<byte[]> getTeamCalendar(@RequestParam Long teamId, WebRequest request) {
+        if (request.checkNotModified(calendarService.getTeamTag(teamId)))
+            return null;
+        return calendar("team-" + teamId, calendarService.getTeamFeed(teamId));
+    }
+
+    @Operation(summary = "학생 캘린더 피드", description = """
+            userId 학생이 속한 팀의 스케쥴을 iCalendar(.ics)로 조회. 팀을 옮기면 피드도 따라감.
+            팀 캘린더 피드처럼 발급받은 token 쿼리로도 인증됨.
+            ETag를 If-None-Match로 보내면 팀 구성과 스케쥴이 그대로일 때 DB 조회 없이 304""")
+    @GetMapping("/calendar/user")
+    public ResponseEntity<byte[]> getUserCalendar(@RequestParam Long userId, WebRequest request) {
+        if (request.checkNotModified(calendarService.getUserTag(userId)))
+            return null;
+        return calendar("user-" + userId, calendarService.getUserFeed(userId));
+    }
+
+    @Operation(summary = "팀 캘린더 피드 주소 발급", description = "캘린더 앱에 등록할 teamId 팀 피드 주소 (서명 token 포함)")
+    @GetMapping("/calendar/link")
+    public ResponseEntity<?> getTeamCalendarLink(@RequestParam Long teamId) {
+        return ResponseEntity.ok(StatusDTO.builder()
+                .content(calendarService.getTeamLink(teamId))
+                .build());
+    }
+
+    @Operation(summary = "학생 캘린더 피드 주소 발급", description = "캘린더 앱에 등록할 userId 학생 피드 주소 (서명 token 포함). 본인 또는 관리자만")
+    @GetMapping("/calendar/user/link")
+    public ResponseEntity<?> getUserCalendarLink(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                                 @RequestParam Long userId) {
+        return ResponseEntity.ok(StatusDTO.builder()
+                .content(calendarService.getUserLink(authorization.substring(7), userId))
+                .build());
+    }
+
+    private static ResponseEntity<byte[]> calendar(String name, byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + name + ".ics\"")
+                .body(body);
     }
 
     @Operation(summary = "스케쥴 삭제", description = "teamId와 schedule의 Id로 해당 스케쥴 삭제")
@@ -2,12 +2,14 @@ package com.likelion.attserver.Controller;
 
 import com.likelion.attserver.DTO.StatusDTO;
 import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.Service.Revision.TeamRevisionService;
 import com.likelion.attserver.Service.Team.TeamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class Team {
     private final TeamService teamService;
+    private final TeamRevisionService revisionService;
 
     // 새로 생성 가능 / teamId 맞춰서 추가 인원 보내면 기존 팀에 팀원 추가 가능
     // 이미 있는 인원이 오면 팀원 목록에서 삭제
@@ -30,17 +33,31 @@ public class Team {
         return ResponseEntity.ok(teamService.createTeam(teamId, note, teamData));
     }
 
+    // 보낸 목록이 그대로 팀원이 되도록 추가/삭제를 한 번에 반영
+    @Operation(summary = "팀원 일괄 설정", description = """
+            teamId의 팀원을 body의 학번 목록으로 맞춤.
+            목록에 없던 팀원은 빠지고(출석 삭제), 새 학번은 추가(기존 스케쥴에 출석 생성).
+            바뀐 학번과 만들거나 지운 출석 수를 반환""")
+    @PutMapping("/members")
+    public ResponseEntity<?> setMembers(@RequestParam Long teamId, @RequestBody List<Long> members) {
+        return ResponseEntity.ok(teamService.setMembers(teamId, members));
+    }
+
     // 특정 조 조회
-    @Operation(summary = "팀 조회", description = "teamId로 팀 조회")
+    @Operation(summary = "팀 조회", description = "teamId로 팀 조회. ETag가 같으면(If-None-Match) 304")
     @GetMapping
-    public ResponseEntity<?> getTeam(@RequestParam Long teamId) {
+    public ResponseEntity<?> getTeam(@RequestParam Long teamId, WebRequest request) {
+        if (request.checkNotModified(revisionService.getTeamTag(teamId)))
+            return null;
         return ResponseEntity.ok(teamService.getTeam(teamId));
     }
 
     // 전체 조 조회
-    @Operation(summary = "전체 팀 조회", description = "모든 팀을 조회")
+    @Operation(summary = "전체 팀 조회", description = "모든 팀을 조회. ETag가 같으면(If-None-Match) 304")
     @GetMapping("/all")
-    public ResponseEntity<?> getAllTeam() {
+    public ResponseEntity<?> getAllTeam(WebRequest request) {
+        if (request.checkNotModified(revisionService.getAllTag()))
+            return null;
         return ResponseEntity.ok(teamService.getAllTeam());
     }
 
@@ -1,13 +1,29 @@
 package com.likelion.attserver.DAO.Attendance;
 
 import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendancePageDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.AttendanceSearchRowDTO;
+import com.likelion.attserver.DTO.CheckInDTO;
+import com.likelion.attserver.DTO.FinalizedScheduleDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceStatsDTO;
 import com.likelion.attserver.Entity.AttendanceEntity;
 import com.likelion.attserver.Entity.UserEntity;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AttendanceDAO {
-    List<AttendanceEntity> addAttendances(List<UserEntity> users);
-    AttendanceEntity addAttendance(UserEntity user);
+    List<AttendanceEntity> addAttendances(Long teamId, List<UserEntity> users);
     List<AttendanceDTO> updateAttendance(List<AttendanceDTO> attendances);
+    List<AttendanceResultDTO> bulkUpdateAttendance(List<AttendanceDTO> attendances);
+    LinkedHashMap<String, List<AttendanceStatsDTO>> getStats();
+    List<AttendanceResultDTO> applyCheckIns(List<CheckInDTO> checkIns, Duration lateAfter);
+    AttendancePageDTO search(AttendanceSearchDTO condition);
+    List<FinalizedScheduleDTO> finalizeSchedules(LocalDateTime cutoff, int batchSize);
+    void exportAttendances(AttendanceSearchDTO condition, int fetchSize, Consumer<AttendanceSearchRowDTO> sink);
 }
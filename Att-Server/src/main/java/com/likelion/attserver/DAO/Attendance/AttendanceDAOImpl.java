@@ -1,56 +1,596 @@
 package com.likelion.attserver.DAO.Attendance;
 
+import com.likelion.attserver.ChangeLog.AttendanceChangeLog;
+import com.likelion.attserver.DAO.Batch.BatchInsertDAO;
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
+import com.likelion.attserver.DAO.Summary.SummaryDelta;
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
 import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendancePageDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.AttendanceSearchRowDTO;
+import com.likelion.attserver.DTO.AttendanceSlotDTO;
+import com.likelion.attserver.DTO.AttendanceTeamDTO;
+import com.likelion.attserver.DTO.CheckInDTO;
+import com.likelion.attserver.DTO.CheckInTargetDTO;
+import com.likelion.attserver.DTO.FinalizeTargetDTO;
+import com.likelion.attserver.DTO.FinalizedScheduleDTO;
+import com.likelion.attserver.DTO.ScheduleTeamDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceStatsDTO;
+import com.likelion.attserver.DTO.Stats.MemberCountDTO;
+import com.likelion.attserver.DTO.Stats.StatsRowDTO;
+import com.likelion.attserver.DTO.TeamMemberDTO;
 import com.likelion.attserver.Entity.AttendanceEntity;
 import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Event.AttendanceChangedEvent;
 import com.likelion.attserver.Exception.CustomException;
 import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.SchedulesRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
 public class AttendanceDAOImpl implements AttendanceDAO {
+    // 검색 결과와 같은 (날짜, 시간, 스케쥴, 학번) 순서. 행이 있는 칸과 없는 칸을 합칠 때 씀
+    private static final Comparator<AttendanceSearchRowDTO> SEARCH_ORDER = Comparator
+            .comparing(AttendanceSearchRowDTO::getDate)
+            .thenComparing(AttendanceSearchRowDTO::getTime)
+            .thenComparing(AttendanceSearchRowDTO::getScheduleId)
+            .thenComparing(AttendanceSearchRowDTO::getUserId);
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
     private final AttendanceRepository attendanceRepository;
+    private final SchedulesRepository schedulesRepository;
+    private final TeamRepository teamRepository;
+    private final BatchInsertDAO batchInsertDAO;
+    private final AttendanceSummaryDAO summaryDAO;
+    private final EntityManager entityManager;
+    private final AttendanceChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 희소 모드: 스케쥴 생성/팀원 추가 때 NOT 행을 미리 만들지 않고, 행이 없는 (스케쥴, 팀원) 칸은 NOT으로 봄.
+    // 행은 처음 출결이 표시될 때(수정, 체크인, 마감) 만들어지고, 조회와 통계는 빠진 칸을 NOT으로 채워서 반환
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
 
     @Override
-    public List<AttendanceEntity> addAttendances(List<UserEntity> users) {
+    public List<AttendanceEntity> addAttendances(Long teamId, List<UserEntity> users) {
         List<AttendanceEntity> attendances = new ArrayList<>();
+        if (sparse) return attendances;
+        SummaryDelta delta = new SummaryDelta();
         for(UserEntity user : users) {
             AttendanceEntity attendance = new AttendanceEntity();
             attendance.setUser(user);
             attendance.setStatus(AttendanceEntity.Status.NOT);
             attendances.add(attendance);
+            delta.add(teamId, user.getId(), AttendanceEntity.Status.NOT, null);
         }
+        summaryDAO.apply(delta);
         return attendances;
     }
 
     @Override
-    public AttendanceEntity addAttendance(UserEntity user) {
-        return AttendanceEntity.builder()
-                .user(user)
-                .status(AttendanceEntity.Status.NOT)
-                .build();
+    public List<AttendanceDTO> updateAttendance(List<AttendanceDTO> attendances) {
+        attendances = resolveCells(attendances);
+        Map<Long, AttendanceEntity> entities = findAttendances(attendances);
+        Map<Long, Long> teamIds = findTeamIds(entities.keySet());
+        SummaryDelta delta = new SummaryDelta();
+        ChangeRecorder changes = new ChangeRecorder(changeLog.currentActor());
+        List<AttendanceEntity> updated = new ArrayList<>();
+        for(AttendanceDTO attendance : attendances) {
+            AttendanceEntity attendanceEntity = entities.get(attendance.getId());
+            if (attendanceEntity == null)
+                throw new CustomException("Invalid attendance ID", HttpStatus.BAD_REQUEST);
+            if (isStale(attendanceEntity, attendance))
+                throw new CustomException("Attendance " + attendance.getId() + " was modified by someone else", HttpStatus.CONFLICT);
+            applyAttendance(attendanceEntity, attendance, teamIds.get(attendanceEntity.getId()), delta, changes);
+            updated.add(attendanceEntity);
+        }
+        summaryDAO.apply(delta);
+        // 바뀐 버전을 응답에 담기 위해 여기서 flush
+        attendanceRepository.flush();
+        recordChanges(changes.complete());
+        return updated.stream().map(AttendanceEntity::toDTO).toList();
     }
 
     @Override
-    public List<AttendanceDTO> updateAttendance(List<AttendanceDTO> attendances) {
-        List<AttendanceDTO> updatedAttendances = new ArrayList<>();
+    public List<AttendanceResultDTO> bulkUpdateAttendance(List<AttendanceDTO> attendances) {
+        attendances = resolveCells(attendances);
+        Map<Long, AttendanceEntity> entities = findAttendances(attendances);
+        Map<Long, Long> teamIds = findTeamIds(entities.keySet());
+        SummaryDelta delta = new SummaryDelta();
+        ChangeRecorder changes = new ChangeRecorder(changeLog.currentActor());
+        List<AttendanceResultDTO> results = new ArrayList<>(attendances.size());
+        List<AttendanceEntity> targets = new ArrayList<>(attendances.size());
         for(AttendanceDTO attendance : attendances) {
-            AttendanceEntity attendanceEntity = attendanceRepository.findById(attendance.getId())
-                    .orElseThrow(() -> new CustomException("Invalid attendance ID", HttpStatus.BAD_REQUEST));
-            attendanceEntity.setStatus(attendance.getStatus());
-            attendanceEntity.setNote(attendance.getNote());
-            attendanceEntity.setScore(attendance.getScore());
-            attendanceRepository.save(attendanceEntity);
-            updatedAttendances.add(AttendanceEntity.toDTO(attendanceEntity));
-        }
-        return updatedAttendances;
+            AttendanceEntity attendanceEntity = entities.get(attendance.getId());
+            AttendanceResultDTO.Result result;
+            // 없는 ID나 버전 충돌은 전체를 실패시키지 않고 해당 행만 결과에 표시
+            if (attendanceEntity == null) {
+                result = AttendanceResultDTO.Result.NOT_FOUND;
+            } else if (isStale(attendanceEntity, attendance)) {
+                result = AttendanceResultDTO.Result.CONFLICT;
+            } else {
+                applyAttendance(attendanceEntity, attendance, teamIds.get(attendanceEntity.getId()), delta, changes);
+                result = AttendanceResultDTO.Result.UPDATED;
+            }
+            results.add(AttendanceResultDTO.builder()
+                    .id(attendance.getId())
+                    .result(result)
+                    .build());
+            targets.add(attendanceEntity);
+        }
+        summaryDAO.apply(delta);
+        // UPDATE ... WHERE version = ? 가 JDBC 배치로 나감. 그 사이 다른 커밋이 있으면 예외로 전체 롤백
+        attendanceRepository.flush();
+        recordChanges(changes.complete());
+
+        // flush 후의 버전(충돌 행은 현재 상태)을 결과에 채움
+        for (int i = 0; i < results.size(); i++) {
+            if (targets.get(i) != null)
+                results.get(i).setAttendance(AttendanceEntity.toDTO(targets.get(i)));
+        }
+        return results;
+    }
+
+    // 버퍼에 모인 체크인을 한 번의 조회와 한 번의 배치 수정으로 반영.
+    // 아직 미출결(NOT)인 행만 대상이라 관리자가 이미 표시한 출결은 덮어쓰지 않음.
+    // 희소 모드면 행이 없는 팀원 칸에 NOT 행을 먼저 만들어서 아래 조회에 걸리게 함
+    @Override
+    public List<AttendanceResultDTO> applyCheckIns(List<CheckInDTO> checkIns, Duration lateAfter) {
+        if (checkIns.isEmpty()) return List.of();
+        Map<Long, Set<Long>> cells = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        for (CheckInDTO checkIn : checkIns) {
+            cells.computeIfAbsent(checkIn.getScheduleId(), id -> new HashSet<>()).add(checkIn.getUserId());
+            userIds.add(checkIn.getUserId());
+        }
+        Set<Long> scheduleIds = cells.keySet();
+        if (sparse) materialize(cells, AttendanceEntity.Status.NOT);
+
+        Map<Long, Map<Long, CheckInTargetDTO>> targets = new HashMap<>();
+        for (CheckInTargetDTO target : attendanceRepository.findCheckInTargets(scheduleIds, userIds, AttendanceEntity.Status.NOT))
+            targets.computeIfAbsent(target.getScheduleId(), id -> new HashMap<>()).put(target.getUserId(), target);
+
+        List<AttendanceDTO> updates = new ArrayList<>();
+        for (CheckInDTO checkIn : checkIns) {
+            CheckInTargetDTO target = targets.getOrDefault(checkIn.getScheduleId(), Map.of()).get(checkIn.getUserId());
+            if (target == null) continue;
+            LocalDateTime start = LocalDateTime.of(target.getDate(), target.getTime());
+            updates.add(AttendanceDTO.builder()
+                    .id(target.getAttendanceId())
+                    .status(checkIn.getCheckedAt().isAfter(start.plus(lateAfter))
+                            ? AttendanceEntity.Status.LATE
+                            : AttendanceEntity.Status.PRESENT)
+                    .note(target.getNote())
+                    .score(target.getScore())
+                    .version(target.getVersion())
+                    .build());
+        }
+        return bulkUpdateAttendance(updates);
+    }
+
+    // cutoff 이전에 시작했는데 아직 마감 안 된 스케쥴을 batchSize개 골라
+    // 남은 NOT 행을 한 번의 UPDATE로 ABSENT 처리하고 스케쥴을 마감 표시.
+    // 시간 구간이 아니라 마감 여부로 고르므로 서버가 꺼져 있던 동안 밀린 스케쥴도 다음 실행 때 처리됨
+    @Override
+    public List<FinalizedScheduleDTO> finalizeSchedules(LocalDateTime cutoff, int batchSize) {
+        List<FinalizedScheduleDTO> schedules = schedulesRepository.findFinalizeTargets(
+                cutoff.toLocalDate(), cutoff.toLocalTime(), PageRequest.of(0, batchSize));
+        if (schedules.isEmpty()) return schedules;
+
+        Map<Long, FinalizedScheduleDTO> byId = schedules.stream()
+                .collect(Collectors.toMap(FinalizedScheduleDTO::getScheduleId, Function.identity()));
+        Instant changedAt = Instant.now();
+        List<AttendanceChangeDTO> changes = new ArrayList<>();
+        if (sparse) {
+            // 행이 없는 팀원 칸은 바로 ABSENT 행으로 만듦 (체크인과 같이 스케쥴을 먼저 잠그는 순서)
+            Map<Long, Set<Long>> everyone = new HashMap<>();
+            byId.keySet().forEach(id -> everyone.put(id, null));
+            for (AttendanceSlotDTO slot : materialize(everyone, AttendanceEntity.Status.ABSENT).created) {
+                byId.get(slot.getScheduleId()).getAbsentAttendanceIds().add(slot.getAttendanceId());
+                changes.add(AttendanceChangeDTO.builder()
+                        .changedAt(changedAt)
+                        .attendanceId(slot.getAttendanceId())
+                        .userId(slot.getUserId())
+                        .teamId(slot.getTeamId())
+                        .oldStatus(AttendanceEntity.Status.NOT)
+                        .newStatus(AttendanceEntity.Status.ABSENT)
+                        .version(0L)
+                        .build());
+            }
+        }
+        List<FinalizeTargetDTO> targets = attendanceRepository.findFinalizeTargets(byId.keySet(), AttendanceEntity.Status.NOT);
+
+        if (!targets.isEmpty()) {
+            SummaryDelta delta = new SummaryDelta();
+            List<Long> ids = new ArrayList<>(targets.size());
+            for (FinalizeTargetDTO target : targets) {
+                ids.add(target.getAttendanceId());
+                byId.get(target.getScheduleId()).getAbsentAttendanceIds().add(target.getAttendanceId());
+                delta.remove(target.getTeamId(), target.getUserId(), AttendanceEntity.Status.NOT, target.getScore());
+                delta.add(target.getTeamId(), target.getUserId(), AttendanceEntity.Status.ABSENT, target.getScore());
+                changes.add(AttendanceChangeDTO.builder()
+                        .changedAt(changedAt)
+                        .attendanceId(target.getAttendanceId())
+                        .userId(target.getUserId())
+                        .teamId(target.getTeamId())
+                        .oldStatus(AttendanceEntity.Status.NOT)
+                        .newStatus(AttendanceEntity.Status.ABSENT)
+                        .oldScore(target.getScore())
+                        .newScore(target.getScore())
+                        .version(target.getVersion() + 1)
+                        .note(target.getNote())
+                        .build());
+            }
+            attendanceRepository.updateStatus(ids, AttendanceEntity.Status.NOT, AttendanceEntity.Status.ABSENT);
+            summaryDAO.apply(delta);
+        }
+        if (!changes.isEmpty())
+            recordChanges(changes);
+        schedulesRepository.markFinalized(byId.keySet());
+        return schedules;
+    }
+
+    // 희소 모드에서 ID 없이 (scheduleId, 학번)으로 온 칸은 행을 만들어 ID를 채운 사본으로 바꿈.
+    // 충돌 재시도 때 같은 요청이 다시 들어오므로 입력 DTO는 건드리지 않음. 팀원이 아니면 ID 없이 남아 없는 출석으로 처리됨
+    private List<AttendanceDTO> resolveCells(List<AttendanceDTO> attendances) {
+        if (!sparse) return attendances;
+        Map<Long, Set<Long>> cells = new HashMap<>();
+        for (AttendanceDTO attendance : attendances) {
+            if (isCell(attendance))
+                cells.computeIfAbsent(attendance.getScheduleId(), id -> new HashSet<>()).add(attendance.getUser().getStudentId());
+        }
+        if (cells.isEmpty()) return attendances;
+        Map<Cell, AttendanceSlotDTO> slots = materialize(cells, AttendanceEntity.Status.NOT).slots;
+        List<AttendanceDTO> resolved = new ArrayList<>(attendances.size());
+        for (AttendanceDTO attendance : attendances) {
+            AttendanceSlotDTO slot = isCell(attendance)
+                    ? slots.get(new Cell(attendance.getScheduleId(), attendance.getUser().getStudentId()))
+                    : null;
+            if (slot == null) {
+                resolved.add(attendance);
+                continue;
+            }
+            resolved.add(AttendanceDTO.builder()
+                    .id(slot.getAttendanceId())
+                    .scheduleId(attendance.getScheduleId())
+                    .user(attendance.getUser())
+                    .status(attendance.getStatus())
+                    .note(attendance.getNote())
+                    .score(attendance.getScore())
+                    .version(attendance.getVersion())
+                    .build());
+        }
+        return resolved;
+    }
+
+    private static boolean isCell(AttendanceDTO attendance) {
+        return attendance.getId() == null && attendance.getScheduleId() != null
+                && attendance.getUser() != null && attendance.getUser().getStudentId() != null;
+    }
+
+    // 스케쥴별로 주어진 팀원 칸(null이면 팀원 전체) 중 행이 없는 칸에 status 행을 배치 INSERT로 만듦.
+    // 스케쥴 행을 먼저 잠그므로 같은 칸을 동시에 만들려는 트랜잭션은 기다렸다가 먼저 만들어진 행을 봄
+    private Materialized materialize(Map<Long, Set<Long>> users, AttendanceEntity.Status status) {
+        Materialized result = new Materialized();
+        if (schedulesRepository.lockSchedules(users.keySet()).isEmpty()) return result;
+        List<ScheduleTeamDTO> schedules = schedulesRepository.findTeamsOf(users.keySet());
+        Map<Long, Long> teamOf = schedules.stream()
+                .collect(Collectors.toMap(ScheduleTeamDTO::getScheduleId, ScheduleTeamDTO::getTeamId));
+        for (AttendanceSlotDTO slot : attendanceRepository.lockSlots(users.keySet())) {
+            slot.setTeamId(teamOf.get(slot.getScheduleId()));
+            result.slots.put(new Cell(slot.getScheduleId(), slot.getUserId()), slot);
+        }
+        Map<Long, List<Long>> members = new HashMap<>();
+        Set<Long> teamIds = schedules.stream().map(ScheduleTeamDTO::getTeamId).collect(Collectors.toSet());
+        for (TeamMemberDTO member : teamRepository.findMembers(teamIds))
+            members.computeIfAbsent(member.getTeamId(), id -> new ArrayList<>()).add(member.getUserId());
+
+        List<AttendanceSlotDTO> missing = new ArrayList<>();
+        for (ScheduleTeamDTO schedule : schedules) {
+            Set<Long> wanted = users.get(schedule.getScheduleId());
+            for (Long userId : members.getOrDefault(schedule.getTeamId(), List.of())) {
+                if ((wanted == null || wanted.contains(userId))
+                        && !result.slots.containsKey(new Cell(schedule.getScheduleId(), userId)))
+                    missing.add(new AttendanceSlotDTO(schedule.getScheduleId(), schedule.getTeamId(), userId, null));
+            }
+        }
+        if (missing.isEmpty()) return result;
+
+        List<Long> ids = batchInsertDAO.insertReturningIds(
+                "insert into attendance (user_id, status, version) values (?, ?, 0)",
+                missing.size(), (ps, i) -> {
+                    ps.setLong(1, missing.get(i).getUserId());
+                    ps.setString(2, status.name());
+                });
+        batchInsertDAO.insert("insert into schedules_attendances (schedules_entity_id, attendances_id) values (?, ?)",
+                missing.size(), (ps, i) -> {
+                    ps.setLong(1, missing.get(i).getScheduleId());
+                    ps.setLong(2, ids.get(i));
+                });
+        SummaryDelta delta = new SummaryDelta();
+        for (int i = 0; i < missing.size(); i++) {
+            AttendanceSlotDTO slot = missing.get(i);
+            slot.setAttendanceId(ids.get(i));
+            result.slots.put(new Cell(slot.getScheduleId(), slot.getUserId()), slot);
+            result.created.add(slot);
+            delta.add(slot.getTeamId(), slot.getUserId(), status, null);
+        }
+        summaryDAO.apply(delta);
+        return result;
+    }
+
+    // 주어진 조건만 WHERE에 넣고 (date, time, 스케쥴 ID, 학번) 순 keyset으로 페이지를 자름.
+    // OFFSET 없이 이전 페이지 마지막 행 다음부터 읽으므로 뒤 페이지도 인덱스 범위 조회로 끝남.
+    // 희소 모드에서 NOT 칸을 찾으면 행이 없는 칸을 같은 순서로 따로 읽어 합침
+    @Override
+    public AttendancePageDTO search(AttendanceSearchDTO condition) {
+        // 한 행 더 읽어서 다음 페이지 존재 여부 판단
+        List<AttendanceSearchRowDTO> rows = searchQuery(condition, false)
+                .setMaxResults(condition.getSize() + 1)
+                .getResultList();
+        if (includesImplicit(condition)) {
+            List<AttendanceSearchRowDTO> merged = new ArrayList<>(rows);
+            merged.addAll(searchQuery(condition, true)
+                    .setMaxResults(condition.getSize() + 1)
+                    .getResultList());
+            merged.sort(SEARCH_ORDER);
+            rows = merged.subList(0, Math.min(merged.size(), condition.getSize() + 1));
+        }
+
+        String nextCursor = null;
+        if (rows.size() > condition.getSize()) {
+            rows = rows.subList(0, condition.getSize());
+            AttendanceSearchRowDTO last = rows.get(rows.size() - 1);
+            nextCursor = encodeCursor(last.getDate(), last.getTime(), last.getScheduleId(), last.getUserId());
+        }
+        return AttendancePageDTO.builder()
+                .items(new ArrayList<>(rows))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private boolean includesImplicit(AttendanceSearchDTO condition) {
+        return sparse && (condition.getStatus() == null || condition.getStatus() == AttendanceEntity.Status.NOT);
+    }
+
+    // implicit이면 출석 행 대신 행이 없는 (스케쥴, 팀원) 칸을 NOT으로 읽음
+    private TypedQuery<AttendanceSearchRowDTO> searchQuery(AttendanceSearchDTO condition, boolean implicit) {
+        StringBuilder jpql = new StringBuilder(implicit
+                ? "select new com.likelion.attserver.DTO.AttendanceSearchRowDTO(" +
+                        "s.id, t.id, s.date, s.time, u.id, u.name, u.track) " +
+                        "from TeamEntity t join t.schedules s join t.users u " +
+                        "where not exists (select r.id from SchedulesEntity s2 join s2.attendances r where s2 = s and r.user = u)"
+                : "select new com.likelion.attserver.DTO.AttendanceSearchRowDTO(" +
+                        "a.id, s.id, t.id, s.date, s.time, u.id, u.name, u.track, a.status, a.note, a.score, a.version) " +
+                        "from TeamEntity t join t.schedules s join s.attendances a join a.user u where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        if (condition.getUserId() != null) {
+            jpql.append(" and u.id = :userId");
+            params.put("userId", condition.getUserId());
+        }
+        if (condition.getTeamId() != null) {
+            jpql.append(" and t.id = :teamId");
+            params.put("teamId", condition.getTeamId());
+        }
+        if (condition.getTrack() != null) {
+            jpql.append(" and u.track = :track");
+            params.put("track", condition.getTrack());
+        }
+        if (condition.getStatus() != null && !implicit) {
+            jpql.append(" and a.status = :status");
+            params.put("status", condition.getStatus());
+        }
+        if (condition.getFrom() != null) {
+            jpql.append(" and s.date >= :from");
+            params.put("from", condition.getFrom());
+        }
+        if (condition.getTo() != null) {
+            jpql.append(" and s.date <= :to");
+            params.put("to", condition.getTo());
+        }
+        if (condition.getCursor() != null) {
+            String[] cursor = decodeCursor(condition.getCursor());
+            jpql.append(" and (s.date > :cDate or (s.date = :cDate and (s.time > :cTime or (s.time = :cTime and " +
+                    "(s.id > :cSchedule or (s.id = :cSchedule and u.id > :cUser))))))");
+            params.put("cDate", LocalDate.parse(cursor[0]));
+            params.put("cTime", LocalTime.parse(cursor[1]));
+            params.put("cSchedule", Long.parseLong(cursor[2]));
+            params.put("cUser", Long.parseLong(cursor[3]));
+        }
+        jpql.append(" order by s.date, s.time, s.id, u.id");
+
+        TypedQuery<AttendanceSearchRowDTO> query = entityManager.createQuery(jpql.toString(), AttendanceSearchRowDTO.class);
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    // 같은 조건의 전체 결과를 forward-only 커서로 한 행씩 넘김.
+    // 엔티티가 아닌 DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않아 메모리가 일정함.
+    // 행이 없는 칸까지 합쳐야 하면 한 연결에 스트리밍 커서를 둘 열 수 없어서 keyset 페이지로 나눠 읽음
+    @Override
+    public void exportAttendances(AttendanceSearchDTO condition, int fetchSize, Consumer<AttendanceSearchRowDTO> sink) {
+        if (includesImplicit(condition)) {
+            AttendanceSearchDTO page = AttendanceSearchDTO.builder()
+                    .userId(condition.getUserId())
+                    .teamId(condition.getTeamId())
+                    .track(condition.getTrack())
+                    .status(condition.getStatus())
+                    .from(condition.getFrom())
+                    .to(condition.getTo())
+                    .cursor(condition.getCursor())
+                    .size(EXPORT_PAGE_SIZE)
+                    .build();
+            do {
+                AttendancePageDTO rows = search(page);
+                rows.getItems().forEach(sink);
+                page.setCursor(rows.getNextCursor());
+            } while (page.getCursor() != null);
+            return;
+        }
+        try (Stream<AttendanceSearchRowDTO> rows = searchQuery(condition, false)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(sink);
+        }
+    }
+
+    private static String encodeCursor(LocalDate date, LocalTime time, Long scheduleId, Long userId) {
+        String raw = date + "_" + time + "_" + scheduleId + "_" + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+            if (parts.length != 4) throw new IllegalArgumentException();
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // 집계는 DB에서 GROUP BY로 끝내고, 상태별 행만 key 단위로 접어서 반환.
+    // 희소 모드면 팀원별 (스케쥴 수 - 행 수)만큼 NOT을 더함
+    @Override
+    public LinkedHashMap<String, List<AttendanceStatsDTO>> getStats() {
+        List<StatsRowDTO> users = new ArrayList<>(attendanceRepository.countByUserAndStatus());
+        List<StatsRowDTO> teams = new ArrayList<>(attendanceRepository.countByTeamAndStatus());
+        List<StatsRowDTO> tracks = new ArrayList<>(attendanceRepository.countByTrackAndStatus());
+        if (sparse) {
+            for (MemberCountDTO member : attendanceRepository.findMemberCounts()) {
+                if (member.getImplicit() == 0) continue;
+                users.add(new StatsRowDTO(member.getUserId(), AttendanceEntity.Status.NOT, member.getImplicit(), 0L));
+                teams.add(new StatsRowDTO(member.getTeamId(), AttendanceEntity.Status.NOT, member.getImplicit(), 0L));
+                tracks.add(new StatsRowDTO(member.getTrack(), AttendanceEntity.Status.NOT, member.getImplicit(), 0L));
+            }
+        }
+        LinkedHashMap<String, List<AttendanceStatsDTO>> result = new LinkedHashMap<>();
+        result.put("users", foldStats(users));
+        result.put("teams", foldStats(teams));
+        result.put("tracks", foldStats(tracks));
+        return result;
+    }
+
+    private static List<AttendanceStatsDTO> foldStats(List<StatsRowDTO> rows) {
+        LinkedHashMap<String, AttendanceStatsDTO> stats = new LinkedHashMap<>();
+        for (StatsRowDTO row : rows) {
+            stats.computeIfAbsent(row.getKey(), key -> AttendanceStatsDTO.builder().key(key).build())
+                    .add(row);
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    // 요청된 출석을 user까지 한 번의 쿼리로 조회
+    private Map<Long, AttendanceEntity> findAttendances(List<AttendanceDTO> attendances) {
+        Set<Long> ids = attendances.stream()
+                .map(AttendanceDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) return Collections.emptyMap();
+        return attendanceRepository.findAllWithUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(AttendanceEntity::getId, Function.identity()));
+    }
+
+    // 클라이언트가 버전을 보냈는데 현재 버전과 다르면 그 사이 다른 수정이 있었던 것
+    private static boolean isStale(AttendanceEntity attendanceEntity, AttendanceDTO attendance) {
+        return attendance.getVersion() != null && !attendance.getVersion().equals(attendanceEntity.getVersion());
+    }
+
+    // 출석 ID -> 소속 팀 ID
+    private Map<Long, Long> findTeamIds(Set<Long> attendanceIds) {
+        if (attendanceIds.isEmpty()) return Collections.emptyMap();
+        return attendanceRepository.findTeamIdsByAttendanceIdIn(attendanceIds).stream()
+                .collect(Collectors.toMap(AttendanceTeamDTO::getAttendanceId, AttendanceTeamDTO::getTeamId));
+    }
+
+    // 구독하는 쪽(이력 로그, 출석 행렬, 리더보드 등)은 커밋된 뒤에 받음
+    private void recordChanges(List<AttendanceChangeDTO> changes) {
+        if (!changes.isEmpty()) eventPublisher.publishEvent(new AttendanceChangedEvent(changes));
+    }
+
+    // 바뀌기 전 값은 빼고 바뀐 값은 더해서 요약 카운터 증감값을 쌓고, 변경 이력도 남김
+    private static void applyAttendance(AttendanceEntity attendanceEntity, AttendanceDTO attendance,
+                                        Long teamId, SummaryDelta delta, ChangeRecorder changes) {
+        Long userId = attendanceEntity.getUser().getId();
+        changes.before(attendanceEntity, teamId, attendance);
+        delta.remove(teamId, userId, attendanceEntity.getStatus(), attendanceEntity.getScore());
+        attendanceEntity.setStatus(attendance.getStatus());
+        attendanceEntity.setNote(attendance.getNote());
+        attendanceEntity.setScore(attendance.getScore());
+        delta.add(teamId, userId, attendanceEntity.getStatus(), attendanceEntity.getScore());
+    }
+
+    private record Cell(Long scheduleId, Long userId) {
+    }
+
+    // materialize 결과. slots는 기존 행과 새로 만든 행 전부, created는 새로 만든 행만
+    private static class Materialized {
+        private final Map<Cell, AttendanceSlotDTO> slots = new HashMap<>();
+        private final List<AttendanceSlotDTO> created = new ArrayList<>();
+    }
+
+    // 실제로 값이 바뀐 출석만 이력으로 모으고, flush로 올라간 버전을 채워서 넘김
+    private static class ChangeRecorder {
+        private final Long actor;
+        private final Instant changedAt = Instant.now();
+        private final List<AttendanceChangeDTO> changes = new ArrayList<>();
+        private final List<AttendanceEntity> entities = new ArrayList<>();
+
+        ChangeRecorder(Long actor) {
+            this.actor = actor;
+        }
+
+        void before(AttendanceEntity attendanceEntity, Long teamId, AttendanceDTO attendance) {
+            if (attendanceEntity.getStatus() == attendance.getStatus()
+                    && Objects.equals(attendanceEntity.getNote(), attendance.getNote())
+                    && Objects.equals(attendanceEntity.getScore(), attendance.getScore()))
+                return;
+            changes.add(AttendanceChangeDTO.builder()
+                    .changedAt(changedAt)
+                    .attendanceId(attendanceEntity.getId())
+                    .userId(attendanceEntity.getUser().getId())
+                    .teamId(teamId)
+                    .changedBy(actor)
+                    .oldStatus(attendanceEntity.getStatus())
+                    .newStatus(attendance.getStatus())
+                    .oldScore(attendanceEntity.getScore())
+                    .newScore(attendance.getScore())
+                    .note(attendance.getNote())
+                    .build());
+            entities.add(attendanceEntity);
+        }
+
+        List<AttendanceChangeDTO> complete() {
+            for (int i = 0; i < changes.size(); i++)
+                changes.get(i).setVersion(entities.get(i).getVersion());
+            return changes;
+        }
     }
 }
@@ -0,0 +1,10 @@
+package com.likelion.attserver.DAO.Batch;
+
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
+
+public interface BatchInsertDAO {
+    List<Long> insertReturningIds(String sql, int count, ParameterizedPreparedStatementSetter<Integer> setter);
+    void insert(String sql, int count, ParameterizedPreparedStatementSetter<Integer> setter);
+}
@@ -0,0 +1,63 @@
+package com.likelion.attserver.DAO.Batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 엔티티를 거치지 않는 JDBC 배치 INSERT. 행 i의 값은 setter가 (ps, i)로 채움.
+// IDENTITY 키라서 Hibernate는 INSERT를 한 줄씩 보내므로, 행이 많은 경로는 여기로 넣음
+@Component
+@RequiredArgsConstructor
+public class BatchInsertDAOImpl implements BatchInsertDAO {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${att.jdbc.insert-batch-size:1000}")
+    private int insertBatchSize;
+
+    // insertBatchSize 행씩 끊어서 배치 INSERT 하고 생성된 키를 넣은 순서대로 반환
+    @Override
+    public List<Long> insertReturningIds(String sql, int count, ParameterizedPreparedStatementSetter<Integer> setter) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int start = 0; start < count; start += insertBatchSize) {
+            int offset = start;
+            int size = Math.min(insertBatchSize, count - start);
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setter.setValues(ps, offset + i);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    }, keys);
+            for (Map<String, Object> key : keys.getKeyList())
+                ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        if (ids.size() != count)
+            throw new IllegalStateException("Generated keys missing (" + ids.size() + "/" + count + ")");
+        return ids;
+    }
+
+    @Override
+    public void insert(String sql, int count, ParameterizedPreparedStatementSetter<Integer> setter) {
+        if (count == 0) return;
+        List<Integer> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) rows.add(i);
+        jdbcTemplate.batchUpdate(sql, rows, insertBatchSize, setter);
+    }
+}
@@ -0,0 +1,8 @@
+package com.likelion.attserver.DAO.Calendar;
+
+public interface CalendarDAO {
+    String getTeamTag(Long teamId);
+    byte[] getTeamFeed(Long teamId);
+    String getUserTag(Long userId);
+    byte[] getUserFeed(Long userId);
+}
@@ -0,0 +1,95 @@
+package com.likelion.attserver.DAO.Calendar;
+
+import com.likelion.attserver.DAO.Revision.TeamRevisionDAO;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Repository.SchedulesRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 팀별 .ics 피드 캐시. 팀의 스케쥴 버전이 그대로면 만들어 둔 바이트를 그대로 돌려주고,
+// 스케쥴/팀 이름이 바뀌어 버전이 올라간 뒤 처음 요청될 때만 DB에서 읽어 다시 만듦 (출석 변경은 해당 없음).
+// 학생 피드는 소속 팀 피드를 그대로 쓰고, 학번 -> 팀 매핑도 팀 구성 버전이 바뀔 때까지 메모리에 둠
+@Component
+@RequiredArgsConstructor
+public class CalendarDAOImpl implements CalendarDAO {
+    private static final byte[] EMPTY = ICalendarWriter.write("Att", List.of(), ZoneId.of("UTC"), Instant.EPOCH);
+
+    private final TeamRepository teamRepository;
+    private final SchedulesRepository schedulesRepository;
+    private final TeamRevisionDAO revisionDAO;
+
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+    private volatile Members members = new Members("", new ConcurrentHashMap<>());
+
+    @Value("${att.calendar.zone:Asia/Seoul}")
+    private String zone;
+
+    @Override
+    public String getTeamTag(Long teamId) {
+        return revisionDAO.getScheduleTag(teamId);
+    }
+
+    @Override
+    public byte[] getTeamFeed(Long teamId) {
+        // 버전을 먼저 읽어야 읽는 도중 바뀐 내용이 이전 버전으로 남지 않음 (더 새 내용이 이전 버전으로 남는 건 다음 요청에서 다시 만듦)
+        String tag = revisionDAO.getScheduleTag(teamId);
+        Feed cached = feeds.get(teamId);
+        if (cached != null && cached.tag().equals(tag))
+            return cached.body();
+
+        Optional<TeamEntity> team = teamRepository.findById(teamId);
+        if (team.isEmpty()) {
+            feeds.remove(teamId);
+            throw new IllegalArgumentException("Team not found");
+        }
+        String name = team.get().getNote() == null ? "Team " + teamId : team.get().getNote();
+        byte[] body = ICalendarWriter.write(name, schedulesRepository.findCalendarRows(teamId),
+                ZoneId.of(zone), Instant.now());
+        feeds.put(teamId, new Feed(tag, body));
+        return body;
+    }
+
+    @Override
+    public String getUserTag(Long userId) {
+        String membersTag = revisionDAO.getMembersTag();
+        Long teamId = teamOf(userId, membersTag);
+        return "user-" + userId + "-" + membersTag + "-" + (teamId == null ? "none" : revisionDAO.getScheduleTag(teamId));
+    }
+
+    @Override
+    public byte[] getUserFeed(Long userId) {
+        Long teamId = teamOf(userId, revisionDAO.getMembersTag());
+        return teamId == null ? EMPTY : getTeamFeed(teamId);
+    }
+
+    // 팀 구성 버전을 먼저 읽고 넘겨받음. 조회 중에 구성이 바뀌면 다음 버전에서 다시 읽음.
+    // 팀이 있는 학번만 담으므로 캐시 크기는 팀원 수를 넘지 않음 (없는 학번으로 요청해도 늘지 않음)
+    private Long teamOf(Long userId, String tag) {
+        Members current = members;
+        if (!current.tag().equals(tag)) {
+            current = new Members(tag, new ConcurrentHashMap<>());
+            members = current;
+        }
+        Long teamId = current.teams().get(userId);
+        if (teamId == null) {
+            teamId = teamRepository.findTeamIdsByUserId(userId).stream().findFirst().orElse(null);
+            if (teamId != null) current.teams().put(userId, teamId);
+        }
+        return teamId;
+    }
+
+    private record Feed(String tag, byte[] body) {
+    }
+
+    private record Members(String tag, Map<Long, Long> teams) {
+    }
+}
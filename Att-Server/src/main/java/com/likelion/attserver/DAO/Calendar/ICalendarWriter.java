@@ -0,0 +1,86 @@
+package com.likelion.attserver.DAO.Calendar;
+
+import com.likelion.attserver.DTO.ScheduleResourceDTO;
+import com.likelion.attserver.Entity.SchedulesEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// 스케쥴 행을 RFC 5545 VCALENDAR로 씀. 시각은 전부 UTC(…Z)로 써서 VTIMEZONE 없이도 클라이언트가 같은 시각으로 읽음
+final class ICalendarWriter {
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private ICalendarWriter() {
+    }
+
+    // rows는 스케쥴 ID가 같은 행(자원 태그마다 한 행)이 붙어서 들어와야 함
+    static byte[] write(String name, List<ScheduleResourceDTO> rows, ZoneId zone, Instant stamp) {
+        StringBuilder out = new StringBuilder(256 + rows.size() * 200);
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//likelion//att-server//KO");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        line(out, "X-WR-CALNAME:" + escape(name));
+        for (int i = 0; i < rows.size(); ) {
+            ScheduleResourceDTO row = rows.get(i);
+            List<String> resources = new ArrayList<>();
+            for (; i < rows.size() && rows.get(i).getScheduleId().equals(row.getScheduleId()); i++)
+                if (rows.get(i).getResource() != null) resources.add(rows.get(i).getResource());
+
+            Instant start = LocalDateTime.of(row.getDate(), row.getTime()).atZone(zone).toInstant();
+            int duration = row.getDuration() > 0 ? row.getDuration() : SchedulesEntity.DEFAULT_DURATION;
+            line(out, "BEGIN:VEVENT");
+            line(out, "UID:schedule-" + row.getScheduleId() + "@att-server");
+            line(out, "DTSTAMP:" + UTC.format(stamp));
+            line(out, "DTSTART:" + UTC.format(start));
+            line(out, "DTEND:" + UTC.format(start.plusSeconds(duration * 60L)));
+            line(out, "SUMMARY:" + escape(name));
+            if (!resources.isEmpty())
+                line(out, "LOCATION:" + escape(String.join(", ", resources)));
+            line(out, "END:VEVENT");
+        }
+        line(out, "END:VCALENDAR");
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // TEXT 값의 \ ; , 줄바꿈 이스케이프
+    static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> out.append('\\').append(c);
+                case '\n' -> out.append("\\n");
+                case '\r' -> {
+                }
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    // 한 줄이 75 octet(UTF-8)을 넘으면 CRLF + 공백으로 접음. 한글처럼 여러 바이트인 글자는 중간에서 자르지 않음
+    private static void line(StringBuilder out, String line) {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.append("\r\n ");
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.append("\r\n");
+    }
+}
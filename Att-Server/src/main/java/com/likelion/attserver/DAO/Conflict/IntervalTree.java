@@ -0,0 +1,110 @@
+package com.likelion.attserver.DAO.Conflict;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 반열린 구간 [start, end)를 (start, id) 순으로 들고 있는 트립(treap).
+// 노드마다 서브트리의 가장 늦은 end를 같이 들고 있어서, 겹치는 구간 검색은 겹칠 수 없는 서브트리를 건너뛰고
+// 삽입/삭제/검색 모두 기대 O(log n) (검색은 찾은 개수 k만큼 더)
+public class IntervalTree<T> {
+    private Node<T> root;
+    private int size;
+
+    public void insert(long start, long end, long id, T value) {
+        Node<T> node = new Node<>(start, end, id, value, ThreadLocalRandom.current().nextInt());
+        Node<T>[] parts = split(root, start, id, false);
+        root = merge(merge(parts[0], node), parts[1]);
+        size++;
+    }
+
+    public boolean remove(long start, long id) {
+        Node<T>[] lower = split(root, start, id, false); // (start, id) 미만 | 이상
+        Node<T>[] upper = split(lower[1], start, id, true); // (start, id) 이하 | 초과
+        boolean removed = upper[0] != null;
+        if (removed) size--;
+        root = merge(lower[0], upper[1]);
+        return removed;
+    }
+
+    // [start, end)와 겹치는 구간 중 시작이 가장 이른 것, 없으면 null
+    public T firstOverlap(long start, long end) {
+        List<T> found = new ArrayList<>(1);
+        collect(root, start, end, found, 1);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    public List<T> overlaps(long start, long end) {
+        List<T> found = new ArrayList<>();
+        collect(root, start, end, found, Integer.MAX_VALUE);
+        return found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static <T> void collect(Node<T> node, long start, long end, List<T> found, int limit) {
+        if (node == null || found.size() >= limit || node.maxEnd <= start) return;
+        collect(node.left, start, end, found, limit);
+        if (found.size() >= limit || node.start >= end) return; // 오른쪽은 전부 end 이후에 시작
+        if (node.end > start) found.add(node.value);
+        collect(node.right, start, end, found, limit);
+    }
+
+    // inclusive면 (start, id) 이하 | 초과, 아니면 미만 | 이상으로 나눔
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] split(Node<T> node, long start, long id, boolean inclusive) {
+        if (node == null) return new Node[]{null, null};
+        int cmp = node.start != start ? Long.compare(node.start, start) : Long.compare(node.id, id);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Node<T>[] parts = split(node.right, start, id, inclusive);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node<T>[] parts = split(node.left, start, id, inclusive);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static final class Node<T> {
+        private final long start;
+        private final long end;
+        private final long id;
+        private final T value;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, long id, T value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null) maxEnd = Math.max(maxEnd, left.maxEnd);
+            if (right != null) maxEnd = Math.max(maxEnd, right.maxEnd);
+        }
+    }
+}
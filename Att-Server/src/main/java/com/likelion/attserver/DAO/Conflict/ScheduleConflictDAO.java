@@ -0,0 +1,10 @@
+package com.likelion.attserver.DAO.Conflict;
+
+import com.likelion.attserver.DTO.ScheduleConflictDTO;
+import com.likelion.attserver.DTO.ScheduleIntervalDTO;
+
+import java.util.List;
+
+public interface ScheduleConflictDAO {
+    List<ScheduleConflictDTO> check(List<ScheduleIntervalDTO> candidates);
+}
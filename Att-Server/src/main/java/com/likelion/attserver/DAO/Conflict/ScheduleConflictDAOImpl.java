@@ -0,0 +1,159 @@
+package com.likelion.attserver.DAO.Conflict;
+
+import com.likelion.attserver.DTO.ScheduleConflictDTO;
+import com.likelion.attserver.DTO.ScheduleIntervalDTO;
+import com.likelion.attserver.DTO.ScheduleResourceDTO;
+import com.likelion.attserver.Event.MembershipChangedEvent;
+import com.likelion.attserver.Event.ScheduleChangedEvent;
+import com.likelion.attserver.Repository.SchedulesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+// 자원(강의실, 멘토 등)별 구간 트리. 팀과 상관없이 같은 자원을 쓰는 스케쥴끼리 시간이 겹치는지 본다.
+// 처음 쓸 때 태그가 붙은 스케쥴만 DB에서 읽어 만들고, 이후에는 커밋된 추가/삭제만 반영함.
+// 검사와 저장 사이에 다른 트랜잭션이 같은 자리를 잡는 경우는 막지 않음 (관리자만 만드는 경로라 드묾)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleConflictDAOImpl implements ScheduleConflictDAO {
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final SchedulesRepository schedulesRepository;
+
+    private final Object lock = new Object();
+    private Map<String, IntervalTree<Slot>> trees; // null이면 다음에 쓸 때 다시 적재
+    private final Map<Long, Slot> bySchedule = new HashMap<>();
+
+    // 후보를 순서대로 보면서 기존 스케쥴, 그리고 앞서 통과한 후보와 겹치는지 검사. 겹친 후보는 자리를 잡지 않음
+    @Override
+    public List<ScheduleConflictDTO> check(List<ScheduleIntervalDTO> candidates) {
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+        if (candidates.stream().allMatch(candidate -> candidate.getResources() == null || candidate.getResources().isEmpty()))
+            return conflicts;
+        Map<String, IntervalTree<Slot>> pending = new HashMap<>();
+        synchronized (lock) {
+            Map<String, IntervalTree<Slot>> index = index();
+            for (int i = 0; i < candidates.size(); i++) {
+                ScheduleIntervalDTO candidate = candidates.get(i);
+                if (candidate.getResources() == null || candidate.getResources().isEmpty()) continue;
+                Slot slot = Slot.of(candidate);
+                ScheduleConflictDTO conflict = null;
+                for (String resource : candidate.getResources()) {
+                    Slot other = firstOverlap(index.get(resource), slot);
+                    if (other == null) other = firstOverlap(pending.get(resource), slot);
+                    if (other != null) {
+                        conflict = conflict(resource, slot, other);
+                        break;
+                    }
+                }
+                if (conflict != null) {
+                    conflicts.add(conflict);
+                    continue;
+                }
+                for (String resource : candidate.getResources())
+                    pending.computeIfAbsent(resource, key -> new IntervalTree<>()).insert(slot.start(), slot.end(), i, slot);
+            }
+        }
+        return conflicts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        List<ScheduleIntervalDTO> tagged = event.added().stream()
+                .filter(schedule -> schedule.getResources() != null && !schedule.getResources().isEmpty())
+                .toList();
+        if (tagged.isEmpty() && event.removed().isEmpty()) return;
+        synchronized (lock) {
+            // 아직 적재 전이면 다음 적재 때 DB에서 같이 읽힘
+            if (trees == null) return;
+            tagged.forEach(schedule -> add(Slot.of(schedule)));
+            event.removed().forEach(this::remove);
+        }
+    }
+
+    // 팀이 지워지면 그 팀 스케쥴이 한꺼번에 빠지므로 다음에 쓸 때 다시 적재
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (!event.teamRemoved()) return;
+        synchronized (lock) {
+            trees = null;
+            bySchedule.clear();
+        }
+    }
+
+    private Map<String, IntervalTree<Slot>> index() {
+        if (trees != null) return trees;
+        trees = new HashMap<>();
+        bySchedule.clear();
+        Map<Long, ScheduleIntervalDTO> schedules = new LinkedHashMap<>();
+        for (ScheduleResourceDTO row : schedulesRepository.findResourceSlots()) {
+            schedules.computeIfAbsent(row.getScheduleId(), id -> ScheduleIntervalDTO.builder()
+                            .scheduleId(id)
+                            .teamId(row.getTeamId())
+                            .date(row.getDate())
+                            .time(row.getTime())
+                            .duration(row.getDuration())
+                            .resources(new ArrayList<>())
+                            .build())
+                    .getResources().add(row.getResource());
+        }
+        schedules.values().forEach(schedule -> add(Slot.of(schedule)));
+        log.info("Loaded conflict index: {} schedules on {} resources", bySchedule.size(), trees.size());
+        return trees;
+    }
+
+    private void remove(Long scheduleId) {
+        Slot slot = bySchedule.remove(scheduleId);
+        if (slot == null) return;
+        for (String resource : slot.resources()) {
+            IntervalTree<Slot> tree = trees.get(resource);
+            if (tree == null) continue;
+            tree.remove(slot.start(), scheduleId);
+            if (tree.size() == 0) trees.remove(resource);
+        }
+    }
+
+    private void add(Slot slot) {
+        // 적재 중에 커밋된 스케쥴은 DB에서도 읽혔을 수 있음
+        if (bySchedule.putIfAbsent(slot.scheduleId(), slot) != null) return;
+        for (String resource : slot.resources())
+            trees.computeIfAbsent(resource, key -> new IntervalTree<>())
+                    .insert(slot.start(), slot.end(), slot.scheduleId(), slot);
+    }
+
+    private static Slot firstOverlap(IntervalTree<Slot> tree, Slot slot) {
+        return tree == null ? null : tree.firstOverlap(slot.start(), slot.end());
+    }
+
+    private static ScheduleConflictDTO conflict(String resource, Slot slot, Slot other) {
+        return ScheduleConflictDTO.builder()
+                .resource(resource)
+                .teamId(slot.teamId())
+                .date(slot.date())
+                .time(slot.time())
+                .duration(slot.duration())
+                .conflictScheduleId(other.scheduleId())
+                .conflictTeamId(other.teamId())
+                .conflictDate(other.date())
+                .conflictTime(other.time())
+                .conflictDuration(other.duration())
+                .build();
+    }
+
+    // 구간은 에포크 기준 분 단위 [start, end)
+    private record Slot(Long scheduleId, Long teamId, LocalDate date, LocalTime time, int duration,
+                        List<String> resources, long start, long end) {
+        static Slot of(ScheduleIntervalDTO schedule) {
+            long start = schedule.getDate().toEpochDay() * MINUTES_PER_DAY + schedule.getTime().toSecondOfDay() / 60;
+            return new Slot(schedule.getScheduleId(), schedule.getTeamId(), schedule.getDate(), schedule.getTime(),
+                    schedule.getDuration(), List.copyOf(schedule.getResources()), start, start + schedule.getDuration());
+        }
+    }
+}
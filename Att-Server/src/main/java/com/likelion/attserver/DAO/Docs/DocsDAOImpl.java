@@ -4,10 +4,12 @@ import com.likelion.attserver.DTO.Docs.DocsDTO;
 import com.likelion.attserver.DTO.Docs.ResponseDocsDTO;
 import com.likelion.attserver.Entity.DocsEntity;
 import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Event.DocsChangedEvent;
 import com.likelion.attserver.Exception.CustomException;
 import com.likelion.attserver.Repository.DocsRepository;
 import com.likelion.attserver.Repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class DocsDAOImpl implements DocsDAO {
     private final DocsRepository docsRepository;
     private final TeamRepository teamRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ResponseDocsDTO createDocs(DocsDTO docsDTO) {
@@ -32,6 +35,7 @@ public class DocsDAOImpl implements DocsDAO {
                 .created(docsDTO.getCreated())
                 .build();
         docsRepository.save(docsEntity);
+        eventPublisher.publishEvent(new DocsChangedEvent(docsEntity.getTeam().getId()));
         return ResponseDocsDTO.builder()
                 .id(docsEntity.getId())
                 .teamId(docsEntity.getTeam().getId())
@@ -63,13 +67,15 @@ public class DocsDAOImpl implements DocsDAO {
             throw new CustomException("Team not found", HttpStatus.NOT_FOUND);
         else if (!docsRepository.existsByTeamId(teamId)) return;
         docsRepository.deleteAll(docsRepository.findByTeamId(teamId));
+        eventPublisher.publishEvent(new DocsChangedEvent(teamId));
     }
 
     @Override
     public void deleteDocs(Long id) {
-        if (!docsRepository.existsById(id))
-            throw new CustomException("Docs not found", HttpStatus.NOT_FOUND);
-        docsRepository.deleteById(id);
+        DocsEntity docsEntity = docsRepository.findById(id)
+                .orElseThrow(() -> new CustomException("Docs not found", HttpStatus.NOT_FOUND));
+        docsRepository.delete(docsEntity);
+        eventPublisher.publishEvent(new DocsChangedEvent(docsEntity.getTeam().getId()));
     }
 
     @Override
@@ -81,6 +87,7 @@ public class DocsDAOImpl implements DocsDAO {
         docsEntity.setContent(responseDocsDTO.getContent());
         docsEntity.setCreated(responseDocsDTO.getCreated());
         docsRepository.save(docsEntity);
+        eventPublisher.publishEvent(new DocsChangedEvent(docsEntity.getTeam().getId()));
         return responseDocsDTO;
     }
 }
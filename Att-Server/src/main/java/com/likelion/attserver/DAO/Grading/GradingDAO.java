@@ -0,0 +1,10 @@
+package com.likelion.attserver.DAO.Grading;
+
+import com.likelion.attserver.DTO.Grading.GradeDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
+
+import java.util.List;
+
+public interface GradingDAO {
+    List<GradeDTO> evaluate(List<GradingRuleDTO> rules);
+}
@@ -0,0 +1,116 @@
+package com.likelion.attserver.DAO.Grading;
+
+import com.likelion.attserver.DTO.Grading.GradeDTO;
+import com.likelion.attserver.DTO.Grading.GradingRowDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Event.AttendanceChangedEvent;
+import com.likelion.attserver.Event.MembershipChangedEvent;
+import com.likelion.attserver.Event.ScheduleChangedEvent;
+import com.likelion.attserver.Event.UserChangedEvent;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 전체 출석을 한 번의 쿼리로 팀 x 유저별 순서로 읽어두고, 규칙 목록마다 계산 결과를 캐시.
+// 출석이나 팀/스케쥴 구성이 바뀌어 커밋되면 둘 다 버림
+@Component
+@RequiredArgsConstructor
+public class GradingDAOImpl implements GradingDAO {
+    private static final int MAX_CACHED_RULE_SETS = 16;
+
+    private final AttendanceRepository attendanceRepository;
+    private final Map<List<GradingRuleDTO>, List<GradeDTO>> results = new ConcurrentHashMap<>();
+    private volatile List<GradingEngine.Sequence> sequences;
+    // 변경이 커밋될 때마다 올라감. 계산 중에 바뀌었으면 그 결과는 캐시하지 않음
+    private volatile long generation;
+
+    // 희소 모드면 행이 없는 칸도 NOT으로 순서에 끼워 넣어야 연속 규칙이 맞음
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
+
+    @Override
+    public List<GradeDTO> evaluate(List<GradingRuleDTO> rules) {
+        List<GradeDTO> cached = results.get(rules);
+        if (cached != null) return cached;
+
+        long started = generation;
+        EnumMap<GradingRuleDTO.Type, Double> compiled = GradingEngine.compile(rules);
+        List<GradeDTO> grades = sequences().parallelStream()
+                .map(sequence -> GradingEngine.evaluate(sequence, compiled))
+                .toList();
+        synchronized (this) {
+            if (started == generation) {
+                if (results.size() >= MAX_CACHED_RULE_SETS) results.clear();
+                results.put(List.copyOf(rules), grades);
+            }
+        }
+        return grades;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (!event.changes().isEmpty()) invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.removed()) invalidate();
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        sequences = null;
+        results.clear();
+    }
+
+    private List<GradingEngine.Sequence> sequences() {
+        List<GradingEngine.Sequence> loaded = sequences;
+        if (loaded != null) return loaded;
+        long started = generation;
+        loaded = group(sparse ? attendanceRepository.findGradingCells() : attendanceRepository.findGradingRows());
+        synchronized (this) {
+            if (started == generation) sequences = loaded;
+        }
+        return loaded;
+    }
+
+    // (팀, 유저, 스케쥴 시각) 순으로 정렬된 행을 학생별 배열로 자름
+    private static List<GradingEngine.Sequence> group(List<GradingRowDTO> rows) {
+        List<GradingEngine.Sequence> result = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            if (i < rows.size()
+                    && rows.get(i).getTeamId().equals(rows.get(start).getTeamId())
+                    && rows.get(i).getUserId().equals(rows.get(start).getUserId()))
+                continue;
+            int size = i - start;
+            AttendanceEntity.Status[] statuses = new AttendanceEntity.Status[size];
+            Long[] scores = new Long[size];
+            for (int j = 0; j < size; j++) {
+                AttendanceEntity.Status status = rows.get(start + j).getStatus();
+                statuses[j] = status != null ? status : AttendanceEntity.Status.NOT;
+                scores[j] = rows.get(start + j).getScore();
+            }
+            result.add(new GradingEngine.Sequence(rows.get(start).getTeamId(), rows.get(start).getUserId(), statuses, scores));
+            start = i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package com.likelion.attserver.DAO.Grading;
+
+import com.likelion.attserver.DTO.Grading.GradeDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+
+import java.util.*;
+
+// 팀 x 유저 한 명의 출석 순서에 규칙 목록을 적용해서 성적을 계산.
+// 학생끼리 공유하는 상태가 없어서 전체를 parallelStream으로 한 번에 돌릴 수 있음
+public final class GradingEngine {
+    private GradingEngine() {
+    }
+
+    // 스케쥴 순서대로 정렬된 한 학생의 출결과 점수 (점수 없는 회차는 null)
+    public record Sequence(Long teamId, Long userId, AttendanceEntity.Status[] statuses, Long[] scores) {
+    }
+
+    // 같은 Type이 여러 번 오면 마지막 값 사용
+    public static EnumMap<GradingRuleDTO.Type, Double> compile(List<GradingRuleDTO> rules) {
+        EnumMap<GradingRuleDTO.Type, Double> compiled = new EnumMap<>(GradingRuleDTO.Type.class);
+        for (GradingRuleDTO rule : rules) {
+            if (rule.getType() == null)
+                throw new IllegalArgumentException("Rule type is required");
+            if (rule.getValue() < 0)
+                throw new IllegalArgumentException(rule.getType() + " value must not be negative");
+            compiled.put(rule.getType(), rule.getValue());
+        }
+        return compiled;
+    }
+
+    public static GradeDTO evaluate(Sequence sequence, EnumMap<GradingRuleDTO.Type, Double> rules) {
+        int present = 0;
+        int late = 0;
+        int absent = 0;
+        long[] scores = new long[sequence.scores().length];
+        int scored = 0;
+        for (int i = 0; i < sequence.statuses().length; i++) {
+            switch (sequence.statuses()[i]) {
+                case PRESENT -> present++;
+                case LATE -> late++;
+                case ABSENT -> absent++;
+                case NOT -> {
+                    continue; // 아직 출결이 없는 회차는 성적에서 제외
+                }
+            }
+            if (sequence.scores()[i] != null) scores[scored++] = sequence.scores()[i];
+        }
+        int sessions = present + late + absent;
+
+        // Type 선언 순서(환산 -> 가중치 -> 점수 -> 통과 여부)로 적용
+        int latesPerAbsence = rules.getOrDefault(GradingRuleDTO.Type.LATE_TO_ABSENT, 0.0).intValue();
+        if (latesPerAbsence >= 1) {
+            absent += late / latesPerAbsence;
+            late %= latesPerAbsence;
+        }
+
+        double lateWeight = rules.getOrDefault(GradingRuleDTO.Type.LATE_WEIGHT, 1.0);
+        double rate = sessions == 0 ? 0.0 : (present + late * lateWeight) / sessions;
+
+        int drop = Math.min(rules.getOrDefault(GradingRuleDTO.Type.DROP_LOWEST, 0.0).intValue(), scored);
+        Arrays.sort(scores, 0, scored);
+        long score = 0;
+        for (int i = drop; i < scored; i++)
+            score += scores[i];
+
+        Double maxAbsences = rules.get(GradingRuleDTO.Type.FAIL_OVER_ABSENCES);
+        boolean passed = maxAbsences == null || absent <= maxAbsences;
+
+        return GradeDTO.builder()
+                .teamId(sequence.teamId())
+                .userId(sequence.userId())
+                .sessions(sessions)
+                .present(present)
+                .late(late)
+                .absent(absent)
+                .attendanceRate(rate)
+                .score(score)
+                .passed(passed)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.likelion.attserver.DAO.Leaderboard;
+
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import com.likelion.attserver.Entity.UserEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 한 범위(전체, 트랙 하나, 팀 하나)의 유저별 점수 합계와 순위
+class Leaderboard {
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final RankTree ranking = new RankTree();
+
+    void add(Long userId, long delta) {
+        Long old = scores.get(userId);
+        if (old != null) {
+            if (delta == 0) return;
+            ranking.remove(old, userId);
+        }
+        long score = (old == null ? 0L : old) + delta;
+        scores.put(userId, score);
+        ranking.insert(score, userId);
+    }
+
+    // 빼낸 유저의 점수, 없던 유저면 null
+    Long remove(Long userId) {
+        Long score = scores.remove(userId);
+        if (score != null) ranking.remove(score, userId);
+        return score;
+    }
+
+    boolean contains(Long userId) {
+        return scores.containsKey(userId);
+    }
+
+    List<LeaderboardEntryDTO> top(int limit, Map<Long, UserEntity.Track> tracks) {
+        List<LeaderboardEntryDTO> result = new ArrayList<>(Math.min(limit, ranking.size()));
+        ranking.forEachTop(limit, (userId, score) -> {
+            // 앞 사람과 동점이면 같은 순위, 아니면 지금까지 지나온 인원 + 1
+            int rank = result.isEmpty() || result.get(result.size() - 1).getScore() != score
+                    ? result.size() + 1
+                    : result.get(result.size() - 1).getRank();
+            result.add(LeaderboardEntryDTO.builder()
+                    .rank(rank)
+                    .userId(userId)
+                    .track(tracks.get(userId))
+                    .score(score)
+                    .build());
+        });
+        return result;
+    }
+
+    LeaderboardEntryDTO rankOf(Long userId, Map<Long, UserEntity.Track> tracks) {
+        Long score = scores.get(userId);
+        if (score == null) return null;
+        return LeaderboardEntryDTO.builder()
+                .rank(ranking.countAbove(score) + 1)
+                .userId(userId)
+                .track(tracks.get(userId))
+                .score(score)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.likelion.attserver.DAO.Leaderboard;
+
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import com.likelion.attserver.Entity.UserEntity;
+
+import java.util.List;
+
+public interface LeaderboardDAO {
+    List<LeaderboardEntryDTO> getTop(UserEntity.Track track, Long teamId, int limit);
+    LeaderboardEntryDTO getRank(Long userId, UserEntity.Track track, Long teamId);
+    void rebuild();
+}
@@ -0,0 +1,245 @@
+package com.likelion.attserver.DAO.Leaderboard;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardRowDTO;
+import com.likelion.attserver.DTO.ScheduleAttendanceDTO;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Event.AttendanceChangedEvent;
+import com.likelion.attserver.Event.MembershipChangedEvent;
+import com.likelion.attserver.Event.ScheduleChangedEvent;
+import com.likelion.attserver.Event.UserChangedEvent;
+import com.likelion.attserver.Repository.AttendanceSummaryRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 전체/트랙별/팀별 점수 리더보드를 메모리에 들고 있음.
+// 시작할 때 요약 테이블(유저 x 팀 점수 합계)에서 한 번 만들고, 이후엔 커밋된 변경만큼 O(log n)으로 갱신.
+// 스케쥴/팀원 변경도 바뀐 팀원 수만큼만 넣고 빼며, 전체 재구성은 시작할 때와 요약 테이블을 다시 맞출 때만 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardDAOImpl implements LeaderboardDAO {
+    private final AttendanceSummaryRepository summaryRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 희소 모드면 아직 출석 행이 없어 요약 행도 없는 팀원을 0점으로 올림
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
+
+    private Leaderboard overall = new Leaderboard();
+    private Map<UserEntity.Track, Leaderboard> tracks = new EnumMap<>(UserEntity.Track.class);
+    private Map<Long, Leaderboard> teams = new HashMap<>();
+    private Map<Long, UserEntity.Track> userTracks = new HashMap<>();
+    // 진행 중인 rebuild 수와, 그동안 보드에 적용한 변경
+    private int rebuilding;
+    private final List<Runnable> pending = new ArrayList<>();
+    // 커밋 직전부터 그 커밋의 patch가 끝날 때까지 read lock을 잡음.
+    // rebuild는 write lock을 잡고 요약 테이블을 읽으므로, 읽은 행에는 이미 patch된 커밋만 들어 있음
+    private final ReadWriteLock commits = new ReentrantReadWriteLock();
+
+    private record Snapshot(List<LeaderboardRowDTO> rows, int from) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    public synchronized List<LeaderboardEntryDTO> getTop(UserEntity.Track track, Long teamId, int limit) {
+        Leaderboard board = board(track, teamId);
+        return board == null ? List.of() : board.top(limit, userTracks);
+    }
+
+    @Override
+    public synchronized LeaderboardEntryDTO getRank(Long userId, UserEntity.Track track, Long teamId) {
+        Leaderboard board = board(track, teamId);
+        LeaderboardEntryDTO entry = board == null ? null : board.rankOf(userId, userTracks);
+        if (entry == null)
+            throw new IllegalArgumentException("User " + userId + " is not on this leaderboard");
+        return entry;
+    }
+
+    @Override
+    public void rebuild() {
+        // 커넥션을 먼저 잡고 lock을 기다려야, 커밋을 기다리는 트랜잭션들이 커넥션을 다 쥐고 있어도 막히지 않음
+        Snapshot snapshot = transactionTemplate.execute(status -> snapshot());
+        try {
+            // 읽는 동안은 기존 보드로 응답하고, 다 만든 뒤 한 번에 교체
+            Leaderboard overall = new Leaderboard();
+            Map<UserEntity.Track, Leaderboard> tracks = new EnumMap<>(UserEntity.Track.class);
+            Map<Long, Leaderboard> teams = new HashMap<>();
+            Map<Long, UserEntity.Track> userTracks = new HashMap<>();
+            for (LeaderboardRowDTO row : snapshot.rows()) {
+                userTracks.put(row.getUserId(), row.getTrack());
+                overall.add(row.getUserId(), row.getScore());
+                if (row.getTrack() != null)
+                    tracks.computeIfAbsent(row.getTrack(), track -> new Leaderboard()).add(row.getUserId(), row.getScore());
+                teams.computeIfAbsent(row.getTeamId(), id -> new Leaderboard()).add(row.getUserId(), row.getScore());
+            }
+            synchronized (this) {
+                this.overall = overall;
+                this.tracks = tracks;
+                this.teams = teams;
+                this.userTracks = userTracks;
+                // 읽은 뒤에 커밋된 변경만 새 보드에 다시 반영
+                pending.subList(snapshot.from(), pending.size()).forEach(Runnable::run);
+            }
+            log.info("Leaderboard rebuilt with {} members", userTracks.size());
+        } finally {
+            synchronized (this) {
+                if (--rebuilding == 0) pending.clear();
+            }
+        }
+    }
+
+    // 커밋은 됐는데 patch 전인 트랜잭션이 없는 순간에 읽어서, 이 시점 앞의 pending은 읽은 행에 들어 있고 뒤는 빠져 있음
+    private Snapshot snapshot() {
+        commits.writeLock().lock();
+        try {
+            List<LeaderboardRowDTO> rows = new ArrayList<>(summaryRepository.findLeaderboardRows());
+            // 0점 추가는 이미 있는 유저에겐 변화가 없음
+            if (sparse) rows.addAll(teamRepository.findScheduledMemberRows());
+            synchronized (this) {
+                rebuilding++;
+                return new Snapshot(rows, pending.size());
+            }
+        } finally {
+            commits.writeLock().unlock();
+        }
+    }
+
+    // 보드를 바꾸는 이벤트의 트랜잭션은 커밋 전에 read lock을 잡고 완료 후 놓음.
+    // 놓는 동기화는 이벤트를 낼 때 등록된 AFTER_COMMIT patch보다 늦게 등록되므로 patch가 끝난 뒤에 실행됨
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, classes = {
+            AttendanceChangedEvent.class, ScheduleChangedEvent.class, MembershipChangedEvent.class, UserChangedEvent.class})
+    public void holdRebuild() {
+        commits.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                commits.readLock().unlock();
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        patch(() -> {
+            for (AttendanceChangeDTO change : event.changes())
+                addScore(change.getUserId(), change.getTeamId(), score(change.getNewScore()) - score(change.getOldScore()));
+        });
+    }
+
+    // 새 스케쥴이 생기면 팀원 전부 0점으로 올라가고, 지운 스케쥴의 출석 점수는 뺌
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        List<LeaderboardRowDTO> members = event.added().isEmpty()
+                ? List.of()
+                : teamRepository.findScheduledMemberRows(event.teamId());
+        patch(() -> {
+            members.forEach(this::join);
+            for (ScheduleAttendanceDTO attendance : event.removedAttendances())
+                addScore(attendance.getUserId(), event.teamId(), -score(attendance.getScore()));
+        });
+    }
+
+    // 들어온 팀원은 스케쥴이 있는 팀이면 0점으로, 나간 팀원은 그 팀에서 쌓은 점수를 전체/트랙에서도 뺌
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (!event.changed() && !event.teamRemoved()) return;
+        Set<Long> added = new HashSet<>(event.added());
+        List<LeaderboardRowDTO> members = added.isEmpty()
+                ? List.of()
+                : teamRepository.findScheduledMemberRows(event.teamId()).stream()
+                        .filter(row -> added.contains(row.getUserId()))
+                        .toList();
+        patch(() -> {
+            members.forEach(this::join);
+            event.removed().forEach(userId -> leave(event.teamId(), userId));
+            if (event.teamRemoved()) teams.remove(event.teamId());
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.removed()) patch(() -> drop(event.userId()));
+    }
+
+    // rebuild가 읽는 중이면 새 보드에도 다시 적용하도록 모아둠
+    private synchronized void patch(Runnable patch) {
+        patch.run();
+        if (rebuilding > 0) pending.add(patch);
+    }
+
+    private void addScore(Long userId, Long teamId, long delta) {
+        if (delta == 0) return;
+        overall.add(userId, delta);
+        UserEntity.Track track = userTracks.get(userId);
+        if (track != null)
+            tracks.computeIfAbsent(track, key -> new Leaderboard()).add(userId, delta);
+        if (teamId != null)
+            teams.computeIfAbsent(teamId, id -> new Leaderboard()).add(userId, delta);
+    }
+
+    // 이미 있는 유저는 점수 그대로
+    private void join(LeaderboardRowDTO row) {
+        userTracks.putIfAbsent(row.getUserId(), row.getTrack());
+        overall.add(row.getUserId(), 0);
+        UserEntity.Track track = userTracks.get(row.getUserId());
+        if (track != null)
+            tracks.computeIfAbsent(track, key -> new Leaderboard()).add(row.getUserId(), 0);
+        teams.computeIfAbsent(row.getTeamId(), id -> new Leaderboard()).add(row.getUserId(), 0);
+    }
+
+    // 다른 팀에 남아 있으면 그 팀 점수만 빼고, 아니면 전체/트랙에서도 내림
+    private void leave(Long teamId, Long userId) {
+        Leaderboard team = teams.get(teamId);
+        Long score = team == null ? null : team.remove(userId);
+        if (score == null) return;
+        if (teams.values().stream().anyMatch(board -> board.contains(userId))) {
+            addScore(userId, null, -score);
+            return;
+        }
+        drop(userId);
+    }
+
+    private void drop(Long userId) {
+        overall.remove(userId);
+        tracks.values().forEach(board -> board.remove(userId));
+        teams.values().forEach(board -> board.remove(userId));
+        userTracks.remove(userId);
+    }
+
+    private Leaderboard board(UserEntity.Track track, Long teamId) {
+        if (teamId != null) return teams.get(teamId);
+        if (track != null) return tracks.get(track);
+        return overall;
+    }
+
+    private static long score(Long score) {
+        return score == null ? 0L : score;
+    }
+}
@@ -0,0 +1,133 @@
+package com.likelion.attserver.DAO.Leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.function.ObjLongConsumer;
+
+// (점수 내림차순, 학번 오름차순)으로 정렬된 treap. 노드마다 서브트리 크기를 들고 있어서
+// 삽입/삭제와 "나보다 점수 높은 사람 수"가 모두 O(log n)
+class RankTree {
+    private static final class Node {
+        final long score;
+        final long userId;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(long score, long userId, int priority) {
+            this.score = score;
+            this.userId = userId;
+            this.priority = priority;
+        }
+    }
+
+    private final Random random = new Random();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(long score, long userId) {
+        root = insert(root, new Node(score, userId, random.nextInt()));
+    }
+
+    void remove(long score, long userId) {
+        root = remove(root, score, userId);
+    }
+
+    // score보다 점수가 높은 항목 수
+    int countAbove(long score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // 앞에서부터 limit개를 (학번, 점수)로 넘김
+    void forEachTop(int limit, ObjLongConsumer<Long> consumer) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        int visited = 0;
+        while ((node != null || !stack.isEmpty()) && visited < limit) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            consumer.accept(node.userId, node.score);
+            visited++;
+            node = node.right;
+        }
+    }
+
+    private static int compare(long score, long userId, Node node) {
+        if (score != node.score) return score > node.score ? -1 : 1;
+        return Long.compare(userId, node.userId);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) return added;
+        if (compare(added.score, added.userId, node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, long score, long userId) {
+        if (node == null) return null;
+        int compare = compare(score, userId, node);
+        if (compare < 0) node.left = remove(node.left, score, userId);
+        else if (compare > 0) node.right = remove(node.right, score, userId);
+        else return merge(node.left, node.right);
+        return update(node);
+    }
+
+    // left의 모든 키가 right보다 앞일 때 두 트리를 합침
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = update(node);
+        return update(pivot);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = update(node);
+        return update(pivot);
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,188 @@
+package com.likelion.attserver.DAO.Matrix;
+
+import com.likelion.attserver.DTO.Matrix.MatrixCellDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixFootprintDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixSlotDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixStreakDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+// 팀 하나의 출석을 상태별 비트셋으로 들고 있는 행렬.
+// 스케쥴 순번(시작 시각 순) x 유저 순번(학번 순) 칸마다 상태 하나의 비트만 켜져 있음.
+// 유저 기준(행: 스케쥴 비트)과 스케쥴 기준(열: 유저 비트) 두 방향을 같이 들고 있어서
+// 연속 결석은 행을, 회차별 인원은 열을 long 단위로 한 번에 계산함
+public class AttendanceMatrix {
+    private static final AttendanceEntity.Status[] STATUSES = AttendanceEntity.Status.values();
+    // HashMap 한 칸(Node + Long 키 + Long 값)과 테이블 슬롯의 대략적인 크기
+    private static final int INDEX_ENTRY_BYTES = 32 + 16 + 16 + 8;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final Long teamId;
+    private final long[] scheduleIds;
+    private final LocalDate[] dates;
+    private final LocalTime[] times;
+    private final long[] userIds;
+    private final Map<Long, Long> cells; // 출석 ID -> (스케쥴 순번 << 32 | 유저 순번)
+    private final long[][][] byUser; // [상태][유저][스케쥴 비트 word]
+    private final long[][][] bySchedule; // [상태][스케쥴][유저 비트 word]
+
+    private AttendanceMatrix(Long teamId, long[] scheduleIds, LocalDate[] dates, LocalTime[] times, long[] userIds) {
+        this.teamId = teamId;
+        this.scheduleIds = scheduleIds;
+        this.dates = dates;
+        this.times = times;
+        this.userIds = userIds;
+        this.cells = new HashMap<>();
+        this.byUser = new long[STATUSES.length][userIds.length][words(scheduleIds.length)];
+        this.bySchedule = new long[STATUSES.length][scheduleIds.length][words(userIds.length)];
+    }
+
+    public static AttendanceMatrix of(Long teamId, List<MatrixCellDTO> cells) {
+        // 스케쥴은 (날짜, 시간, ID) 순, 유저는 학번 순으로 순번을 매김
+        TreeMap<Long, MatrixCellDTO> scheduleById = new TreeMap<>();
+        TreeSet<Long> users = new TreeSet<>();
+        for (MatrixCellDTO cell : cells) {
+            scheduleById.putIfAbsent(cell.getScheduleId(), cell);
+            users.add(cell.getUserId());
+        }
+        List<MatrixCellDTO> schedules = new ArrayList<>(scheduleById.values());
+        schedules.sort(Comparator.comparing(MatrixCellDTO::getDate)
+                .thenComparing(MatrixCellDTO::getTime)
+                .thenComparing(MatrixCellDTO::getScheduleId));
+
+        long[] scheduleIds = new long[schedules.size()];
+        LocalDate[] dates = new LocalDate[schedules.size()];
+        LocalTime[] times = new LocalTime[schedules.size()];
+        Map<Long, Integer> scheduleOrdinals = new HashMap<>();
+        for (int i = 0; i < schedules.size(); i++) {
+            scheduleIds[i] = schedules.get(i).getScheduleId();
+            dates[i] = schedules.get(i).getDate();
+            times[i] = schedules.get(i).getTime();
+            scheduleOrdinals.put(scheduleIds[i], i);
+        }
+        long[] userIds = users.stream().mapToLong(Long::longValue).toArray();
+        Map<Long, Integer> userOrdinals = new HashMap<>();
+        for (int i = 0; i < userIds.length; i++)
+            userOrdinals.put(userIds[i], i);
+
+        AttendanceMatrix matrix = new AttendanceMatrix(teamId, scheduleIds, dates, times, userIds);
+        for (MatrixCellDTO cell : cells) {
+            int schedule = scheduleOrdinals.get(cell.getScheduleId());
+            int user = userOrdinals.get(cell.getUserId());
+            // 행이 없는 칸(희소 모드)은 상태만 찍고, 나중에 행이 생기면 모르는 출석이라 행렬을 다시 만듦
+            if (cell.getAttendanceId() != null)
+                matrix.cells.put(cell.getAttendanceId(), ((long) schedule << 32) | user);
+            matrix.mark(schedule, user, cell.getStatus());
+        }
+        return matrix;
+    }
+
+    // 출석 한 칸의 상태를 바꿈. 행렬에 없는 출석이면 false (구조가 바뀐 것이므로 다시 만들어야 함)
+    public synchronized boolean update(Long attendanceId, AttendanceEntity.Status status) {
+        Long cell = cells.get(attendanceId);
+        if (cell == null) return false;
+        int schedule = (int) (cell >>> 32);
+        int user = (int) (long) cell;
+        for (AttendanceEntity.Status old : STATUSES) {
+            clear(byUser[old.ordinal()][user], schedule);
+            clear(bySchedule[old.ordinal()][schedule], user);
+        }
+        mark(schedule, user, status);
+        return true;
+    }
+
+    // 유저별로 status가 연속된 최장 횟수. minLength 이상인 유저만 반환
+    public synchronized List<MatrixStreakDTO> streaks(AttendanceEntity.Status status, int minLength) {
+        List<MatrixStreakDTO> result = new ArrayList<>();
+        long[][] rows = byUser[status.ordinal()];
+        long[] buffer = new long[words(scheduleIds.length)];
+        for (int user = 0; user < userIds.length; user++) {
+            int longest = longestRun(rows[user], buffer);
+            if (longest >= minLength && longest > 0)
+                result.add(MatrixStreakDTO.builder()
+                        .userId(userIds[user])
+                        .longest(longest)
+                        .build());
+        }
+        return result;
+    }
+
+    // 스케쥴 회차별 상태별 인원 (시작 시각 순)
+    public synchronized List<MatrixSlotDTO> slots() {
+        List<MatrixSlotDTO> result = new ArrayList<>(scheduleIds.length);
+        for (int schedule = 0; schedule < scheduleIds.length; schedule++) {
+            result.add(MatrixSlotDTO.builder()
+                    .scheduleId(scheduleIds[schedule])
+                    .date(dates[schedule])
+                    .time(times[schedule])
+                    .present(count(bySchedule[AttendanceEntity.Status.PRESENT.ordinal()][schedule]))
+                    .late(count(bySchedule[AttendanceEntity.Status.LATE.ordinal()][schedule]))
+                    .absent(count(bySchedule[AttendanceEntity.Status.ABSENT.ordinal()][schedule]))
+                    .not(count(bySchedule[AttendanceEntity.Status.NOT.ordinal()][schedule]))
+                    .build());
+        }
+        return result;
+    }
+
+    public synchronized MatrixFootprintDTO footprint() {
+        long bitsets = STATUSES.length * (
+                (ARRAY_HEADER_BYTES + 8L * userIds.length + userIds.length * (ARRAY_HEADER_BYTES + 8L * words(scheduleIds.length)))
+                        + (ARRAY_HEADER_BYTES + 8L * scheduleIds.length + scheduleIds.length * (ARRAY_HEADER_BYTES + 8L * words(userIds.length))));
+        return MatrixFootprintDTO.builder()
+                .teamId(teamId)
+                .schedules(scheduleIds.length)
+                .users(userIds.length)
+                .cells(cells.size())
+                .bitsetBytes(bitsets)
+                .indexBytes((long) cells.size() * INDEX_ENTRY_BYTES)
+                .build();
+    }
+
+    private void mark(int schedule, int user, AttendanceEntity.Status status) {
+        set(byUser[status.ordinal()][user], schedule);
+        set(bySchedule[status.ordinal()][schedule], user);
+    }
+
+    // x &= (x >> 1) 을 반복하면 연속 구간이 한 칸씩 줄어들므로, 0이 될 때까지의 횟수가 최장 연속 길이
+    static int longestRun(long[] row, long[] buffer) {
+        System.arraycopy(row, 0, buffer, 0, row.length);
+        int length = 0;
+        while (any(buffer)) {
+            length++;
+            for (int i = 0; i < buffer.length; i++) {
+                // 다음 word의 최하위 비트가 이번 word의 최상위로 이어짐
+                long carry = i + 1 < buffer.length ? buffer[i + 1] << 63 : 0L;
+                buffer[i] &= (buffer[i] >>> 1) | carry;
+            }
+        }
+        return length;
+    }
+
+    private static boolean any(long[] words) {
+        for (long word : words)
+            if (word != 0L) return true;
+        return false;
+    }
+
+    private static int count(long[] words) {
+        int count = 0;
+        for (long word : words)
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    private static void set(long[] words, int bit) {
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    private static void clear(long[] words, int bit) {
+        words[bit >>> 6] &= ~(1L << bit);
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
@@ -0,0 +1,15 @@
+package com.likelion.attserver.DAO.Matrix;
+
+import com.likelion.attserver.DTO.Matrix.MatrixFootprintDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixSlotDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixStreakDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+
+import java.util.List;
+
+public interface AttendanceMatrixDAO {
+    AttendanceMatrix getMatrix(Long teamId);
+    List<MatrixStreakDTO> getStreaks(Long teamId, AttendanceEntity.Status status, int minLength);
+    List<MatrixSlotDTO> getSlots(Long teamId);
+    List<MatrixFootprintDTO> getFootprint();
+}
@@ -0,0 +1,124 @@
+package com.likelion.attserver.DAO.Matrix;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixCellDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixFootprintDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixSlotDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixStreakDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Event.AttendanceChangedEvent;
+import com.likelion.attserver.Event.MembershipChangedEvent;
+import com.likelion.attserver.Event.ScheduleChangedEvent;
+import com.likelion.attserver.Event.UserChangedEvent;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 팀별 출석 행렬을 처음 조회할 때 한 번 만들어 두고, 커밋된 출석 변경은 칸 단위로 반영.
+// 스케쥴/팀원 추가·삭제처럼 행렬 모양이 바뀌면 버리고 다음 조회 때 다시 만듦
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class AttendanceMatrixDAOImpl implements AttendanceMatrixDAO {
+    private final AttendanceRepository attendanceRepository;
+    private final TeamRepository teamRepository;
+    private final Map<Long, AttendanceMatrix> matrices = new ConcurrentHashMap<>();
+    // 팀별로 변경이 커밋될 때마다 올라감. 만드는 중에 바뀌었으면 그 행렬은 캐시하지 않음
+    private final Map<Long, Long> generations = new HashMap<>();
+    // 유저 삭제처럼 모든 팀 행렬을 버릴 때 올라감
+    private long resets;
+
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
+
+    @Override
+    public AttendanceMatrix getMatrix(Long teamId) {
+        AttendanceMatrix matrix = matrices.get(teamId);
+        if (matrix != null) return matrix;
+        // 트랜잭션의 첫 읽기보다 먼저 잡아야 그 스냅샷 뒤의 커밋을 놓치지 않음
+        long started = generation(teamId);
+        if (!teamRepository.existsById(teamId))
+            throw new IllegalArgumentException("Team not found");
+        matrix = AttendanceMatrix.of(teamId, findCells(teamId));
+        // 읽은 뒤 커밋된 변경은 캐시에 없어서 patch되지 않았으므로, 그 사이 바뀌었으면 이번 결과만 돌려줌
+        synchronized (this) {
+            if (started != generation(teamId)) return matrix;
+            AttendanceMatrix cached = matrices.putIfAbsent(teamId, matrix);
+            return cached != null ? cached : matrix;
+        }
+    }
+
+    private synchronized long generation(Long teamId) {
+        return resets + generations.getOrDefault(teamId, 0L);
+    }
+
+    // 희소 모드면 행이 없는 팀원 칸을 NOT으로 더함
+    private List<MatrixCellDTO> findCells(Long teamId) {
+        List<MatrixCellDTO> cells = attendanceRepository.findMatrixCells(teamId);
+        if (!sparse) return cells;
+        List<MatrixCellDTO> all = new ArrayList<>(cells);
+        all.addAll(attendanceRepository.findImplicitMatrixCells(teamId));
+        return all;
+    }
+
+    @Override
+    public List<MatrixStreakDTO> getStreaks(Long teamId, AttendanceEntity.Status status, int minLength) {
+        List<MatrixStreakDTO> streaks = new ArrayList<>(getMatrix(teamId).streaks(status, minLength));
+        streaks.sort(Comparator.comparingInt(MatrixStreakDTO::getLongest).reversed());
+        return streaks;
+    }
+
+    @Override
+    public List<MatrixSlotDTO> getSlots(Long teamId) {
+        return getMatrix(teamId).slots();
+    }
+
+    @Override
+    public List<MatrixFootprintDTO> getFootprint() {
+        return matrices.values().stream()
+                .map(AttendanceMatrix::footprint)
+                .sorted(Comparator.comparing(MatrixFootprintDTO::getTeamId))
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onAttendanceChanged(AttendanceChangedEvent event) {
+        for (AttendanceChangeDTO change : event.changes()) {
+            if (change.getTeamId() == null) continue;
+            generations.merge(change.getTeamId(), 1L, Long::sum);
+            matrices.computeIfPresent(change.getTeamId(), (teamId, matrix) ->
+                    matrix.update(change.getAttendanceId(), change.getNewStatus()) ? matrix : null);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onScheduleChanged(ScheduleChangedEvent event) {
+        generations.merge(event.teamId(), 1L, Long::sum);
+        matrices.remove(event.teamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMembershipChanged(MembershipChangedEvent event) {
+        generations.merge(event.teamId(), 1L, Long::sum);
+        matrices.remove(event.teamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        if (!event.removed()) return;
+        resets++;
+        matrices.clear();
+    }
+}
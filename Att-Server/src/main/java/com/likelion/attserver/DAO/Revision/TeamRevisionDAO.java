@@ -0,0 +1,8 @@
+package com.likelion.attserver.DAO.Revision;
+
+public interface TeamRevisionDAO {
+    String getTeamTag(Long teamId);
+    String getAllTag();
+    String getScheduleTag(Long teamId);
+    String getMembersTag();
+}
@@ -0,0 +1,97 @@
+package com.likelion.attserver.DAO.Revision;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.Event.AttendanceChangedEvent;
+import com.likelion.attserver.Event.DocsChangedEvent;
+import com.likelion.attserver.Event.MembershipChangedEvent;
+import com.likelion.attserver.Event.ScheduleChangedEvent;
+import com.likelion.attserver.Event.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 팀별 수정 버전. 스케쥴/출석/팀/문서 쓰기가 커밋되면 그 변경 이벤트를 받아 팀의 버전과 전체 버전을 올림.
+// 조회 쪽은 버전만 보고 ETag를 만들기 때문에 바뀐 게 없으면 엔티티를 읽지 않고 304로 끝남.
+// 메모리에만 있으므로 서버가 다시 뜨면 epoch가 바뀌어서 이전 ETag는 전부 무효가 됨
+@Component
+public class TeamRevisionDAOImpl implements TeamRevisionDAO {
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, Long> revisions = new ConcurrentHashMap<>();
+    private final AtomicLong all = new AtomicLong(); // 어느 팀이든 바뀌면 올라감
+    private final AtomicLong resets = new AtomicLong(); // 유저 정보 수정처럼 모든 팀에 걸치는 변경 횟수
+    // 스케쥴 목록(일정 자체)만의 버전. 출석만 바뀐 경우엔 안 올라가서 캘린더 피드가 다시 만들어지지 않음
+    private final Map<Long, Long> scheduleRevisions = new ConcurrentHashMap<>();
+    private final AtomicLong members = new AtomicLong(); // 팀 구성(누가 어느 팀인지) 변경 횟수
+
+    @Override
+    public String getTeamTag(Long teamId) {
+        return "team-" + teamId + "-" + epoch + "-" + resets.get() + "-" + revisions.getOrDefault(teamId, 0L);
+    }
+
+    @Override
+    public String getAllTag() {
+        return "all-" + epoch + "-" + all.get();
+    }
+
+    @Override
+    public String getScheduleTag(Long teamId) {
+        return "schedules-" + teamId + "-" + epoch + "-" + scheduleRevisions.getOrDefault(teamId, 0L);
+    }
+
+    @Override
+    public String getMembersTag() {
+        return "members-" + epoch + "-" + members.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (event.changes().isEmpty()) return;
+        if (event.changes().stream().anyMatch(change -> change.getTeamId() == null)) bumpAll();
+        else bump(event.changes().stream().map(AttendanceChangeDTO::getTeamId).collect(Collectors.toSet()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        bumpSchedules(event.teamId());
+    }
+
+    // 팀 이름은 캘린더 피드에도 들어가므로 스케쥴 버전도 같이 올림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        bumpSchedules(event.teamId());
+        members.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        bumpAll();
+        if (event.removed()) members.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDocsChanged(DocsChangedEvent event) {
+        bump(Set.of(event.teamId()));
+    }
+
+    private void bump(Set<Long> teamIds) {
+        teamIds.forEach(teamId -> revisions.merge(teamId, 1L, Long::sum));
+        all.incrementAndGet();
+    }
+
+    // 스케쥴 버전과 함께 팀 버전도 올림
+    private void bumpSchedules(Long teamId) {
+        scheduleRevisions.merge(teamId, 1L, Long::sum);
+        bump(Set.of(teamId));
+    }
+
+    private void bumpAll() {
+        resets.incrementAndGet();
+        all.incrementAndGet();
+    }
+}
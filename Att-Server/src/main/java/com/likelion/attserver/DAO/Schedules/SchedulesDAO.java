@@ -1,15 +1,21 @@
 package com.likelion.attserver.DAO.Schedules;
 
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
+import com.likelion.attserver.DTO.RecurringScheduleResultDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.ScheduleRowDTO;
 import com.likelion.attserver.DTO.SchedulesDTO;
 import com.likelion.attserver.Entity.SchedulesEntity;
 import com.likelion.attserver.Entity.UserEntity;
 
-import java.util.LinkedHashMap;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SchedulesDAO {
     void addSchedule(Long teamId, List<SchedulesDTO> schedules);
-    List<LinkedHashMap<String, Object>> getSchedules(Long teamId);
-    LinkedHashMap<String, List<LinkedHashMap<String, Object>>> getAllSchedules();
+    RecurringScheduleResultDTO addRecurringSchedules(RecurringScheduleDTO request);
+    List<ScheduleResponseDTO> getSchedules(Long teamId, LocalDate from, LocalDate to, boolean upcoming, Integer limit);
+    void streamAllSchedules(int fetchSize, Consumer<ScheduleRowDTO> sink);
     void removeSchedule(Long teamId, Long id);
 }
@@ -1,18 +1,37 @@
 package com.likelion.attserver.DAO.Schedules;
 
 import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
-import com.likelion.attserver.DTO.AttendanceDTO;
-import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.DAO.Batch.BatchInsertDAO;
+import com.likelion.attserver.DAO.Conflict.ScheduleConflictDAO;
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
+import com.likelion.attserver.DAO.Summary.SummaryDelta;
+import com.likelion.attserver.DTO.*;
 import com.likelion.attserver.Entity.AttendanceEntity;
 import com.likelion.attserver.Entity.SchedulesEntity;
 import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Event.ScheduleChangedEvent;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.SchedulesRepository;
 import com.likelion.attserver.Repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
@@ -20,92 +39,357 @@ import java.util.*;
 @RequiredArgsConstructor
 public class SchedulesDAOImpl implements SchedulesDAO {
     private final TeamRepository teamRepository;
+    private final SchedulesRepository schedulesRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchInsertDAO batchInsertDAO;
     private final AttendanceDAO attendanceDAO;
+    private final AttendanceSummaryDAO summaryDAO;
+    private final ScheduleConflictDAO conflictDAO;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
 
     @Override
     public void addSchedule(Long teamId, List<SchedulesDTO> scheduleDTOs) {
-        TeamEntity team = teamRepository.findById(teamId)
+        TeamEntity team = teamRepository.findWithSchedulesById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid team id"));
 
         // 기존 스케줄 목록을 메모리에서 한 번 조회
         List<SchedulesEntity> existingSchedules = team.getSchedules();
+        Set<ScheduleSlotDTO> taken = new HashSet<>();
+        for (SchedulesEntity schedule : existingSchedules)
+            taken.add(new ScheduleSlotDTO(teamId, schedule.getDate(), schedule.getTime()));
 
-        // 요청된 스케줄 중 중복 체크
+        // 요청된 스케줄 중 중복 체크 (요청 안에서 겹치는 것도 포함)
+        List<ScheduleIntervalDTO> intervals = new ArrayList<>();
         for(SchedulesDTO dto : scheduleDTOs) {
-            if (existSchedule(existingSchedules, dto)) {
+            if (!taken.add(new ScheduleSlotDTO(teamId, dto.getDate(), dto.getTime()))) {
                 log.info("Fail add schedule");
                 throw new IllegalStateException(
                         String.format("Schedule already exists: %s %s", dto.getDate(), dto.getTime())
                 );
             }
+            intervals.add(interval(teamId, dto.getDate(), dto.getTime(), dto.getDuration(), dto.getResources()));
+        }
+
+        // 다른 팀까지 포함해서 같은 자원을 쓰는 시간이 겹치면 거절
+        List<ScheduleConflictDTO> conflicts = conflictDAO.check(intervals);
+        if (!conflicts.isEmpty()) {
+            ScheduleConflictDTO conflict = conflicts.get(0);
+            throw new IllegalStateException(String.format("Schedule conflicts on %s with team %d: %s %s",
+                    conflict.getResource(), conflict.getConflictTeamId(), conflict.getConflictDate(), conflict.getConflictTime()));
+        }
 
-            // 중복 없으면 새 엔티티 추가
+        // 중복/충돌 없으면 새 엔티티 추가
+        List<SchedulesEntity> added = new ArrayList<>();
+        for (ScheduleIntervalDTO interval : intervals) {
             SchedulesEntity schedulesEntity = new SchedulesEntity();
-            schedulesEntity.setDate(dto.getDate());
-            schedulesEntity.setTime(dto.getTime());
-            schedulesEntity.setAttendances(attendanceDAO.addAttendances(team.getUsers()));
+            schedulesEntity.setDate(interval.getDate());
+            schedulesEntity.setTime(interval.getTime());
+            schedulesEntity.setDuration(interval.getDuration());
+            schedulesEntity.setResources(new LinkedHashSet<>(interval.getResources()));
+            schedulesEntity.setAttendances(attendanceDAO.addAttendances(teamId, team.getUsers()));
 
             existingSchedules.add(schedulesEntity);
+            added.add(schedulesEntity);
         }
 
         // 모든 작업 후 한 번에 DB 저장
         teamRepository.save(team);
+        if (intervals.stream().anyMatch(interval -> !interval.getResources().isEmpty())) {
+            // 인덱스에는 스케쥴 ID가 필요하므로 INSERT를 먼저 내보냄
+            entityManager.flush();
+            for (int i = 0; i < added.size(); i++)
+                intervals.get(i).setScheduleId(added.get(i).getId());
+        }
+        eventPublisher.publishEvent(ScheduleChangedEvent.added(teamId, intervals));
     }
 
-    private boolean existSchedule(List<SchedulesEntity> schedules, SchedulesDTO dto) {
-        return schedules.stream()
-                .anyMatch(schedule ->
-                        schedule.getDate().equals(dto.getDate()) &&
-                                schedule.getTime().equals(dto.getTime())
-                );
+    // 학기 전체처럼 팀 x 날짜 x 팀원 단위로 행이 많이 생기는 경우라 엔티티를 거치지 않고 JDBC 배치로 넣음.
+    // (IDENTITY 키라서 Hibernate는 INSERT를 한 줄씩 보냄) 이미 있는 (팀, 날짜, 시간)은 해시 셋으로 걸러서 건너뜀
+    @Override
+    public RecurringScheduleResultDTO addRecurringSchedules(RecurringScheduleDTO request) {
+        List<Long> allTeams = teamRepository.findAllIds();
+        List<Long> teamIds = request.getTeamIds() == null || request.getTeamIds().isEmpty()
+                ? allTeams
+                : new ArrayList<>(new LinkedHashSet<>(request.getTeamIds()));
+        Set<Long> knownTeams = new HashSet<>(allTeams);
+        for (Long teamId : teamIds)
+            if (!knownTeams.contains(teamId))
+                throw new IllegalArgumentException("Invalid team id (" + teamId + ")");
+        if (teamIds.isEmpty())
+            return RecurringScheduleResultDTO.builder().conflicts(List.of()).build();
+
+        Map<Long, List<Long>> members = new HashMap<>();
+        if (!sparse)
+            for (TeamMemberDTO member : teamRepository.findMembers(teamIds))
+                members.computeIfAbsent(member.getTeamId(), id -> new ArrayList<>()).add(member.getUserId());
+
+        List<LocalDate> dates = expandDates(request);
+        Set<ScheduleSlotDTO> taken = dates.isEmpty() ? new HashSet<>()
+                : new HashSet<>(schedulesRepository.findSlots(teamIds, dates.get(0), dates.get(dates.size() - 1)));
+        List<ScheduleSlotDTO> candidates = new ArrayList<>();
+        int skipped = 0;
+        for (Long teamId : teamIds) {
+            for (LocalDate date : dates) {
+                ScheduleSlotDTO slot = new ScheduleSlotDTO(teamId, date, request.getTime());
+                if (taken.add(slot)) candidates.add(slot);
+                else skipped++;
+            }
+        }
+
+        // 자원 태그가 있으면 전체 후보를 한 번에 검사하고, 겹치는 회차는 빼고 결과로 알려줌
+        List<ScheduleIntervalDTO> intervals = candidates.stream()
+                .map(slot -> interval(slot.getTeamId(), slot.getDate(), slot.getTime(),
+                        request.getDuration(), request.getResources()))
+                .toList();
+        List<ScheduleConflictDTO> conflicts = conflictDAO.check(intervals);
+        Set<ScheduleSlotDTO> conflicted = conflicts.stream()
+                .map(conflict -> new ScheduleSlotDTO(conflict.getTeamId(), conflict.getDate(), conflict.getTime()))
+                .collect(Collectors.toSet());
+        List<ScheduleSlotDTO> slots = new ArrayList<>(candidates.size());
+        List<ScheduleIntervalDTO> accepted = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (conflicted.contains(candidates.get(i))) continue;
+            slots.add(candidates.get(i));
+            accepted.add(intervals.get(i));
+        }
+
+        List<Long> scheduleIds = batchInsertDAO.insertReturningIds(
+                "insert into schedules (date, time, duration, finalized) values (?, ?, ?, false)",
+                slots.size(), (ps, i) -> {
+                    ScheduleSlotDTO slot = slots.get(i);
+                    ps.setObject(1, slot.getDate());
+                    ps.setObject(2, slot.getTime());
+                    ps.setInt(3, accepted.get(i).getDuration());
+                });
+        for (int i = 0; i < accepted.size(); i++)
+            accepted.get(i).setScheduleId(scheduleIds.get(i));
+
+        // 스케쥴마다 그 팀의 팀원 수만큼 NOT 출석. 희소 모드면 행 없이 두고 조회 때 NOT으로 채움
+        List<long[]> owners = new ArrayList<>(); // {스케쥴 ID, 학번}
+        SummaryDelta delta = new SummaryDelta();
+        for (int i = 0; i < slots.size(); i++) {
+            Long teamId = slots.get(i).getTeamId();
+            for (Long userId : members.getOrDefault(teamId, List.of())) {
+                owners.add(new long[]{scheduleIds.get(i), userId});
+                delta.add(teamId, userId, AttendanceEntity.Status.NOT, null);
+            }
+        }
+        List<Long> attendanceIds = batchInsertDAO.insertReturningIds(
+                "insert into attendance (user_id, status, version) values (?, 'NOT', 0)",
+                owners.size(), (ps, i) -> ps.setLong(1, owners.get(i)[1]));
+
+        // 팀 -> 스케쥴, 스케쥴 -> 출석 조인 테이블
+        batchInsertDAO.insert("insert into team_schedules (team_entity_id, schedules_id) values (?, ?)",
+                slots.size(), (ps, i) -> {
+                    ps.setLong(1, slots.get(i).getTeamId());
+                    ps.setLong(2, scheduleIds.get(i));
+                });
+        batchInsertDAO.insert("insert into schedules_attendances (schedules_entity_id, attendances_id) values (?, ?)",
+                owners.size(), (ps, i) -> {
+                    ps.setLong(1, owners.get(i)[0]);
+                    ps.setLong(2, attendanceIds.get(i));
+                });
+
+        List<String> resources = accepted.isEmpty() ? List.of() : accepted.get(0).getResources();
+        if (!resources.isEmpty()) {
+            batchInsertDAO.insert("insert into schedule_resources (schedule_id, resource) values (?, ?)",
+                    slots.size() * resources.size(), (ps, i) -> {
+                        ps.setLong(1, scheduleIds.get(i / resources.size()));
+                        ps.setString(2, resources.get(i % resources.size()));
+                    });
+        }
+
+        summaryDAO.apply(delta);
+        accepted.stream()
+                .collect(Collectors.groupingBy(ScheduleIntervalDTO::getTeamId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((teamId, teamIntervals) -> eventPublisher.publishEvent(ScheduleChangedEvent.added(teamId, teamIntervals)));
+        log.info("Added {} recurring schedules ({} skipped, {} conflicts) to {} teams",
+                slots.size(), skipped, conflicts.size(), teamIds.size());
+        return RecurringScheduleResultDTO.builder()
+                .teams(teamIds.size())
+                .schedules(slots.size())
+                .skipped(skipped)
+                .attendances(attendanceIds.size())
+                .conflicts(conflicts)
+                .build();
     }
 
+    private static ScheduleIntervalDTO interval(Long teamId, LocalDate date, LocalTime time, Integer duration, List<String> resources) {
+        return ScheduleIntervalDTO.builder()
+                .teamId(teamId)
+                .date(date)
+                .time(time)
+                .duration(duration == null ? SchedulesEntity.DEFAULT_DURATION : duration)
+                .resources(resources == null ? List.of() : resources)
+                .build();
+    }
+
+    private static List<LocalDate> expandDates(RecurringScheduleDTO request) {
+        Set<DayOfWeek> days = EnumSet.copyOf(request.getDays());
+        Set<LocalDate> except = request.getExcept() == null ? Set.of() : new HashSet<>(request.getExcept());
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = request.getFrom(); !date.isAfter(request.getTo()); date = date.plusDays(1))
+            if (days.contains(date.getDayOfWeek()) && !except.contains(date))
+                dates.add(date);
+        return dates;
+    }
+
+    // 팀의 스케쥴 ID는 팀 조인 테이블 인덱스로 찾고 날짜 조건으로 거른 뒤 정렬된 순서로 limit개만 읽고,
+    // 그 스케쥴들의 출석만 한 번 더 조회해서 묶음
     @Override
-    public List<LinkedHashMap<String, Object>> getSchedules(Long teamId) {
-        List<LinkedHashMap<String, Object>> result = new ArrayList<>();
-        List<SchedulesEntity> schedules = teamRepository.getSchedulesById(teamId);
+    public List<ScheduleResponseDTO> getSchedules(Long teamId, LocalDate from, LocalDate to,
+                                                  boolean upcoming, Integer limit) {
+        StringBuilder jpql = new StringBuilder("select s.id from TeamEntity t join t.schedules s where t.id = :teamId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("teamId", teamId);
+        if (from != null) {
+            jpql.append(" and s.date >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" and s.date <= :to");
+            params.put("to", to);
+        }
+        if (upcoming) {
+            // 아직 시작하지 않은 스케쥴만
+            LocalDateTime now = LocalDateTime.now();
+            jpql.append(" and (s.date > :today or (s.date = :today and s.time >= :now))");
+            params.put("today", now.toLocalDate());
+            params.put("now", now.toLocalTime());
+        }
+        jpql.append(" order by s.date, s.time, s.id");
 
-        convertScheduleList(schedules, result);
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        params.forEach(query::setParameter);
+        if (limit != null) query.setMaxResults(limit);
+        List<Long> ids = query.getResultList();
+        if (ids.isEmpty()) {
+            // 결과가 없을 때만 팀이 있는지 확인해서 없는 팀과 스케쥴 없는 팀을 구분
+            if (!teamRepository.existsById(teamId))
+                throw new IllegalArgumentException("Team not found");
+            return new ArrayList<>();
+        }
 
+        // 스케쥴 -> 출석 순으로 정렬된 행을 앞에서부터 묶음
+        List<ScheduleResponseDTO> result = new ArrayList<>();
+        ScheduleResponseDTO current = null;
+        for (ScheduleRowDTO row : schedulesRepository.findScheduleRows(ids)) {
+            if (current == null || !current.getId().equals(row.getScheduleId())) {
+                current = ScheduleResponseDTO.builder()
+                        .id(row.getScheduleId())
+                        .date(row.getDate())
+                        .time(row.getTime())
+                        .attendances(new ArrayList<>())
+                        .build();
+                result.add(current);
+            }
+            if (row.getAttendanceId() != null)
+                current.getAttendances().add(row.toAttendanceDTO());
+        }
+        if (sparse) {
+            List<TeamMemberUserDTO> members = teamRepository.findMemberUsers(teamId);
+            for (ScheduleResponseDTO schedule : result)
+                addImplicitAttendances(schedule, members);
+        }
         return result;
     }
 
-    private static void convertScheduleList(List<SchedulesEntity> schedules, List<LinkedHashMap<String, Object>> result) {
-        for (SchedulesEntity schedule : schedules) {
-            LinkedHashMap<String, Object> scheduleMap = new LinkedHashMap<>();
-            scheduleMap.put("id", schedule.getId());
-            scheduleMap.put("date", schedule.getDate());
-            scheduleMap.put("time", schedule.getTime());
+    // 행이 없는 팀원 칸은 ID 없는 NOT 출석으로 채움 (학번 순). 스케쥴 ID와 학번으로 그대로 수정 요청을 보낼 수 있음
+    private static void addImplicitAttendances(ScheduleResponseDTO schedule, List<TeamMemberUserDTO> members) {
+        Set<Long> recorded = new HashSet<>();
+        for (AttendanceDTO attendance : schedule.getAttendances())
+            recorded.add(attendance.getUser().getStudentId());
+        for (TeamMemberUserDTO member : members) {
+            if (recorded.contains(member.getUserId())) continue;
+            schedule.getAttendances().add(AttendanceDTO.builder()
+                    .scheduleId(schedule.getId())
+                    .user(member.toUserDTO())
+                    .status(AttendanceEntity.Status.NOT)
+                    .build());
+        }
+    }
 
-            List<AttendanceDTO> attendanceDTOS = new ArrayList<>();
-            for(AttendanceEntity attendance : schedule.getAttendances())
-                attendanceDTOS.add(AttendanceEntity.toDTO(attendance));
+    // 전체 팀의 스케쥴과 출석, 유저까지 한 번의 조회로 펼쳐서 (팀, 스케쥴, 출석 ID 순)
+    // forward-only 커서로 한 행씩 넘김. DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음.
+    // 희소 모드면 팀원 목록을 커서를 열기 전에 한 번 더 읽어서 스케쥴마다 빠진 팀원을 NOT으로 채움
+    @Override
+    public void streamAllSchedules(int fetchSize, Consumer<ScheduleRowDTO> sink) {
+        ImplicitRows implicit = sparse ? new ImplicitRows(teamRepository.findAllMemberUsers(), sink) : null;
+        try (Stream<ScheduleRowDTO> rows = entityManager.createQuery(
+                        "select new com.likelion.attserver.DTO.ScheduleRowDTO(t.id, s.id, s.date, s.time, " +
+                                "a.id, a.status, a.note, a.score, a.version, u.id, u.name, u.phone, u.email, u.track, u.role) " +
+                                "from TeamEntity t left join t.schedules s left join s.attendances a left join a.user u " +
+                                "order by t.id, s.id, a.id", ScheduleRowDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(implicit == null ? sink : implicit);
+        }
+        if (implicit != null) implicit.flush();
+    }
 
-            scheduleMap.put("attendances", attendanceDTOS);
+    // (팀, 스케쥴) 순으로 정렬된 행을 그대로 넘기다가 스케쥴 하나가 끝나면 행이 없던 팀원을 NOT 행으로 이어서 넘김
+    private static class ImplicitRows implements Consumer<ScheduleRowDTO> {
+        private final Map<Long, List<TeamMemberUserDTO>> members;
+        private final Consumer<ScheduleRowDTO> sink;
+        private final Set<Long> recorded = new HashSet<>();
+        private ScheduleRowDTO schedule;
 
-            result.add(scheduleMap);
+        ImplicitRows(List<TeamMemberUserDTO> members, Consumer<ScheduleRowDTO> sink) {
+            this.members = members.stream().collect(Collectors.groupingBy(TeamMemberUserDTO::getTeamId));
+            this.sink = sink;
         }
-    }
 
-    @Override
-    public LinkedHashMap<String, List<LinkedHashMap<String, Object>>> getAllSchedules() {
-        LinkedHashMap<String, List<LinkedHashMap<String, Object>>> result = new LinkedHashMap<>();
-        List<TeamEntity> teams = teamRepository.findAll();
-        for(TeamEntity team : teams) {
-            result.put(team.getId().toString(), getSchedules(team.getId()));
+        @Override
+        public void accept(ScheduleRowDTO row) {
+            if (schedule != null && !(schedule.getTeamId().equals(row.getTeamId())
+                    && Objects.equals(schedule.getScheduleId(), row.getScheduleId())))
+                flush();
+            if (schedule == null) schedule = row;
+            if (row.getUserId() != null) recorded.add(row.getUserId());
+            sink.accept(row);
+        }
+
+        void flush() {
+            if (schedule != null && schedule.getScheduleId() != null)
+                for (TeamMemberUserDTO member : members.getOrDefault(schedule.getTeamId(), List.of()))
+                    if (!recorded.contains(member.getUserId()))
+                        sink.accept(ScheduleRowDTO.implicit(schedule, member));
+            schedule = null;
+            recorded.clear();
         }
-        return result;
     }
 
+    // 팀 엔티티를 읽지 않고 소유만 확인한 뒤, 출석/조인 테이블/스케쥴을 집합 단위 DELETE로 지움
     @Override
     public void removeSchedule(Long teamId, Long id) {
-        TeamEntity team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid team id"));
-        boolean removed = team.getSchedules().removeIf(schedule -> schedule.getId().equals(id));
-
-        if (!removed) {
+        if (!schedulesRepository.existsInTeam(id, teamId)) {
+            if (!teamRepository.existsById(teamId))
+                throw new IllegalArgumentException("Invalid team id");
             throw new NoSuchElementException("Invalid Schedule Id (" + id + ").");
         }
-        teamRepository.save(team);
+
+        // 지워지는 출석만큼 요약 카운터에서 차감
+        List<ScheduleAttendanceDTO> attendances = schedulesRepository.findAttendancesOf(id);
+        SummaryDelta delta = new SummaryDelta();
+        for (ScheduleAttendanceDTO attendance : attendances)
+            delta.remove(teamId, attendance.getUserId(), attendance.getStatus(), attendance.getScore());
+        summaryDAO.apply(delta);
+
+        // 조인 테이블 행을 먼저 지워야 FK에 걸리지 않음
+        jdbcTemplate.update("delete from schedules_attendances where schedules_entity_id = ?", id);
+        if (!attendances.isEmpty())
+            attendanceRepository.deleteAllByIdInBatch(attendances.stream()
+                    .map(ScheduleAttendanceDTO::getAttendanceId)
+                    .toList());
+        jdbcTemplate.update("delete from team_schedules where schedules_id = ?", id);
+        jdbcTemplate.update("delete from schedule_resources where schedule_id = ?", id);
+        schedulesRepository.deleteAllByIdInBatch(List.of(id));
+        eventPublisher.publishEvent(ScheduleChangedEvent.removed(teamId, id, attendances));
     }
 }
\ No newline at end of file
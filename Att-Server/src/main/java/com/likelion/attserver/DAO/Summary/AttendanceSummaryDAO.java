@@ -0,0 +1,17 @@
+package com.likelion.attserver.DAO.Summary;
+
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.Stats.SummaryDriftDTO;
+
+import java.util.List;
+
+public interface AttendanceSummaryDAO {
+    void apply(SummaryDelta delta);
+    void removeMember(Long teamId, Long userId);
+    void removeTeam(Long teamId);
+    void removeUser(Long userId);
+    List<AttendanceSummaryDTO> getUserSummary(Long userId);
+    List<AttendanceSummaryDTO> getTeamSummary(Long teamId);
+    List<SummaryDriftDTO> verify();
+    List<SummaryDriftDTO> rebuild();
+}
@@ -0,0 +1,183 @@
+package com.likelion.attserver.DAO.Summary;
+
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.Stats.MemberCountDTO;
+import com.likelion.attserver.DTO.Stats.SummaryDriftDTO;
+import com.likelion.attserver.DTO.Stats.SummaryRowDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.AttendanceSummaryEntity;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.AttendanceSummaryRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class AttendanceSummaryDAOImpl implements AttendanceSummaryDAO {
+    private final AttendanceSummaryRepository summaryRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final TeamRepository teamRepository;
+
+    // 희소 모드에서는 카운터에 행이 있는 칸만 들어있으므로 조회 때 행이 없는 NOT 칸 수를 더함
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
+
+    @Override
+    public void apply(SummaryDelta delta) {
+        for (Map.Entry<SummaryDelta.Key, long[]> entry : delta.getDeltas().entrySet()) {
+            SummaryDelta.Key key = entry.getKey();
+            long[] d = entry.getValue();
+            if (Arrays.stream(d).allMatch(value -> value == 0)) continue;
+
+            // 카운터 행이 있으면 DB에서 원자적으로 증감, 없으면 같은 문장에서 새로 생성
+            summaryRepository.upsert(key.userId(), key.teamId(),
+                    d[AttendanceEntity.Status.PRESENT.ordinal()],
+                    d[AttendanceEntity.Status.LATE.ordinal()],
+                    d[AttendanceEntity.Status.ABSENT.ordinal()],
+                    d[AttendanceEntity.Status.NOT.ordinal()],
+                    d[SummaryDelta.SCORE]);
+        }
+    }
+
+    @Override
+    public void removeMember(Long teamId, Long userId) {
+        summaryRepository.deleteMember(userId, teamId);
+    }
+
+    @Override
+    public void removeTeam(Long teamId) {
+        summaryRepository.deleteTeam(teamId);
+    }
+
+    @Override
+    public void removeUser(Long userId) {
+        summaryRepository.deleteUser(userId);
+    }
+
+    @Override
+    public List<AttendanceSummaryDTO> getUserSummary(Long userId) {
+        List<AttendanceSummaryDTO> summaries = summaryRepository.findByUserId(userId).stream()
+                .map(AttendanceSummaryDTO::of)
+                .toList();
+        if (!sparse) return summaries;
+        List<Long> teamIds = teamRepository.findTeamIdsByUserId(userId);
+        if (teamIds.isEmpty()) return summaries;
+        return withImplicit(summaries, attendanceRepository.findMemberCountsByTeamIdIn(teamIds).stream()
+                .filter(count -> count.getUserId().equals(userId))
+                .toList());
+    }
+
+    @Override
+    public List<AttendanceSummaryDTO> getTeamSummary(Long teamId) {
+        List<AttendanceSummaryDTO> summaries = summaryRepository.findByTeamId(teamId).stream()
+                .map(AttendanceSummaryDTO::of)
+                .toList();
+        if (!sparse) return summaries;
+        return withImplicit(summaries, attendanceRepository.findMemberCountsByTeamIdIn(List.of(teamId)));
+    }
+
+    // 팀원별 (스케쥴 수 - 행 수)를 NOT에 더함. 아직 행이 하나도 없는 팀원은 새 항목으로 붙임
+    private static List<AttendanceSummaryDTO> withImplicit(List<AttendanceSummaryDTO> summaries, List<MemberCountDTO> counts) {
+        Map<SummaryDelta.Key, AttendanceSummaryDTO> byKey = new LinkedHashMap<>();
+        for (AttendanceSummaryDTO summary : summaries)
+            byKey.put(new SummaryDelta.Key(summary.getTeamId(), summary.getUserId()), summary);
+        for (MemberCountDTO count : counts) {
+            if (count.getImplicit() == 0) continue;
+            AttendanceSummaryDTO summary = byKey.computeIfAbsent(new SummaryDelta.Key(count.getTeamId(), count.getUserId()),
+                    key -> AttendanceSummaryDTO.builder().teamId(key.teamId()).userId(key.userId()).build());
+            summary.setNot(summary.getNot() + count.getImplicit());
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    // 출석 테이블에서 다시 센 값과 저장된 카운터를 비교
+    @Override
+    public List<SummaryDriftDTO> verify() {
+        Map<SummaryDelta.Key, AttendanceSummaryDTO> expected = countExpected();
+        Map<SummaryDelta.Key, AttendanceSummaryEntity> stored = new HashMap<>();
+        for (AttendanceSummaryEntity summary : summaryRepository.findAll())
+            stored.put(new SummaryDelta.Key(summary.getTeamId(), summary.getUserId()), summary);
+
+        Set<SummaryDelta.Key> keys = new LinkedHashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+
+        List<SummaryDriftDTO> drifts = new ArrayList<>();
+        for (SummaryDelta.Key key : keys) {
+            AttendanceSummaryDTO storedDTO = stored.containsKey(key) ? AttendanceSummaryDTO.of(stored.get(key)) : null;
+            AttendanceSummaryDTO expectedDTO = expected.get(key);
+            if (sameCounts(storedDTO, expectedDTO)) continue;
+            drifts.add(SummaryDriftDTO.builder()
+                    .userId(key.userId())
+                    .teamId(key.teamId())
+                    .stored(storedDTO)
+                    .expected(expectedDTO)
+                    .build());
+        }
+        return drifts;
+    }
+
+    // 어긋난 카운터만 다시 계산한 값으로 덮어씀
+    @Override
+    public List<SummaryDriftDTO> rebuild() {
+        List<SummaryDriftDTO> drifts = verify();
+        for (SummaryDriftDTO drift : drifts) {
+            AttendanceSummaryDTO expected = drift.getExpected();
+            if (expected == null) {
+                summaryRepository.deleteMember(drift.getUserId(), drift.getTeamId());
+                continue;
+            }
+            if (drift.getStored() != null)
+                summaryRepository.deleteMember(drift.getUserId(), drift.getTeamId());
+            summaryRepository.save(AttendanceSummaryEntity.builder()
+                    .userId(expected.getUserId())
+                    .teamId(expected.getTeamId())
+                    .presentCount(expected.getPresent())
+                    .lateCount(expected.getLate())
+                    .absentCount(expected.getAbsent())
+                    .notCount(expected.getNot())
+                    .scoreTotal(expected.getScore())
+                    .build());
+        }
+        if (!drifts.isEmpty())
+            log.info("Rebuilt {} attendance summary rows", drifts.size());
+        return drifts;
+    }
+
+    private Map<SummaryDelta.Key, AttendanceSummaryDTO> countExpected() {
+        Map<SummaryDelta.Key, AttendanceSummaryDTO> expected = new LinkedHashMap<>();
+        for (SummaryRowDTO row : attendanceRepository.countByTeamUserAndStatus()) {
+            AttendanceSummaryDTO summary = expected.computeIfAbsent(
+                    new SummaryDelta.Key(row.getTeamId(), row.getUserId()),
+                    key -> AttendanceSummaryDTO.builder().teamId(key.teamId()).userId(key.userId()).build());
+            switch (row.getStatus()) {
+                case PRESENT -> summary.setPresent(summary.getPresent() + row.getCount());
+                case LATE -> summary.setLate(summary.getLate() + row.getCount());
+                case ABSENT -> summary.setAbsent(summary.getAbsent() + row.getCount());
+                case NOT -> summary.setNot(summary.getNot() + row.getCount());
+            }
+            summary.setScore(summary.getScore() + row.getScore());
+        }
+        return expected;
+    }
+
+    private static boolean sameCounts(AttendanceSummaryDTO a, AttendanceSummaryDTO b) {
+        if (a == null || b == null) return isEmpty(a) && isEmpty(b);
+        return a.getPresent() == b.getPresent()
+                && a.getLate() == b.getLate()
+                && a.getAbsent() == b.getAbsent()
+                && a.getNot() == b.getNot()
+                && a.getScore() == b.getScore();
+    }
+
+    private static boolean isEmpty(AttendanceSummaryDTO summary) {
+        return summary == null || sameCounts(summary, AttendanceSummaryDTO.builder().build());
+    }
+}
@@ -0,0 +1,42 @@
+package com.likelion.attserver.DAO.Summary;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 한 트랜잭션에서 바뀐 출석들을 (팀, 유저) 단위 증감값으로 모아두는 버퍼
+public class SummaryDelta {
+    // 상태별 증감은 Status.ordinal() 위치, 점수 증감은 마지막 칸
+    static final int SCORE = AttendanceEntity.Status.values().length;
+
+    private final Map<Key, long[]> deltas = new LinkedHashMap<>();
+
+    public SummaryDelta add(Long teamId, Long userId, AttendanceEntity.Status status, Long score) {
+        return apply(teamId, userId, status, score, 1);
+    }
+
+    public SummaryDelta remove(Long teamId, Long userId, AttendanceEntity.Status status, Long score) {
+        return apply(teamId, userId, status, score, -1);
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    Map<Key, long[]> getDeltas() {
+        return deltas;
+    }
+
+    private SummaryDelta apply(Long teamId, Long userId, AttendanceEntity.Status status, Long score, int sign) {
+        // 팀에 속하지 않은 출석은 집계 대상이 아님
+        if (teamId == null || userId == null || status == null) return this;
+        long[] delta = deltas.computeIfAbsent(new Key(teamId, userId), key -> new long[SCORE + 1]);
+        delta[status.ordinal()] += sign;
+        if (score != null) delta[SCORE] += sign * score;
+        return this;
+    }
+
+    record Key(Long teamId, Long userId) {
+    }
+}
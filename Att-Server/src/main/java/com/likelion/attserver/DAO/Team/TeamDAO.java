@@ -1,5 +1,6 @@
 package com.likelion.attserver.DAO.Team;
 
+import com.likelion.attserver.DTO.TeamMembersResultDTO;
 import com.likelion.attserver.DTO.UserDTO;
 import com.likelion.attserver.Entity.TeamEntity;
 import com.likelion.attserver.Entity.UserEntity;
@@ -10,6 +11,7 @@ import java.util.Map;
 
 public interface TeamDAO {
     Long addTeam(Long teamId, String note, List<Long> teamData);
+    TeamMembersResultDTO setMembers(Long teamId, List<Long> userIds);
     Map<String, List<UserDTO>> getTeam(Long teamId);
     LinkedHashMap<Long, LinkedHashMap<String, List<UserDTO>>> getTeams();
     void removeTeam(Long teamId);
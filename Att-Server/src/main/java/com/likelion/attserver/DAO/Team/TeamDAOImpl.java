@@ -1,12 +1,16 @@
 package com.likelion.attserver.DAO.Team;
 
-import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Batch.BatchInsertDAO;
 import com.likelion.attserver.DAO.Docs.DocsDAO;
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
+import com.likelion.attserver.DAO.Summary.SummaryDelta;
+import com.likelion.attserver.DTO.TeamMemberDTO;
+import com.likelion.attserver.DTO.TeamMembersResultDTO;
 import com.likelion.attserver.DTO.UserDTO;
 import com.likelion.attserver.Entity.AttendanceEntity;
-import com.likelion.attserver.Entity.SchedulesEntity;
 import com.likelion.attserver.Entity.TeamEntity;
 import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Event.MembershipChangedEvent;
 import com.likelion.attserver.Repository.AttendanceRepository;
 import com.likelion.attserver.Repository.SchedulesRepository;
 import com.likelion.attserver.Repository.TeamRepository;
@@ -14,6 +18,9 @@ import com.likelion.attserver.Repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -26,10 +33,16 @@ import java.util.stream.Collectors;
 public class TeamDAOImpl implements TeamDAO {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
-    private final AttendanceDAO attendanceDAO;
     private final SchedulesRepository schedulesRepository;
     private final AttendanceRepository attendanceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchInsertDAO batchInsertDAO;
     private final DocsDAO docsDAO;
+    private final AttendanceSummaryDAO summaryDAO;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${att.attendance.sparse:false}")
+    private boolean sparse;
 
     @Override
     public Long addTeam(Long teamId, String note, List<Long> teamData) {
@@ -40,42 +53,120 @@ public class TeamDAOImpl implements TeamDAO {
             teamEntity.setId(teamId);
             teamEntity.setNote(note);
             teamEntity.setUsers(users);
+            eventPublisher.publishEvent(new MembershipChangedEvent(teamId,
+                    users.stream().map(UserEntity::getId).toList(), List.of(), false));
             return teamRepository.save(teamEntity).getId();
         } else {
+            // 팀 엔티티는 이름만 바꾸고, 팀원은 스케쥴/출석을 읽지 않고 차이만 반영
             TeamEntity teamEntity = teamRepository.findById(teamId)
                     .orElseThrow(() -> new IllegalArgumentException("Team not found"));
             teamEntity.setNote(note);
-            for (Long data : teamData) {
-                // UserEntity 리스트에서 ID를 비교하여 중복 확인 스트림은 신이야
-                boolean exists = teamEntity.getUsers().stream()
-                        .anyMatch(user -> user.getId().equals(data));
-
-                UserEntity user = userRepository.findById(data)
-                        .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-                if (!exists) {
-                    teamEntity.getUsers().add(user);
-
-                    // 이미 있는 스케쥴에 출석 추가
-                    for(SchedulesEntity schedule : teamEntity.getSchedules()) {
-                        schedule.getAttendances().add(attendanceDAO.addAttendance(user));
-                    }
-                } else {
-                    teamEntity.getSchedules().forEach(schedule ->
-                            schedule.getAttendances().removeIf(attendanceEntity ->
-                                    attendanceEntity.getUser().equals(user)
-                            )
-                    );
-                    teamEntity.getUsers().remove(user);
+            List<Long> added = List.of();
+            List<Long> removed = List.of();
+            if (!teamData.isEmpty()) {
+                // 보낸 학번마다 이미 팀원이면 빼고 아니면 넣은 목록으로 맞춤
+                Set<Long> members = new LinkedHashSet<>();
+                teamRepository.findMembers(List.of(teamId)).forEach(member -> members.add(member.getUserId()));
+                for (Long data : teamData) {
+                    if (!members.remove(data)) members.add(data);
                 }
+                // 기존 토글 경로는 예전처럼 다른 팀 소속이어도 추가함
+                TeamMembersResultDTO result = applyMembers(teamId, members, false);
+                added = result.getAdded();
+                removed = result.getRemoved();
             }
+            // 팀원이 그대로여도 팀 이름이 바뀌었을 수 있으므로 보냄
+            eventPublisher.publishEvent(new MembershipChangedEvent(teamId, added, removed, false));
             return teamRepository.save(teamEntity).getId();
         }
     }
 
+    @Override
+    public TeamMembersResultDTO setMembers(Long teamId, List<Long> userIds) {
+        if (!teamRepository.existsById(teamId))
+            throw new IllegalArgumentException("Team not found");
+        TeamMembersResultDTO result = applyMembers(teamId, new LinkedHashSet<>(userIds), true);
+        if (!result.getAdded().isEmpty() || !result.getRemoved().isEmpty())
+            eventPublisher.publishEvent(new MembershipChangedEvent(teamId, result.getAdded(), result.getRemoved(), false));
+        return result;
+    }
+
+    // 지금 팀원과 target의 차이를 해시 집합으로 구해서, 새 팀원은 한 번에 확인하고
+    // 팀원 조인 테이블과 출석 행은 배치 INSERT / 집합 단위 DELETE로 맞춤
+    // exclusive면 다른 팀에 이미 속한 유저는 받지 않음 (목록으로 맞추는 API에서만)
+    private TeamMembersResultDTO applyMembers(Long teamId, Set<Long> target, boolean exclusive) {
+        Set<Long> current = new HashSet<>();
+        for (TeamMemberDTO member : teamRepository.findMembers(List.of(teamId)))
+            current.add(member.getUserId());
+        List<Long> added = target.stream().filter(userId -> !current.contains(userId)).toList();
+        List<Long> removed = current.stream().filter(userId -> !target.contains(userId)).sorted().toList();
+        TeamMembersResultDTO result = TeamMembersResultDTO.builder()
+                .teamId(teamId)
+                .added(added)
+                .removed(removed)
+                .build();
+        if (added.isEmpty() && removed.isEmpty()) return result;
+
+        if (!added.isEmpty()) {
+            Set<Long> found = userRepository.findAllById(added).stream()
+                    .map(UserEntity::getId)
+                    .collect(Collectors.toSet());
+            List<Long> missing = added.stream().filter(userId -> !found.contains(userId)).toList();
+            if (!missing.isEmpty())
+                throw new IllegalArgumentException("User not found: " + missing);
+            List<TeamMemberDTO> taken = exclusive ? teamRepository.findMembershipsOf(added) : List.of();
+            if (!taken.isEmpty())
+                throw new IllegalArgumentException("User " + taken.get(0).getUserId()
+                        + " is already in team " + taken.get(0).getTeamId());
+        }
+
+        if (!removed.isEmpty()) {
+            // 조인 테이블 행을 먼저 지워야 FK에 걸리지 않음
+            List<Long> attendanceIds = attendanceRepository.findIdsByTeamIdAndUserIdIn(teamId, removed);
+            jdbcTemplate.batchUpdate("delete from schedules_attendances " +
+                            "where schedules_entity_id in (select schedules_id from team_schedules where team_entity_id = ?) " +
+                            "and attendances_id in (select id from attendance where user_id = ?)",
+                    removed.stream().map(userId -> new Object[]{teamId, userId}).toList());
+            if (!attendanceIds.isEmpty())
+                attendanceRepository.deleteAllByIdInBatch(attendanceIds);
+            jdbcTemplate.batchUpdate("delete from team_users where team_entity_id = ? and users_id = ?",
+                    removed.stream().map(userId -> new Object[]{teamId, userId}).toList());
+            removed.forEach(userId -> summaryDAO.removeMember(teamId, userId));
+            result.setDeletedAttendances(attendanceIds.size());
+        }
+
+        if (!added.isEmpty()) {
+            batchInsertDAO.insert("insert into team_users (team_entity_id, users_id) values (?, ?)",
+                    added.size(), (ps, i) -> {
+                        ps.setLong(1, teamId);
+                        ps.setLong(2, added.get(i));
+                    });
+            // 이미 있는 스케쥴마다 새 팀원의 NOT 출석. 희소 모드면 행 없이 두고 조회 때 NOT으로 채움
+            if (!sparse) {
+                List<Long> scheduleIds = schedulesRepository.findIdsByTeamId(teamId);
+                int count = scheduleIds.size() * added.size();
+                List<Long> attendanceIds = batchInsertDAO.insertReturningIds(
+                        "insert into attendance (user_id, status, version) values (?, 'NOT', 0)",
+                        count, (ps, i) -> ps.setLong(1, added.get(i % added.size())));
+                batchInsertDAO.insert("insert into schedules_attendances (schedules_entity_id, attendances_id) values (?, ?)",
+                        count, (ps, i) -> {
+                            ps.setLong(1, scheduleIds.get(i / added.size()));
+                            ps.setLong(2, attendanceIds.get(i));
+                        });
+                SummaryDelta delta = new SummaryDelta();
+                for (Long userId : added)
+                    for (int i = 0; i < scheduleIds.size(); i++)
+                        delta.add(teamId, userId, AttendanceEntity.Status.NOT, null);
+                summaryDAO.apply(delta);
+                result.setCreatedAttendances(count);
+            }
+        }
+        return result;
+    }
+
     @Override
     public Map<String, List<UserDTO>> getTeam(Long teamId) {
-        TeamEntity team = teamRepository.findById(teamId)
+        TeamEntity team = teamRepository.findWithUsersById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Team not found"));
         Map<String, List<UserDTO>> result = new HashMap<>();
         result.put(team.getNote(), team.getUsers().stream()
@@ -94,7 +185,7 @@ public class TeamDAOImpl implements TeamDAO {
     @Override
     public LinkedHashMap<Long, LinkedHashMap<String, List<UserDTO>>> getTeams() {
         LinkedHashMap<Long, LinkedHashMap<String, List<UserDTO>>> result = new LinkedHashMap<>();
-        List<TeamEntity> teams = teamRepository.findAll();
+        List<TeamEntity> teams = teamRepository.findAllWithUsers();
 
         for(TeamEntity team : teams) {
             LinkedHashMap<String, List<UserDTO>> teamMap = new LinkedHashMap<>();
@@ -119,6 +210,11 @@ public class TeamDAOImpl implements TeamDAO {
     @Override
     public void removeTeam(Long teamId) throws IllegalArgumentException {
         docsDAO.deleteTeamDocs(teamId);
+        summaryDAO.removeTeam(teamId);
+        List<Long> members = teamRepository.findMembers(List.of(teamId)).stream()
+                .map(TeamMemberDTO::getUserId)
+                .toList();
+        eventPublisher.publishEvent(new MembershipChangedEvent(teamId, List.of(), members, true));
         teamRepository.deleteById(teamId);
         log.info("Removing team {} from database", teamId);
     }
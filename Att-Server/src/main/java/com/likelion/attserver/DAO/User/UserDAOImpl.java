@@ -1,5 +1,6 @@
 package com.likelion.attserver.DAO.User;
 
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
 import com.likelion.attserver.DAO.Team.TeamDAO;
 import com.likelion.attserver.DTO.AuthDTO;
 import com.likelion.attserver.DTO.UserDTO;
@@ -7,15 +8,18 @@ import com.likelion.attserver.Entity.AttendanceEntity;
 import com.likelion.attserver.Entity.SchedulesEntity;
 import com.likelion.attserver.Entity.TeamEntity;
 import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Event.UserChangedEvent;
 import com.likelion.attserver.Exception.CustomException;
 import com.likelion.attserver.JWT.CustomUserDetailsService;
 import com.likelion.attserver.JWT.JwtTokenUtil;
 import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.SchedulesRepository;
 import com.likelion.attserver.Repository.TeamRepository;
 import com.likelion.attserver.Repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -39,6 +43,9 @@ public class UserDAOImpl implements UserDAO {
     private final TeamDAO teamDAO;
     private final TeamRepository teamRepository;
     private final AttendanceRepository attendanceRepository;
+    private final SchedulesRepository schedulesRepository;
+    private final AttendanceSummaryDAO summaryDAO;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDTO addUser(AuthDTO user) {
@@ -98,6 +105,7 @@ public class UserDAOImpl implements UserDAO {
 
         if (teamRepository.existsByUsersContaining(user)) {
             TeamEntity teamEntity = teamRepository.getByUsersContaining(user);
+            schedulesRepository.fetchAttendancesByTeamId(teamEntity.getId());
 
             // 유저가 속한 출결 데이터를 명시적으로 삭제
             for (SchedulesEntity schedule : teamEntity.getSchedules()) {
@@ -117,6 +125,8 @@ public class UserDAOImpl implements UserDAO {
             log.info("deleted {} from team {}", id, teamEntity.getId());
         }
 
+        summaryDAO.removeUser(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, true));
         userRepository.deleteById(id);
         log.info("deleted user {}", id);
     }
@@ -132,6 +142,8 @@ public class UserDAOImpl implements UserDAO {
         userEntity.setRole(user.getRole());
         if(user.getPassword() != null)
             userEntity.setPassword(passwordEncoder.encode(user.getPassword()));
+        // 팀/스케쥴 조회 응답에 유저 정보가 들어가므로 전체 버전을 올림
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), false));
         return UserEntity.toDTO(userRepository.save(userEntity));
     }
 
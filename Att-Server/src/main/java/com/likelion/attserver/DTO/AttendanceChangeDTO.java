@@ -0,0 +1,26 @@
+package com.likelion.attserver.DTO;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import lombok.*;
+
+import java.time.Instant;
+
+// 출석 변경 이력 한 건 (누가, 언제, 무엇을 무엇으로)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceChangeDTO {
+    private Instant changedAt;
+    private Long attendanceId;
+    private Long userId;
+    private Long teamId;
+    private Long changedBy; // 변경한 관리자 학번 (요청 밖에서 바뀐 경우 null)
+    private AttendanceEntity.Status oldStatus;
+    private AttendanceEntity.Status newStatus;
+    private Long oldScore;
+    private Long newScore;
+    private Long version;
+    private String note;
+}
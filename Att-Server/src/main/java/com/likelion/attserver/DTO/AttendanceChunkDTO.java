@@ -0,0 +1,19 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceChunkDTO {
+    private int chunk; // 청크 번호 (1부터)
+    private int size; // 청크에 포함된 행 수
+    private int updated;
+    private int notFound;
+    private int conflict;
+    private long processed; // 지금까지 커밋된 누적 행 수
+    private String error; // 청크 실패 또는 파싱 실패 사유
+    private boolean done; // 마지막 요약 줄 여부
+}
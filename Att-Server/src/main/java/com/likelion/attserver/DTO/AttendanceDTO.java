@@ -10,8 +10,10 @@ import lombok.*;
 @AllArgsConstructor
 public class AttendanceDTO {
     private Long id;
+    private Long scheduleId; // id 없이 스케쥴 ID + user.studentId로 보내면 아직 행이 없는 칸도 수정 (희소 모드)
     private UserDTO user;
     private AttendanceEntity.Status status;
     private String note;
     private Long score;
+    private Long version; // 조회 시점의 버전. 보내면 그 사이 다른 수정이 있었는지 검사
 }
@@ -0,0 +1,15 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendancePageDTO {
+    private List<AttendanceSearchRowDTO> items;
+    private String nextCursor; // 다음 페이지가 없으면 null
+}
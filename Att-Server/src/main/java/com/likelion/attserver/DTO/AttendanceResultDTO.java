@@ -0,0 +1,20 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceResultDTO {
+    private Long id;
+    private Result result;
+    private AttendanceDTO attendance;
+
+    public enum Result {
+        UPDATED, // 수정 완료
+        NOT_FOUND, // 존재하지 않는 출석 ID
+        CONFLICT // 보낸 버전 이후 다른 수정이 있음 (attendance에 현재 상태)
+    }
+}
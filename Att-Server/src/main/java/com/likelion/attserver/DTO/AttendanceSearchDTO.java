@@ -0,0 +1,24 @@
+package com.likelion.attserver.DTO;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 출석 검색 조건. null인 항목은 조건에서 빠짐
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSearchDTO {
+    private Long userId;
+    private Long teamId;
+    private UserEntity.Track track;
+    private AttendanceEntity.Status status;
+    private LocalDate from;
+    private LocalDate to;
+    private String cursor; // 이전 페이지의 nextCursor
+    private int size;
+}
@@ -0,0 +1,33 @@
+package com.likelion.attserver.DTO;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSearchRowDTO {
+    private Long id;
+    private Long scheduleId;
+    private Long teamId;
+    private LocalDate date;
+    private LocalTime time;
+    private Long userId;
+    private String name;
+    private UserEntity.Track track;
+    private AttendanceEntity.Status status;
+    private String note;
+    private Long score;
+    private Long version;
+
+    // 행이 없는 팀원 칸 (희소 모드에서 NOT으로 채움)
+    public AttendanceSearchRowDTO(Long scheduleId, Long teamId, LocalDate date, LocalTime time,
+                                  Long userId, String name, UserEntity.Track track) {
+        this(null, scheduleId, teamId, date, time, userId, name, track, AttendanceEntity.Status.NOT, null, null, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+// (스케쥴, 팀원) 출석 칸 하나와 그 칸의 출석 행 ID (아직 행이 없으면 null)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSlotDTO {
+    private Long scheduleId;
+    private Long teamId;
+    private Long userId;
+    private Long attendanceId;
+
+    public AttendanceSlotDTO(Long scheduleId, Long userId, Long attendanceId) {
+        this(scheduleId, null, userId, attendanceId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+// 출석 ID와 그 출석이 속한 팀 ID
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceTeamDTO {
+    private Long attendanceId;
+    private Long teamId;
+}
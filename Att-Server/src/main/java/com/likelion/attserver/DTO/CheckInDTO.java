@@ -0,0 +1,16 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInDTO {
+    private Long scheduleId;
+    private Long userId;
+    private LocalDateTime checkedAt;
+}
@@ -0,0 +1,22 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 체크인 대상 출석 행과 스케쥴 시작 시각
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInTargetDTO {
+    private Long scheduleId;
+    private LocalDate date;
+    private LocalTime time;
+    private Long userId;
+    private Long attendanceId;
+    private String note;
+    private Long score;
+    private Long version;
+}
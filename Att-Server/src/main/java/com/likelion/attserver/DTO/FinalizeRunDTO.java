@@ -0,0 +1,19 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 자동 결석 처리 한 번의 실행 결과
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinalizeRunDTO {
+    private LocalDateTime ranAt;
+    private LocalDateTime cutoff; // 이 시각 이전에 시작한 스케쥴이 대상
+    private int absentCount;
+    private List<FinalizedScheduleDTO> schedules;
+}
@@ -0,0 +1,18 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+// 자동 결석 처리 대상 (아직 NOT인 출석 행)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinalizeTargetDTO {
+    private Long scheduleId;
+    private Long teamId;
+    private Long userId;
+    private Long attendanceId;
+    private String note;
+    private Long score;
+    private Long version;
+}
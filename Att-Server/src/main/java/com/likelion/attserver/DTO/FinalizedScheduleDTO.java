@@ -0,0 +1,25 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 마감된 스케쥴과 그때 ABSENT로 바뀐 출석 ID
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinalizedScheduleDTO {
+    private Long scheduleId;
+    private LocalDate date;
+    private LocalTime time;
+    private List<Long> absentAttendanceIds;
+
+    public FinalizedScheduleDTO(Long scheduleId, LocalDate date, LocalTime time) {
+        this(scheduleId, date, time, new ArrayList<>());
+    }
+}
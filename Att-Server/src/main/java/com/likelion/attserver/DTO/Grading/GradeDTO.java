@@ -0,0 +1,21 @@
+package com.likelion.attserver.DTO.Grading;
+
+import lombok.*;
+
+// 규칙을 적용한 팀 x 유저별 성적
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeDTO {
+    private Long teamId;
+    private Long userId;
+    private int sessions; // 출결이 확정된(NOT 제외) 회차 수
+    private int present;
+    private int late; // 환산하고 남은 LATE
+    private int absent; // 환산된 ABSENT 포함
+    private double attendanceRate; // (PRESENT + LATE x 가중치) / sessions
+    private long score; // 하위 회차를 뺀 점수 합계
+    private boolean passed;
+}
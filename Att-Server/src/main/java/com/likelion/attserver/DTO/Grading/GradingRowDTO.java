@@ -0,0 +1,16 @@
+package com.likelion.attserver.DTO.Grading;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import lombok.*;
+
+// 팀 x 유저별로 스케쥴 순서대로 읽는 출석 한 건
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradingRowDTO {
+    private Long teamId;
+    private Long userId;
+    private AttendanceEntity.Status status;
+    private Long score;
+}
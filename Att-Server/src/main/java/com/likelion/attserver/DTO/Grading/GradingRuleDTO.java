@@ -0,0 +1,22 @@
+package com.likelion.attserver.DTO.Grading;
+
+import lombok.*;
+
+// 성적 규칙 하나. 규칙 목록의 순서와 상관없이 Type 선언 순서대로 적용됨
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GradingRuleDTO {
+    private Type type;
+    private double value;
+
+    public enum Type {
+        LATE_TO_ABSENT, // LATE value번을 ABSENT 1번으로 환산
+        LATE_WEIGHT, // 남은 LATE를 출석 value회로 계산 (기본 1)
+        DROP_LOWEST, // 점수가 낮은 회차 value개를 점수 합계에서 제외
+        FAIL_OVER_ABSENCES // 환산 후 ABSENT가 value회를 넘으면 FAIL
+    }
+}
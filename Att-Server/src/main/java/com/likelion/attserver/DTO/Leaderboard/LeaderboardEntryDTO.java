@@ -0,0 +1,17 @@
+package com.likelion.attserver.DTO.Leaderboard;
+
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+// 리더보드 한 줄. 동점이면 같은 순위 (1, 2, 2, 4 ...)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private int rank;
+    private Long userId;
+    private UserEntity.Track track;
+    private long score;
+}
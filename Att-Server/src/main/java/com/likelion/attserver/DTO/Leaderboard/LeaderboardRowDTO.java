@@ -0,0 +1,16 @@
+package com.likelion.attserver.DTO.Leaderboard;
+
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+// 리더보드 재구성용 유저 x 팀 점수 합계
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardRowDTO {
+    private Long teamId;
+    private Long userId;
+    private UserEntity.Track track;
+    private long score;
+}
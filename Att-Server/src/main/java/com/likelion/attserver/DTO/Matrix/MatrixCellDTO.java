@@ -0,0 +1,26 @@
+package com.likelion.attserver.DTO.Matrix;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 팀 출석 행렬을 만들 때 읽는 출석 한 칸
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixCellDTO {
+    private Long scheduleId;
+    private LocalDate date;
+    private LocalTime time;
+    private Long userId;
+    private Long attendanceId;
+    private AttendanceEntity.Status status;
+
+    // 행이 없는 팀원 칸 (희소 모드에서 NOT으로 채움)
+    public MatrixCellDTO(Long scheduleId, LocalDate date, LocalTime time, Long userId) {
+        this(scheduleId, date, time, userId, null, AttendanceEntity.Status.NOT);
+    }
+}
@@ -0,0 +1,18 @@
+package com.likelion.attserver.DTO.Matrix;
+
+import lombok.*;
+
+// 팀 출석 행렬 하나가 차지하는 메모리 (index는 출석 ID -> 칸 위치 맵 추정치)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixFootprintDTO {
+    private Long teamId;
+    private int schedules;
+    private int users;
+    private int cells;
+    private long bitsetBytes;
+    private long indexBytes;
+}
@@ -0,0 +1,22 @@
+package com.likelion.attserver.DTO.Matrix;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 스케쥴 한 회차의 상태별 인원
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixSlotDTO {
+    private Long scheduleId;
+    private LocalDate date;
+    private LocalTime time;
+    private int present;
+    private int late;
+    private int absent;
+    private int not;
+}
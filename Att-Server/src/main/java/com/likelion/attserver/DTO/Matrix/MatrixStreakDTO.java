@@ -0,0 +1,14 @@
+package com.likelion.attserver.DTO.Matrix;
+
+import lombok.*;
+
+// 유저별 같은 상태가 연속된 최장 횟수
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixStreakDTO {
+    private Long userId;
+    private int longest;
+}
@@ -0,0 +1,25 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 반복 스케쥴 생성 요청. from~to 사이의 days 요일마다 time에 스케쥴을 만듦
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringScheduleDTO {
+    private List<Long> teamIds; // 비어 있으면 전체 팀
+    private LocalDate from;
+    private LocalDate to;
+    private List<DayOfWeek> days;
+    private LocalTime time;
+    private List<LocalDate> except; // 휴강일 등 건너뛸 날짜
+    private Integer duration; // 분, 비어 있으면 60
+    private List<String> resources; // 자원 태그. 다른 스케쥴과 겹치는 회차는 만들지 않고 conflicts로 알려줌
+}
@@ -0,0 +1,19 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.util.List;
+
+// 반복 스케쥴 생성 결과
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringScheduleResultDTO {
+    private int teams;
+    private int schedules; // 새로 만든 스케쥴 수
+    private int skipped; // 같은 날짜/시간 스케쥴이 이미 있어서 건너뛴 수
+    private int attendances;
+    private List<ScheduleConflictDTO> conflicts; // 자원 시간이 겹쳐서 건너뛴 회차
+}
@@ -0,0 +1,16 @@
+package com.likelion.attserver.DTO;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import lombok.*;
+
+// 스케쥴 하나에 달린 출석 행 (스케쥴 삭제 시 요약 차감과 일괄 삭제용)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleAttendanceDTO {
+    private Long attendanceId;
+    private Long userId;
+    private AttendanceEntity.Status status;
+    private Long score;
+}
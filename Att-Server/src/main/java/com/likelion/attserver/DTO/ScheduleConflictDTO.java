@@ -0,0 +1,25 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 요청한 스케쥴이 같은 자원을 쓰는 다른 스케쥴과 시간이 겹침
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleConflictDTO {
+    private String resource;
+    private Long teamId;
+    private LocalDate date;
+    private LocalTime time;
+    private int duration;
+    private Long conflictScheduleId; // 같은 요청 안의 후보끼리 겹치면 null
+    private Long conflictTeamId;
+    private LocalDate conflictDate;
+    private LocalTime conflictTime;
+    private int conflictDuration;
+}
@@ -0,0 +1,22 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 충돌 검사 단위. 팀의 스케쥴 하나가 시작 시각부터 duration분 동안 resources를 모두 씀
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleIntervalDTO {
+    private Long scheduleId; // 아직 저장 전인 후보면 null
+    private Long teamId;
+    private LocalDate date;
+    private LocalTime time;
+    private int duration;
+    private List<String> resources;
+}
@@ -0,0 +1,20 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 자원 태그가 붙은 스케쥴 한 건 x 태그 하나 (충돌 인덱스 적재용)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleResourceDTO {
+    private Long scheduleId;
+    private Long teamId;
+    private LocalDate date;
+    private LocalTime time;
+    private int duration;
+    private String resource;
+}
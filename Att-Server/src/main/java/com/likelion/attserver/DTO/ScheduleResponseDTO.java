@@ -0,0 +1,20 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 스케쥴 조회 응답 한 건 (출석 목록 포함)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleResponseDTO {
+    private Long id;
+    private LocalDate date;
+    private LocalTime time;
+    private List<AttendanceDTO> attendances;
+}
@@ -0,0 +1,58 @@
+package com.likelion.attserver.DTO;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 팀 -> 스케쥴 -> 출석 -> 유저를 한 줄로 펼친 조회 결과.
+// 스케쥴이나 출석이 없는 팀은 해당 컬럼이 null인 한 줄로 나옴. 희소 모드에서 채운 NOT 칸은 출석 ID만 null
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRowDTO {
+    private Long teamId;
+    private Long scheduleId;
+    private LocalDate date;
+    private LocalTime time;
+    private Long attendanceId;
+    private AttendanceEntity.Status status;
+    private String note;
+    private Long score;
+    private Long version;
+    private Long userId;
+    private String name;
+    private String phone;
+    private String email;
+    private UserEntity.Track track;
+    private UserEntity.Role role;
+
+    // 행이 없는 팀원 칸 (희소 모드에서 NOT으로 채움)
+    public static ScheduleRowDTO implicit(ScheduleRowDTO schedule, TeamMemberUserDTO member) {
+        return new ScheduleRowDTO(schedule.getTeamId(), schedule.getScheduleId(), schedule.getDate(), schedule.getTime(),
+                null, AttendanceEntity.Status.NOT, null, null, null,
+                member.getUserId(), member.getName(), member.getPhone(), member.getEmail(), member.getTrack(), member.getRole());
+    }
+
+    public AttendanceDTO toAttendanceDTO() {
+        return AttendanceDTO.builder()
+                .id(attendanceId)
+                .scheduleId(scheduleId)
+                .user(UserDTO.builder()
+                        .studentId(userId)
+                        .name(name)
+                        .phone(phone)
+                        .email(email)
+                        .track(track)
+                        .role(role)
+                        .build())
+                .status(status)
+                .note(note)
+                .score(score)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 팀의 스케쥴 한 칸 (팀, 날짜, 시간). 중복 검사용 해시 키로 씀
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ScheduleSlotDTO {
+    private Long teamId;
+    private LocalDate date;
+    private LocalTime time;
+}
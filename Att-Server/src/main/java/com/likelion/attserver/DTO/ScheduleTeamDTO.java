@@ -0,0 +1,13 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+// 스케쥴 ID와 그 스케쥴이 속한 팀 ID
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleTeamDTO {
+    private Long scheduleId;
+    private Long teamId;
+}
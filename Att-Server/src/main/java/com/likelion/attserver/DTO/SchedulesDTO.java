@@ -4,6 +4,7 @@ import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 @Builder
 @Getter
@@ -13,4 +14,6 @@ import java.time.LocalTime;
 public class SchedulesDTO {
     private LocalDate date;
     private LocalTime time;
+    private Integer duration; // 분, 비어 있으면 60
+    private List<String> resources; // 강의실/멘토 등 팀끼리 같이 쓰는 자원 태그
 }
@@ -0,0 +1,27 @@
+package com.likelion.attserver.DTO.Stats;
+
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceStatsDTO {
+    private String key; // 학번, teamId 또는 트랙
+    private long present;
+    private long late;
+    private long absent;
+    private long not;
+    private long score;
+
+    public void add(StatsRowDTO row) {
+        switch (row.getStatus()) {
+            case PRESENT -> present += row.getCount();
+            case LATE -> late += row.getCount();
+            case ABSENT -> absent += row.getCount();
+            case NOT -> not += row.getCount();
+        }
+        score += row.getScore();
+    }
+}
@@ -0,0 +1,31 @@
+package com.likelion.attserver.DTO.Stats;
+
+import com.likelion.attserver.Entity.AttendanceSummaryEntity;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSummaryDTO {
+    private Long userId;
+    private Long teamId;
+    private long present;
+    private long late;
+    private long absent;
+    private long not;
+    private long score;
+
+    public static AttendanceSummaryDTO of(AttendanceSummaryEntity summary) {
+        return AttendanceSummaryDTO.builder()
+                .userId(summary.getUserId())
+                .teamId(summary.getTeamId())
+                .present(summary.getPresentCount())
+                .late(summary.getLateCount())
+                .absent(summary.getAbsentCount())
+                .not(summary.getNotCount())
+                .score(summary.getScoreTotal())
+                .build();
+    }
+}
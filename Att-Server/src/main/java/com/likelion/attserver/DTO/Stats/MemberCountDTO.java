@@ -0,0 +1,21 @@
+package com.likelion.attserver.DTO.Stats;
+
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+// 팀원 한 명의 팀 스케쥴 수와 실제로 있는 출석 행 수. 차이만큼이 행 없이 NOT인 칸 (희소 모드)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberCountDTO {
+    private Long teamId;
+    private Long userId;
+    private UserEntity.Track track;
+    private Long schedules;
+    private Long recorded;
+
+    public long getImplicit() {
+        return Math.max(0L, schedules - recorded);
+    }
+}
@@ -0,0 +1,25 @@
+package com.likelion.attserver.DTO.Stats;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+// 그룹별 집계 쿼리의 한 행 (key, 상태, 건수, 점수 합계)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRowDTO {
+    private String key;
+    private AttendanceEntity.Status status;
+    private Long count;
+    private Long score;
+
+    public StatsRowDTO(Long key, AttendanceEntity.Status status, Long count, Long score) {
+        this(String.valueOf(key), status, count, score);
+    }
+
+    public StatsRowDTO(UserEntity.Track key, AttendanceEntity.Status status, Long count, Long score) {
+        this(String.valueOf(key), status, count, score);
+    }
+}
@@ -0,0 +1,16 @@
+package com.likelion.attserver.DTO.Stats;
+
+import lombok.*;
+
+// 저장된 카운터(stored)와 출석 테이블에서 다시 센 값(expected)이 다른 항목
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryDriftDTO {
+    private Long userId;
+    private Long teamId;
+    private AttendanceSummaryDTO stored;
+    private AttendanceSummaryDTO expected;
+}
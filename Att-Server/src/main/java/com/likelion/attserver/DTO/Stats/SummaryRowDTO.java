@@ -0,0 +1,17 @@
+package com.likelion.attserver.DTO.Stats;
+
+import com.likelion.attserver.Entity.AttendanceEntity;
+import lombok.*;
+
+// 팀 x 유저 x 상태 집계 쿼리의 한 행
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryRowDTO {
+    private Long teamId;
+    private Long userId;
+    private AttendanceEntity.Status status;
+    private Long count;
+    private Long score;
+}
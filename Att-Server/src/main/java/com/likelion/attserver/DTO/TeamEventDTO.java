@@ -0,0 +1,26 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+// SSE로 내보내는 팀 변경 이벤트. ATTENDANCE는 바뀐 출석을 같이 싣고,
+// SCHEDULE/TEAM은 어느 팀이 바뀌었는지만 알려서 클라이언트가 다시 조회하게 함
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamEventDTO {
+    private Type type;
+    private Long teamId;
+    private Instant at;
+    private List<AttendanceChangeDTO> changes;
+
+    public enum Type {
+        ATTENDANCE, // 출석 변경
+        SCHEDULE, // 스케쥴 추가/삭제
+        TEAM // 팀 생성/팀원 변경/삭제
+    }
+}
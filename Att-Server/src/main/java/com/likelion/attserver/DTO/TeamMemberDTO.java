@@ -0,0 +1,13 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+// 팀 ID와 팀원 학번
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMemberDTO {
+    private Long teamId;
+    private Long userId;
+}
@@ -0,0 +1,30 @@
+package com.likelion.attserver.DTO;
+
+import com.likelion.attserver.Entity.UserEntity;
+import lombok.*;
+
+// 팀 ID와 팀원 정보. 희소 모드에서 행이 없는 출석 칸을 채울 때 씀
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMemberUserDTO {
+    private Long teamId;
+    private Long userId;
+    private String name;
+    private String phone;
+    private String email;
+    private UserEntity.Track track;
+    private UserEntity.Role role;
+
+    public UserDTO toUserDTO() {
+        return UserDTO.builder()
+                .studentId(userId)
+                .name(name)
+                .phone(phone)
+                .email(email)
+                .track(track)
+                .role(role)
+                .build();
+    }
+}
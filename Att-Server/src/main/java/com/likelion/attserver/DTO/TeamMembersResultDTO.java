@@ -0,0 +1,19 @@
+package com.likelion.attserver.DTO;
+
+import lombok.*;
+
+import java.util.List;
+
+// 팀원 목록 일괄 설정 결과
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMembersResultDTO {
+    private Long teamId;
+    private List<Long> added; // 새로 들어온 학번
+    private List<Long> removed; // 빠진 학번
+    private int createdAttendances; // 새 팀원 몫으로 만든 출석 행 수 (희소 모드면 0)
+    private int deletedAttendances; // 빠진 팀원의 출석 행 수
+}
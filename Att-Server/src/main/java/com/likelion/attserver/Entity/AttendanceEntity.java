@@ -5,7 +5,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "Attendance")
+// 검색의 u.id [+ a.status] 조건과 학생별 (user_id, status) 집계용. user_id 외래키 인덱스도 겸함
+@Table(name = "Attendance", indexes = @Index(name = "idx_attendance_user_status", columnList = "user_id, status"))
 @Builder
 @Getter
 @Setter
@@ -30,6 +31,11 @@ public class AttendanceEntity {
     @Column
     private Long score;
 
+    // 동시 수정 감지용 버전 (기존 행은 0부터 시작)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     public enum Status {
         NOT, // 미출결
         PRESENT, // 출석
@@ -44,6 +50,7 @@ public class AttendanceEntity {
         attendanceDTO.setNote(attendance.getNote());
         attendanceDTO.setStatus(attendance.getStatus());
         attendanceDTO.setScore(attendance.getScore());
+        attendanceDTO.setVersion(attendance.getVersion());
         return attendanceDTO;
     }
 }
@@ -0,0 +1,41 @@
+package com.likelion.attserver.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 유저 x 팀 단위 출석 카운터. 출석이 바뀌는 트랜잭션 안에서 같이 갱신됨
+@Entity
+@Table(name = "AttendanceSummary",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "team_id"}),
+        indexes = @Index(columnList = "team_id"))
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSummaryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(nullable = false)
+    private long presentCount;
+
+    @Column(nullable = false)
+    private long lateCount;
+
+    @Column(nullable = false)
+    private long absentCount;
+
+    @Column(nullable = false)
+    private long notCount;
+
+    @Column(nullable = false)
+    private long scoreTotal;
+}
@@ -6,15 +6,21 @@ import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "Schedules")
+@Table(name = "Schedules", indexes = {
+        @Index(name = "idx_schedules_date_time", columnList = "date, time"),
+        @Index(name = "idx_schedules_finalized_date_time", columnList = "finalized, date, time")
+})
 @Builder
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class SchedulesEntity {
+    public static final int DEFAULT_DURATION = 60;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,6 +31,22 @@ public class SchedulesEntity {
     @Column(nullable = false)
     private LocalTime time;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    // 진행 시간(분). 컬럼이 생기기 전 행은 기본값으로 채워짐
+    @Column(nullable = false, columnDefinition = "integer default " + DEFAULT_DURATION)
+    private int duration;
+
+    // 강의실/멘토처럼 팀끼리 같이 쓰는 자원 태그 (예: room:301, mentor:kim). 겹치는 시간에 같은 태그는 못 씀
+    @ElementCollection
+    @CollectionTable(name = "schedule_resources", joinColumns = @JoinColumn(name = "schedule_id"),
+            indexes = @Index(name = "idx_schedule_resources_resource", columnList = "resource"))
+    @Column(name = "resource", nullable = false, length = 64)
+    private Set<String> resources;
+
+    // 남은 NOT 출석을 ABSENT로 마감했는지 (기존 행은 false로 시작)
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean finalized;
+
+    // 기본은 지연 로딩. 팀 스케쥴의 출석까지 필요하면 SchedulesRepository.fetchAttendancesByTeamId로 한 번에 채움
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<AttendanceEntity> attendances;
 }
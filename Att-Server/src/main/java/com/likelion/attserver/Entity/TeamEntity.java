@@ -22,6 +22,12 @@ public class TeamEntity {
     @OneToMany
     private List<UserEntity> users;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // 기본은 지연 로딩. 스케쥴이 필요한 경로만 TeamRepository.findWithSchedulesById로 같이 가져옴
+    // 팀별 스케쥴 조회는 이 조인 테이블의 (team_entity_id, schedules_id) 인덱스로 팀의 스케쥴 ID만 읽고 PK로 찾아감
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @JoinTable(name = "team_schedules",
+            joinColumns = @JoinColumn(name = "team_entity_id"),
+            inverseJoinColumns = @JoinColumn(name = "schedules_id", unique = true),
+            indexes = @Index(name = "idx_team_schedules_team", columnList = "team_entity_id, schedules_id"))
     private List<SchedulesEntity> schedules;
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "User")
+@Table(name = "User", indexes = @Index(name = "idx_user_track", columnList = "track"))
 @Builder
 @Getter
 @Setter
@@ -0,0 +1,9 @@
+package com.likelion.attserver.Event;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+
+import java.util.List;
+
+// 출석 상태/점수 변경. 이력 로그, 출석 행렬, 리더보드, 성적 캐시, 수정 버전, 실시간 구독자가 커밋 후에 받음
+public record AttendanceChangedEvent(List<AttendanceChangeDTO> changes) {
+}
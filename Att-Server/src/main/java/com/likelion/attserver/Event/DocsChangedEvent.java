@@ -0,0 +1,5 @@
+package com.likelion.attserver.Event;
+
+// 팀 문서 추가/수정/삭제
+public record DocsChangedEvent(Long teamId) {
+}
@@ -0,0 +1,86 @@
+package com.likelion.attserver.Event;
+
+import com.likelion.attserver.DTO.TeamEventDTO;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// SSE 연결 하나. 보낼 이벤트는 크기 제한이 있는 큐에 쌓고, 전송 스레드 풀에서 한 번에 한 스레드만 비움.
+// 쓰는 쪽은 큐에 넣기만 하므로 느린 클라이언트 때문에 커밋 경로가 막히지 않고,
+// 큐가 넘치면(따라오지 못하면) 연결을 끊어서 클라이언트가 재연결 후 다시 조회하게 함
+class EventSubscriber {
+    // 연결 확인용 빈 이벤트 (주석 한 줄로 나감)
+    static final TeamEventDTO HEARTBEAT = new TeamEventDTO();
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<TeamEventDTO> queue;
+    private final Executor sender;
+    private final Consumer<EventSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    EventSubscriber(SseEmitter emitter, int queueSize, Executor sender, Consumer<EventSubscriber> onClose) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    void offer(TeamEventDTO event) {
+        if (closed.get()) return;
+        if (!queue.offer(event)) {
+            // 밀린 이벤트를 계속 들고 있지 않고 끊음. 전송 중인 스레드와 emitter 잠금을 다투지 않도록 종료도 전송 풀에서
+            close();
+            sender.execute(emitter::complete);
+            return;
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true))
+            sender.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            TeamEventDTO event;
+            while (!closed.get() && (event = queue.poll()) != null)
+                send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 떠났거나 이미 끝난 연결
+            close();
+        } finally {
+            draining.set(false);
+            // 비우는 사이에 들어온 이벤트가 있으면 다시 예약
+            if (!closed.get() && !queue.isEmpty())
+                schedule();
+        }
+    }
+
+    private void send(TeamEventDTO event) throws IOException {
+        if (event == HEARTBEAT)
+            emitter.send(SseEmitter.event().comment("ping"));
+        else
+            emitter.send(SseEmitter.event()
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onClose.accept(this);
+        }
+    }
+}
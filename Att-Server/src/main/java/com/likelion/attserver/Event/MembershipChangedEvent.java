@@ -0,0 +1,11 @@
+package com.likelion.attserver.Event;
+
+import java.util.List;
+
+// 팀 구성 변경. 팀 생성, 팀원 추가/제거, 팀 삭제(teamRemoved, 남아 있던 팀원은 removed에 들어감).
+// 팀 이름만 바뀐 경우도 added/removed가 빈 채로 보냄 (캘린더 피드에 팀 이름이 들어감)
+public record MembershipChangedEvent(Long teamId, List<Long> added, List<Long> removed, boolean teamRemoved) {
+    public boolean changed() {
+        return !added.isEmpty() || !removed.isEmpty();
+    }
+}
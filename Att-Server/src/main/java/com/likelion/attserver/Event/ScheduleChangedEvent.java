@@ -0,0 +1,20 @@
+package com.likelion.attserver.Event;
+
+import com.likelion.attserver.DTO.ScheduleAttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleIntervalDTO;
+
+import java.util.List;
+
+// 팀 하나의 스케쥴 추가/삭제.
+// added는 새 스케쥴 구간 (자원 태그가 있으면 스케쥴 ID까지 채워짐), removed는 지운 스케쥴 ID,
+// removedAttendances는 스케쥴과 같이 지워진 출석 행
+public record ScheduleChangedEvent(Long teamId, List<ScheduleIntervalDTO> added, List<Long> removed,
+                                   List<ScheduleAttendanceDTO> removedAttendances) {
+    public static ScheduleChangedEvent added(Long teamId, List<ScheduleIntervalDTO> added) {
+        return new ScheduleChangedEvent(teamId, added, List.of(), List.of());
+    }
+
+    public static ScheduleChangedEvent removed(Long teamId, Long scheduleId, List<ScheduleAttendanceDTO> attendances) {
+        return new ScheduleChangedEvent(teamId, List.of(), List.of(scheduleId), attendances);
+    }
+}
@@ -0,0 +1,127 @@
+package com.likelion.attserver.Event;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.DTO.TeamEventDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 팀 변경 이벤트를 커밋 후에 SSE 구독자에게 뿌림.
+// 연결은 서블릿 비동기라 대기 중에는 요청 스레드를 잡지 않아서 유휴 연결이 많아도 괜찮고,
+// 전송은 작은 스레드 풀이 구독자별 큐를 비우면서 처리하므로 쓰는 쪽은 큐에 넣고 바로 돌아감
+@Component
+public class TeamEventHub {
+    @Value("${att.events.queue-size:256}")
+    private int queueSize;
+    @Value("${att.events.sender-threads:4}")
+    private int senderThreads;
+    @Value("${att.events.timeout-ms:1800000}")
+    private long timeout;
+
+    private final Map<Long, Set<EventSubscriber>> byTeam = new ConcurrentHashMap<>();
+    private final Set<EventSubscriber> everyTeam = ConcurrentHashMap.newKeySet();
+    private ExecutorService sender;
+
+    @PostConstruct
+    void open() {
+        AtomicInteger count = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "team-event-sender-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void close() {
+        subscribers().forEach(subscriber -> subscriber.emitter().complete());
+        sender.shutdownNow();
+    }
+
+    // teamId가 null이면 모든 팀의 이벤트를 받음
+    public SseEmitter subscribe(Long teamId) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        EventSubscriber subscriber = new EventSubscriber(emitter, queueSize, sender, closed -> {
+            if (teamId == null) everyTeam.remove(closed);
+            else byTeam.computeIfPresent(teamId, (id, subscribers) -> {
+                subscribers.remove(closed);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        if (teamId == null) everyTeam.add(subscriber);
+        else byTeam.compute(teamId, (id, subscribers) -> {
+            Set<EventSubscriber> result = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            result.add(subscriber);
+            return result;
+        });
+        // 첫 줄을 바로 보내서 응답 헤더가 나가고 클라이언트의 연결이 열린 상태가 되게 함
+        subscriber.offer(EventSubscriber.HEARTBEAT);
+        return emitter;
+    }
+
+    // 출석 변경은 팀별로 묶어서 팀마다 이벤트 하나
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        event.changes().stream()
+                .filter(change -> change.getTeamId() != null)
+                .collect(Collectors.groupingBy(AttendanceChangeDTO::getTeamId))
+                .forEach((teamId, teamChanges) -> publish(event(TeamEventDTO.Type.ATTENDANCE, teamId, teamChanges)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        publish(event(TeamEventDTO.Type.SCHEDULE, event.teamId(), null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        publish(event(TeamEventDTO.Type.TEAM, event.teamId(), null));
+    }
+
+    public int getSubscriberCount() {
+        return everyTeam.size() + byTeam.values().stream().mapToInt(Set::size).sum();
+    }
+
+    void publish(TeamEventDTO event) {
+        everyTeam.forEach(subscriber -> subscriber.offer(event));
+        byTeam.getOrDefault(event.getTeamId(), Set.of()).forEach(subscriber -> subscriber.offer(event));
+    }
+
+    // 프록시가 유휴 연결을 끊지 않게 하고, 이미 떠난 클라이언트는 전송 실패로 정리됨
+    @Scheduled(fixedDelayString = "${att.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers().forEach(subscriber -> subscriber.offer(EventSubscriber.HEARTBEAT));
+    }
+
+    private List<EventSubscriber> subscribers() {
+        List<EventSubscriber> result = new ArrayList<>(everyTeam);
+        byTeam.values().forEach(result::addAll);
+        return result;
+    }
+
+    private static TeamEventDTO event(TeamEventDTO.Type type, Long teamId, List<AttendanceChangeDTO> changes) {
+        return TeamEventDTO.builder()
+                .type(type)
+                .teamId(teamId)
+                .at(Instant.now())
+                .changes(changes)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.likelion.attserver.Event;
+
+// 유저 정보 수정 또는 삭제(removed). 팀/스케쥴 응답에 유저 정보가 들어가므로 모든 팀의 버전이 바뀜
+public record UserChangedEvent(Long userId, boolean removed) {
+}
@@ -0,0 +1,64 @@
+package com.likelion.attserver.JWT;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 캘린더 피드 URL에 넣는 서명 토큰. 캘린더 앱은 Authorization 헤더를 붙이지 못하므로
+// 팀/학생 ID를 비밀 키로 HMAC 한 값을 쿼리로 받고, DB 조회 없이 다시 계산해서 비교함 (CheckInCode와 같은 방식)
+@Component
+public class CalendarFeedToken {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int LENGTH = 16;
+
+    public enum Kind { TEAM, USER }
+
+    private final SecretKeySpec key;
+
+    public CalendarFeedToken(@Value("${att.calendar.secret:}") String secret) {
+        byte[] bytes;
+        if (secret == null || secret.isBlank()) {
+            // 설정이 없으면 실행할 때마다 새 키 생성 (재시작하면 구독 URL을 다시 받아야 함)
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+        } else {
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    public String issue(Kind kind, Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(kind, id));
+    }
+
+    public boolean verify(Kind kind, Long id, String token) {
+        if (id == null || token == null) return false;
+        byte[] given;
+        try {
+            given = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(given, sign(kind, id));
+    }
+
+    private byte[] sign(Kind kind, Long id) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] hash = mac.doFinal(ByteBuffer.allocate(12).putInt(kind.ordinal()).putLong(id).array());
+            return Arrays.copyOf(hash, LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Map;
 
 @Component
 public class JwtTokenUtil {
+    private static final String EVENTS_SCOPE = "events";
 
     private final SecretKey secretKey;
 
@@ -27,12 +28,24 @@ public class JwtTokenUtil {
         return doGenerateToken(claims, username);
     }
 
+    // SSE 구독용 짧은 토큰. EventSource는 헤더를 못 붙여서 쿼리로 받으므로 구독 경로에서만 쓰임
+    public String generateEventsToken(String username, Object role, long ttlMillis) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", role);
+        claims.put("scope", EVENTS_SCOPE);
+        return doGenerateToken(claims, username, ttlMillis);
+    }
+
     private String doGenerateToken(Map<String, Object> claims, String subject) {
+        return doGenerateToken(claims, subject, 1000 * 60 * 60 * 10);
+    }
+
+    private String doGenerateToken(Map<String, Object> claims, String subject, long ttlMillis) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+                .setExpiration(new Date(System.currentTimeMillis() + ttlMillis))
                 .signWith(secretKey) // 주입받은 SecretKey로 서명
                 .compact();
     }
@@ -48,6 +61,23 @@ public class JwtTokenUtil {
         return UserEntity.Role.valueOf(roleStr); // 문자열을 Enum으로 변환
     }
 
+    public Long getIdFromToken(String token) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return Long.parseLong(claims.getSubject()); // subject에 학번이 들어있음
+    }
+
+    public boolean isEventsToken(String token) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return EVENTS_SCOPE.equals(claims.get("scope", String.class));
+    }
 
     public boolean validateToken(String token) {
         try {
@@ -1,13 +1,112 @@
 package com.likelion.attserver.Repository;
 
+import com.likelion.attserver.DTO.AttendanceSlotDTO;
+import com.likelion.attserver.DTO.AttendanceTeamDTO;
+import com.likelion.attserver.DTO.CheckInTargetDTO;
+import com.likelion.attserver.DTO.FinalizeTargetDTO;
+import com.likelion.attserver.DTO.Grading.GradingRowDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixCellDTO;
+import com.likelion.attserver.DTO.Stats.MemberCountDTO;
+import com.likelion.attserver.DTO.Stats.StatsRowDTO;
+import com.likelion.attserver.DTO.Stats.SummaryRowDTO;
 import com.likelion.attserver.Entity.AttendanceEntity;
 import com.likelion.attserver.Entity.UserEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<AttendanceEntity, Long> {
     List<AttendanceEntity> findAllByUser(UserEntity userEntity);
+
+    @Query("select a from AttendanceEntity a join fetch a.user where a.id in :ids")
+    List<AttendanceEntity> findAllWithUserByIdIn(Collection<Long> ids);
+
+    @Query("select new com.likelion.attserver.DTO.Stats.StatsRowDTO(u.id, a.status, count(a), coalesce(sum(a.score), 0L)) " +
+            "from AttendanceEntity a join a.user u group by u.id, a.status")
+    List<StatsRowDTO> countByUserAndStatus();
+
+    @Query("select new com.likelion.attserver.DTO.Stats.StatsRowDTO(t.id, a.status, count(a), coalesce(sum(a.score), 0L)) " +
+            "from TeamEntity t join t.schedules s join s.attendances a group by t.id, a.status")
+    List<StatsRowDTO> countByTeamAndStatus();
+
+    @Query("select new com.likelion.attserver.DTO.Stats.StatsRowDTO(u.track, a.status, count(a), coalesce(sum(a.score), 0L)) " +
+            "from AttendanceEntity a join a.user u group by u.track, a.status")
+    List<StatsRowDTO> countByTrackAndStatus();
+
+    // 팀원별 (팀 스케쥴 수, 출석 행 수). 희소 모드에서 행이 없는 NOT 칸을 셀 때 씀
+    @Query("select new com.likelion.attserver.DTO.Stats.MemberCountDTO(t.id, u.id, u.track, " +
+            "(select count(s) from TeamEntity t2 join t2.schedules s where t2 = t), " +
+            "(select count(a) from TeamEntity t3 join t3.schedules s3 join s3.attendances a where t3 = t and a.user = u)) " +
+            "from TeamEntity t join t.users u")
+    List<MemberCountDTO> findMemberCounts();
+
+    @Query("select new com.likelion.attserver.DTO.Stats.MemberCountDTO(t.id, u.id, u.track, " +
+            "(select count(s) from TeamEntity t2 join t2.schedules s where t2 = t), " +
+            "(select count(a) from TeamEntity t3 join t3.schedules s3 join s3.attendances a where t3 = t and a.user = u)) " +
+            "from TeamEntity t join t.users u where t.id in :teamIds")
+    List<MemberCountDTO> findMemberCountsByTeamIdIn(Collection<Long> teamIds);
+
+    @Query("select new com.likelion.attserver.DTO.AttendanceTeamDTO(a.id, t.id) " +
+            "from TeamEntity t join t.schedules s join s.attendances a where a.id in :ids")
+    List<AttendanceTeamDTO> findTeamIdsByAttendanceIdIn(Collection<Long> ids);
+
+    // 팀에서 빠지는 팀원들의 출석 행
+    @Query("select a.id from TeamEntity t join t.schedules s join s.attendances a where t.id = :teamId and a.user.id in :userIds")
+    List<Long> findIdsByTeamIdAndUserIdIn(Long teamId, Collection<Long> userIds);
+
+    @Query("select new com.likelion.attserver.DTO.Stats.SummaryRowDTO(t.id, u.id, a.status, count(a), coalesce(sum(a.score), 0L)) " +
+            "from TeamEntity t join t.schedules s join s.attendances a join a.user u group by t.id, u.id, a.status")
+    List<SummaryRowDTO> countByTeamUserAndStatus();
+
+    @Query("select new com.likelion.attserver.DTO.CheckInTargetDTO(s.id, s.date, s.time, u.id, a.id, a.note, a.score, a.version) " +
+            "from SchedulesEntity s join s.attendances a join a.user u " +
+            "where s.id in :scheduleIds and u.id in :userIds and a.status = :status")
+    List<CheckInTargetDTO> findCheckInTargets(Collection<Long> scheduleIds, Collection<Long> userIds, AttendanceEntity.Status status);
+
+    // 마감할 스케쥴의 NOT 행. 잠가두고 읽어서 아래 UPDATE까지 다른 수정이 끼지 않게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.likelion.attserver.DTO.FinalizeTargetDTO(s.id, t.id, u.id, a.id, a.note, a.score, a.version) " +
+            "from TeamEntity t join t.schedules s join s.attendances a join a.user u " +
+            "where s.id in :scheduleIds and a.status = :status")
+    List<FinalizeTargetDTO> findFinalizeTargets(Collection<Long> scheduleIds, AttendanceEntity.Status status);
+
+    // 스케쥴의 기존 출석 칸. 잠금 읽기라 먼저 커밋된 다른 트랜잭션이 만든 행까지 보임 (팀 ID는 비어 있음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.likelion.attserver.DTO.AttendanceSlotDTO(s.id, u.id, a.id) " +
+            "from SchedulesEntity s join s.attendances a join a.user u where s.id in :scheduleIds")
+    List<AttendanceSlotDTO> lockSlots(Collection<Long> scheduleIds);
+
+    // 버전도 같이 올려서 마감 전 값을 들고 있던 클라이언트는 충돌로 처리되게 함
+    @Modifying
+    @Query("update AttendanceEntity a set a.status = :to, a.version = a.version + 1 " +
+            "where a.id in :ids and a.status = :from")
+    int updateStatus(Collection<Long> ids, AttendanceEntity.Status from, AttendanceEntity.Status to);
+
+    @Query("select new com.likelion.attserver.DTO.Matrix.MatrixCellDTO(s.id, s.date, s.time, u.id, a.id, a.status) " +
+            "from TeamEntity t join t.schedules s join s.attendances a join a.user u where t.id = :teamId")
+    List<MatrixCellDTO> findMatrixCells(Long teamId);
+
+    // 출석 행이 없는 (스케쥴, 팀원) 칸 (희소 모드)
+    @Query("select new com.likelion.attserver.DTO.Matrix.MatrixCellDTO(s.id, s.date, s.time, u.id) " +
+            "from TeamEntity t join t.schedules s join t.users u where t.id = :teamId " +
+            "and not exists (select r.id from SchedulesEntity s2 join s2.attendances r where s2 = s and r.user = u)")
+    List<MatrixCellDTO> findImplicitMatrixCells(Long teamId);
+
+    @Query("select new com.likelion.attserver.DTO.Grading.GradingRowDTO(t.id, u.id, a.status, a.score) " +
+            "from TeamEntity t join t.schedules s join s.attendances a join a.user u " +
+            "order by t.id, u.id, s.date, s.time, s.id")
+    List<GradingRowDTO> findGradingRows();
+
+    // 희소 모드용. 팀원 x 팀 스케쥴 칸 전부를 같은 순서로 읽고, 행이 없는 칸은 status가 null
+    @Query("select new com.likelion.attserver.DTO.Grading.GradingRowDTO(t.id, u.id, a.status, a.score) " +
+            "from TeamEntity t join t.schedules s join t.users u left join s.attendances a on a.user = u " +
+            "order by t.id, u.id, s.date, s.time, s.id")
+    List<GradingRowDTO> findGradingCells();
 }
@@ -0,0 +1,45 @@
+package com.likelion.attserver.Repository;
+
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardRowDTO;
+import com.likelion.attserver.Entity.AttendanceSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceSummaryEntity, Long> {
+    List<AttendanceSummaryEntity> findByUserId(Long userId);
+    List<AttendanceSummaryEntity> findByTeamId(Long teamId);
+
+    // 없으면 만들고 있으면 더함. 한 문장이라 동시에 첫 행을 만들어도 (user_id, team_id) 유니크 충돌이 나지 않음
+    @Modifying
+    @Query(value = "insert into attendance_summary " +
+            "(user_id, team_id, present_count, late_count, absent_count, not_count, score_total) " +
+            "values (:userId, :teamId, :present, :late, :absent, :notMarked, :score) " +
+            "on duplicate key update " +
+            "present_count = present_count + :present, " +
+            "late_count = late_count + :late, " +
+            "absent_count = absent_count + :absent, " +
+            "not_count = not_count + :notMarked, " +
+            "score_total = score_total + :score", nativeQuery = true)
+    void upsert(Long userId, Long teamId, long present, long late, long absent, long notMarked, long score);
+
+    @Modifying
+    @Query("delete from AttendanceSummaryEntity s where s.userId = :userId and s.teamId = :teamId")
+    void deleteMember(Long userId, Long teamId);
+
+    @Modifying
+    @Query("delete from AttendanceSummaryEntity s where s.teamId = :teamId")
+    void deleteTeam(Long teamId);
+
+    @Modifying
+    @Query("delete from AttendanceSummaryEntity s where s.userId = :userId")
+    void deleteUser(Long userId);
+
+    @Query("select new com.likelion.attserver.DTO.Leaderboard.LeaderboardRowDTO(s.teamId, s.userId, u.track, s.scoreTotal) " +
+            "from AttendanceSummaryEntity s, UserEntity u where u.id = s.userId")
+    List<LeaderboardRowDTO> findLeaderboardRows();
+}
@@ -1,11 +1,80 @@
 package com.likelion.attserver.Repository;
 
+import com.likelion.attserver.DTO.FinalizedScheduleDTO;
+import com.likelion.attserver.DTO.ScheduleAttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleResourceDTO;
+import com.likelion.attserver.DTO.ScheduleRowDTO;
+import com.likelion.attserver.DTO.ScheduleSlotDTO;
+import com.likelion.attserver.DTO.ScheduleTeamDTO;
 import com.likelion.attserver.Entity.SchedulesEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SchedulesRepository extends JpaRepository<SchedulesEntity, Long> {
+    // 시작 시각이 (date, time) 이전이고 아직 마감 안 된 스케쥴을 오래된 순으로
+    @Query("select new com.likelion.attserver.DTO.FinalizedScheduleDTO(s.id, s.date, s.time) from SchedulesEntity s " +
+            "where s.finalized = false and (s.date < :date or (s.date = :date and s.time <= :time)) " +
+            "order by s.date, s.time, s.id")
+    List<FinalizedScheduleDTO> findFinalizeTargets(LocalDate date, LocalTime time, Pageable pageable);
+
+    @Modifying
+    @Query("update SchedulesEntity s set s.finalized = true where s.id in :ids")
+    int markFinalized(Collection<Long> ids);
+
+    @Query("select new com.likelion.attserver.DTO.ScheduleRowDTO(t.id, s.id, s.date, s.time, " +
+            "a.id, a.status, a.note, a.score, a.version, u.id, u.name, u.phone, u.email, u.track, u.role) " +
+            "from TeamEntity t join t.schedules s left join s.attendances a left join a.user u " +
+            "where s.id in :ids order by s.date, s.time, s.id, a.id")
+    List<ScheduleRowDTO> findScheduleRows(Collection<Long> ids);
+
+    // 팀 스케쥴의 출석 컬렉션을 쿼리 한 번으로 초기화 (같은 영속성 컨텍스트에 있는 스케쥴 엔티티에 채워짐)
+    @Query("select distinct s from TeamEntity t join t.schedules s left join fetch s.attendances where t.id = :teamId")
+    List<SchedulesEntity> fetchAttendancesByTeamId(Long teamId);
+
+    // 충돌 인덱스 적재용. 태그가 붙은 스케쥴만 태그 수만큼 행으로
+    @Query("select new com.likelion.attserver.DTO.ScheduleResourceDTO(s.id, t.id, s.date, s.time, s.duration, r) " +
+            "from TeamEntity t join t.schedules s join s.resources r")
+    List<ScheduleResourceDTO> findResourceSlots();
+
+    // 캘린더 피드용. 태그가 없으면 resource가 null인 한 행, 있으면 태그 수만큼
+    @Query("select new com.likelion.attserver.DTO.ScheduleResourceDTO(s.id, t.id, s.date, s.time, s.duration, r) " +
+            "from TeamEntity t join t.schedules s left join s.resources r where t.id = :teamId order by s.date, s.time, s.id")
+    List<ScheduleResourceDTO> findCalendarRows(Long teamId);
+
+    // 출석 행을 새로 만들기 전에 스케쥴 행을 잠가서 같은 칸을 두 트랜잭션이 동시에 만들지 않게 함.
+    // 팀 행까지 잠그지 않도록 스케쥴만 잠그고 소속 팀은 findTeamsOf로 따로 읽음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s.id from SchedulesEntity s where s.id in :ids")
+    List<Long> lockSchedules(Collection<Long> ids);
+
+    @Query("select new com.likelion.attserver.DTO.ScheduleTeamDTO(s.id, t.id) from TeamEntity t join t.schedules s where s.id in :ids")
+    List<ScheduleTeamDTO> findTeamsOf(Collection<Long> ids);
+
+    // 소유 확인. 조인 테이블 인덱스에서 (팀, 스케쥴) 한 행만 봄
+    @Query("select case when count(s) > 0 then true else false end " +
+            "from TeamEntity t join t.schedules s where t.id = :teamId and s.id = :id")
+    boolean existsInTeam(Long id, Long teamId);
+
+    @Query("select new com.likelion.attserver.DTO.ScheduleAttendanceDTO(a.id, a.user.id, a.status, a.score) " +
+            "from SchedulesEntity s join s.attendances a where s.id = :scheduleId")
+    List<ScheduleAttendanceDTO> findAttendancesOf(Long scheduleId);
+
+    @Query("select s.id from TeamEntity t join t.schedules s where t.id = :teamId")
+    List<Long> findIdsByTeamId(Long teamId);
+
+    // 팀 조인 테이블 인덱스로 팀들의 스케쥴만 찾아서 기간 안의 기존 칸만 조회
+    @Query("select new com.likelion.attserver.DTO.ScheduleSlotDTO(t.id, s.date, s.time) from TeamEntity t join t.schedules s " +
+            "where t.id in :teamIds and s.date between :from and :to")
+    List<ScheduleSlotDTO> findSlots(Collection<Long> teamIds, LocalDate from, LocalDate to);
 }
@@ -1,13 +1,19 @@
 package com.likelion.attserver.Repository;
 
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardRowDTO;
+import com.likelion.attserver.DTO.TeamMemberDTO;
+import com.likelion.attserver.DTO.TeamMemberUserDTO;
 import com.likelion.attserver.Entity.SchedulesEntity;
 import com.likelion.attserver.Entity.TeamEntity;
 import com.likelion.attserver.Entity.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<TeamEntity, Long> {
@@ -15,4 +21,49 @@ public interface TeamRepository extends JpaRepository<TeamEntity, Long> {
     List<SchedulesEntity> getSchedulesById(Long teamId);
     TeamEntity getByUsersContaining(UserEntity user);
     boolean existsByUsersContaining(UserEntity user);
+
+    // 스케쥴 목록을 다루는 경로(스케쥴 추가/삭제, 팀원 변경)용. 출석은 여기서 가져오지 않음
+    @EntityGraph(attributePaths = "schedules")
+    Optional<TeamEntity> findWithSchedulesById(Long id);
+
+    // 팀/팀원 조회용. 팀원만 같이 가져오고 스케쥴은 건드리지 않음
+    @EntityGraph(attributePaths = "users")
+    Optional<TeamEntity> findWithUsersById(Long id);
+
+    @EntityGraph(attributePaths = "users")
+    @Query("select t from TeamEntity t")
+    List<TeamEntity> findAllWithUsers();
+
+    @Query("select t.id from TeamEntity t join t.users u where u.id = :userId")
+    List<Long> findTeamIdsByUserId(Long userId);
+
+    @Query("select t.id from TeamEntity t order by t.id")
+    List<Long> findAllIds();
+
+    @Query("select new com.likelion.attserver.DTO.TeamMemberDTO(t.id, u.id) " +
+            "from TeamEntity t join t.users u where t.id in :teamIds")
+    List<TeamMemberDTO> findMembers(Collection<Long> teamIds);
+
+    // 주어진 학번이 이미 속한 팀 (팀원은 한 팀에만 속함)
+    @Query("select new com.likelion.attserver.DTO.TeamMemberDTO(t.id, u.id) " +
+            "from TeamEntity t join t.users u where u.id in :userIds")
+    List<TeamMemberDTO> findMembershipsOf(Collection<Long> userIds);
+
+    @Query("select new com.likelion.attserver.DTO.TeamMemberUserDTO(t.id, u.id, u.name, u.phone, u.email, u.track, u.role) " +
+            "from TeamEntity t join t.users u where t.id = :teamId order by u.id")
+    List<TeamMemberUserDTO> findMemberUsers(Long teamId);
+
+    @Query("select new com.likelion.attserver.DTO.TeamMemberUserDTO(t.id, u.id, u.name, u.phone, u.email, u.track, u.role) " +
+            "from TeamEntity t join t.users u order by t.id, u.id")
+    List<TeamMemberUserDTO> findAllMemberUsers();
+
+    // 스케쥴이 하나라도 있는 팀의 팀원을 0점으로. 희소 모드에서 출석 행이 하나도 없는 팀원도 리더보드에 넣을 때 씀
+    @Query("select new com.likelion.attserver.DTO.Leaderboard.LeaderboardRowDTO(t.id, u.id, u.track, 0L) " +
+            "from TeamEntity t join t.users u where t.schedules is not empty")
+    List<LeaderboardRowDTO> findScheduledMemberRows();
+
+    // 한 팀만. 스케쥴/팀원이 바뀐 팀의 팀원을 리더보드에 0점으로 올릴 때 씀
+    @Query("select new com.likelion.attserver.DTO.Leaderboard.LeaderboardRowDTO(t.id, u.id, u.track, 0L) " +
+            "from TeamEntity t join t.users u where t.id = :teamId and t.schedules is not empty")
+    List<LeaderboardRowDTO> findScheduledMemberRows(Long teamId);
 }
@@ -1,9 +1,34 @@
 package com.likelion.attserver.Service.Attendance;
 
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
 import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendancePageDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.FinalizeRunDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceStatsDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.Stats.SummaryDriftDTO;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 public interface AttendanceService {
     List<AttendanceDTO> updateAttendance(List<AttendanceDTO> attendances);
+    List<AttendanceResultDTO> bulkUpdateAttendance(List<AttendanceDTO> attendances);
+    void streamUpdateAttendance(InputStream in, OutputStream out) throws IOException;
+    LinkedHashMap<String, List<AttendanceStatsDTO>> getStats();
+    List<AttendanceSummaryDTO> getSummary(Long userId, Long teamId);
+    List<SummaryDriftDTO> verifySummary();
+    List<SummaryDriftDTO> rebuildSummary();
+    AttendancePageDTO search(AttendanceSearchDTO condition);
+    void export(AttendanceSearchDTO condition, String format, OutputStream out) throws IOException;
+    List<AttendanceChangeDTO> getHistory(Long attendanceId);
+    List<AttendanceChangeDTO> getStateAsOf(Instant at, Long teamId);
+    FinalizeRunDTO finalizeAttendances();
+    FinalizeRunDTO getLastFinalizeRun();
 }
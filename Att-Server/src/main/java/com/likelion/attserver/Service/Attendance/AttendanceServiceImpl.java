@@ -1,25 +1,311 @@
 package com.likelion.attserver.Service.Attendance;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.attserver.ChangeLog.AttendanceChangeLog;
 import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Leaderboard.LeaderboardDAO;
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.DTO.AttendanceChunkDTO;
 import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendancePageDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.AttendanceSearchRowDTO;
+import com.likelion.attserver.DTO.FinalizeRunDTO;
+import com.likelion.attserver.DTO.FinalizedScheduleDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceStatsDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.Stats.SummaryDriftDTO;
 import com.likelion.attserver.Exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceDAO attendanceDAO;
+    private final AttendanceSummaryDAO summaryDAO;
+    private final ObjectMapper objectMapper;
+    private final AttendanceChangeLog changeLog;
+    private final LeaderboardDAO leaderboardDAO;
+    @Value("${att.stream.chunk-size:500}")
+    private int chunkSize;
+    @Value("${att.attendance.conflict-retries:3}")
+    private int conflictRetries;
+    @Value("${att.export.fetch-size:1000}")
+    private int exportFetchSize;
+    @Value("${att.finalize.after-minutes:1440}")
+    private long finalizeAfterMinutes;
+    @Value("${att.finalize.batch-size:100}")
+    private int finalizeBatchSize;
+
+    private volatile FinalizeRunDTO lastFinalizeRun;
 
     @Override
     public List<AttendanceDTO> updateAttendance(List<AttendanceDTO> attendances) {
         try {
-            return attendanceDAO.updateAttendance(attendances);
+            return retryOnConflict(() -> attendanceDAO.updateAttendance(attendances));
+        } catch (CustomException e) {
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new CustomException(e.getMessage(), HttpStatus.CONFLICT);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public List<AttendanceResultDTO> bulkUpdateAttendance(List<AttendanceDTO> attendances) {
+        try {
+            return retryOnConflict(() -> attendanceDAO.bulkUpdateAttendance(attendances));
+        } catch (CustomException e) {
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new CustomException(e.getMessage(), HttpStatus.CONFLICT);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public LinkedHashMap<String, List<AttendanceStatsDTO>> getStats() {
+        try {
+            return attendanceDAO.getStats();
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // userId 또는 teamId 중 하나로 요약 카운터 조회
+    @Override
+    public List<AttendanceSummaryDTO> getSummary(Long userId, Long teamId) {
+        try {
+            if (userId != null) return summaryDAO.getUserSummary(userId);
+            if (teamId != null) return summaryDAO.getTeamSummary(teamId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        throw new CustomException("userId or teamId required", HttpStatus.BAD_REQUEST);
+    }
+
+    @Override
+    public List<SummaryDriftDTO> verifySummary() {
+        try {
+            return summaryDAO.verify();
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public List<SummaryDriftDTO> rebuildSummary() {
+        try {
+            List<SummaryDriftDTO> drifts = summaryDAO.rebuild();
+            leaderboardDAO.rebuild();
+            return drifts;
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public List<AttendanceChangeDTO> getHistory(Long attendanceId) {
+        try {
+            return changeLog.history(attendanceId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public List<AttendanceChangeDTO> getStateAsOf(Instant at, Long teamId) {
+        try {
+            return changeLog.stateAsOf(at, teamId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public AttendancePageDTO search(AttendanceSearchDTO condition) {
+        if (condition.getSize() <= 0 || condition.getSize() > 500)
+            throw new CustomException("size must be between 1 and 500", HttpStatus.BAD_REQUEST);
+        try {
+            return attendanceDAO.search(condition);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // DB 커서에서 읽은 행을 바로 파일 형식으로 써서 결과 전체를 메모리에 들고 있지 않음
+    @Override
+    public void export(AttendanceSearchDTO condition, String format, OutputStream out) throws IOException {
+        try (SheetWriter sheet = SheetWriter.of(format, out)) {
+            sheet.row(List.of("attendanceId", "teamId", "scheduleId", "date", "time",
+                    "studentId", "name", "track", "status", "score", "note"));
+            attendanceDAO.exportAttendances(condition, exportFetchSize, row -> {
+                try {
+                    sheet.row(exportRow(row));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<Object> exportRow(AttendanceSearchRowDTO row) {
+        return Arrays.asList(row.getId(), row.getTeamId(), row.getScheduleId(),
+                String.valueOf(row.getDate()), String.valueOf(row.getTime()),
+                row.getUserId(), row.getName(), String.valueOf(row.getTrack()),
+                String.valueOf(row.getStatus()), row.getScore(), row.getNote());
+    }
+
+    // 요약 카운터가 출석 테이블과 어긋난 경우 주기적으로 맞춰줌 (기본 매일 새벽 4시).
+    // 리더보드도 요약 테이블 기준으로 다시 만들어서 커밋 직후 갱신이 엇갈린 경우를 바로잡음
+    @Scheduled(cron = "${att.summary.reconcile-cron:0 0 4 * * *}")
+    public void reconcileSummary() {
+        List<SummaryDriftDTO> drifts = summaryDAO.rebuild();
+        if (!drifts.isEmpty())
+            log.info("Reconciled {} drifted attendance summaries", drifts.size());
+        leaderboardDAO.rebuild();
+    }
+
+    // 스케쥴 시작 후 정해진 시간이 지나도 NOT으로 남은 출석을 ABSENT로 마감.
+    // 배치마다 따로 커밋되며, 마감 안 된 스케쥴이 없을 때까지 반복하므로 밀린 실행도 한 번에 따라잡음
+    @Scheduled(fixedDelayString = "${att.finalize.interval-ms:300000}")
+    public void scheduledFinalize() {
+        FinalizeRunDTO run = finalizeAttendances();
+        if (run.getAbsentCount() > 0)
+            log.info("Finalized {} schedules, {} attendances marked ABSENT",
+                    run.getSchedules().size(), run.getAbsentCount());
+    }
+
+    @Override
+    public synchronized FinalizeRunDTO finalizeAttendances() {
+        try {
+            LocalDateTime ranAt = LocalDateTime.now();
+            LocalDateTime cutoff = ranAt.minusMinutes(finalizeAfterMinutes);
+            List<FinalizedScheduleDTO> schedules = new ArrayList<>();
+            List<FinalizedScheduleDTO> batch;
+            do {
+                batch = attendanceDAO.finalizeSchedules(cutoff, finalizeBatchSize);
+                schedules.addAll(batch);
+            } while (batch.size() == finalizeBatchSize);
+
+            FinalizeRunDTO run = FinalizeRunDTO.builder()
+                    .ranAt(ranAt)
+                    .cutoff(cutoff)
+                    .absentCount(schedules.stream().mapToInt(schedule -> schedule.getAbsentAttendanceIds().size()).sum())
+                    .schedules(schedules)
+                    .build();
+            lastFinalizeRun = run;
+            return run;
         } catch (Exception e) {
             throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
+
+    @Override
+    public FinalizeRunDTO getLastFinalizeRun() {
+        if (lastFinalizeRun == null)
+            throw new CustomException("Finalizer has not run yet", HttpStatus.NOT_FOUND);
+        return lastFinalizeRun;
+    }
+
+    // NDJSON을 한 줄씩 읽어 chunkSize 단위로 각각 커밋하고, 청크 결과를 바로 응답에 흘려보냄
+    @Override
+    public void streamUpdateAttendance(InputStream in, OutputStream out) throws IOException {
+        List<AttendanceDTO> buffer = new ArrayList<>(chunkSize);
+        int chunk = 0;
+        long processed = 0;
+        String error = null;
+
+        try (MappingIterator<AttendanceDTO> lines = objectMapper.readerFor(AttendanceDTO.class).readValues(in)) {
+            while (lines.hasNext()) {
+                buffer.add(lines.next());
+                if (buffer.size() == chunkSize) {
+                    processed += writeChunk(out, ++chunk, buffer, processed);
+                    buffer.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            // 줄 파싱 실패 이후는 스트림 위치를 신뢰할 수 없으므로 중단 (이미 커밋된 청크는 유지)
+            error = "Invalid line after " + (processed + buffer.size()) + " rows: " + e.getMessage();
+            log.info("Attendance stream stopped: {}", error);
+        }
+        if (!buffer.isEmpty())
+            processed += writeChunk(out, ++chunk, buffer, processed);
+
+        writeLine(out, AttendanceChunkDTO.builder()
+                .chunk(chunk)
+                .processed(processed)
+                .error(error)
+                .done(true)
+                .build());
+    }
+
+    // 청크 하나를 독립 트랜잭션으로 반영하고 커밋된 행 수를 반환
+    private int writeChunk(OutputStream out, int chunk, List<AttendanceDTO> buffer, long processed) throws IOException {
+        AttendanceChunkDTO.AttendanceChunkDTOBuilder result = AttendanceChunkDTO.builder()
+                .chunk(chunk)
+                .size(buffer.size());
+        int committed = 0;
+        try {
+            List<AttendanceResultDTO> results = retryOnConflict(() -> attendanceDAO.bulkUpdateAttendance(buffer));
+            result.updated(count(results, AttendanceResultDTO.Result.UPDATED))
+                    .notFound(count(results, AttendanceResultDTO.Result.NOT_FOUND))
+                    .conflict(count(results, AttendanceResultDTO.Result.CONFLICT));
+            committed = buffer.size();
+        } catch (Exception e) {
+            result.error(e.getMessage());
+        }
+        writeLine(out, result.processed(processed + committed).build());
+        return committed;
+    }
+
+    private static int count(List<AttendanceResultDTO> results, AttendanceResultDTO.Result type) {
+        return (int) results.stream().filter(r -> r.getResult() == type).count();
+    }
+
+    // 읽은 뒤 커밋 전에 다른 관리자가 같은 행을 커밋한 경우 새 트랜잭션으로 다시 시도.
+    // 다시 읽으면 버전을 보낸 행은 CONFLICT로, 안 보낸 행은 최신 값 위에 반영됨
+    private <T> T retryOnConflict(Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt > conflictRetries) throw e;
+                log.info("Attendance update conflicted, retrying ({}/{})", attempt, conflictRetries);
+            }
+        }
+    }
+
+    private void writeLine(OutputStream out, AttendanceChunkDTO line) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write("\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
 }
@@ -0,0 +1,21 @@
+package com.likelion.attserver.Service.Attendance;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+// 내보내기 파일을 한 행씩 바로 출력 스트림에 씀
+interface SheetWriter extends AutoCloseable {
+    void row(List<?> cells) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    static SheetWriter of(String format, OutputStream out) throws IOException {
+        return switch (format.toLowerCase()) {
+            case "csv" -> new CsvSheetWriter(out);
+            case "xlsx" -> new XlsxSheetWriter(out);
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.likelion.attserver.Service.Calendar;
+
+public interface CalendarService {
+    String getTeamTag(Long teamId);
+    byte[] getTeamFeed(Long teamId);
+    String getUserTag(Long userId);
+    byte[] getUserFeed(Long userId);
+    String getTeamLink(Long teamId);
+    String getUserLink(String token, Long userId);
+}
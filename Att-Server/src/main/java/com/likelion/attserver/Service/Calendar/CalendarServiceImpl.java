@@ -0,0 +1,66 @@
+package com.likelion.attserver.Service.Calendar;
+
+import com.likelion.attserver.DAO.Calendar.CalendarDAO;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.JWT.CalendarFeedToken;
+import com.likelion.attserver.JWT.JwtTokenUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarServiceImpl implements CalendarService {
+    private final CalendarDAO calendarDAO;
+    private final CalendarFeedToken feedToken;
+    private final JwtTokenUtil jwtTokenUtil;
+
+    @Override
+    public String getTeamTag(Long teamId) {
+        return calendarDAO.getTeamTag(teamId);
+    }
+
+    @Override
+    public byte[] getTeamFeed(Long teamId) {
+        try {
+            return calendarDAO.getTeamFeed(teamId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public String getUserTag(Long userId) {
+        try {
+            return calendarDAO.getUserTag(userId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public byte[] getUserFeed(Long userId) {
+        try {
+            return calendarDAO.getUserFeed(userId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public String getTeamLink(Long teamId) {
+        return "/api/schedules/calendar?teamId=" + teamId
+                + "&token=" + feedToken.issue(CalendarFeedToken.Kind.TEAM, teamId);
+    }
+
+    // 학생 피드 주소는 본인 것만 (관리자는 누구 것이든)
+    @Override
+    public String getUserLink(String token, Long userId) {
+        if (!userId.equals(jwtTokenUtil.getIdFromToken(token))
+                && jwtTokenUtil.getRoleFromToken(token) != UserEntity.Role.ADMIN)
+            throw new CustomException("다른 학생의 캘린더 주소", HttpStatus.FORBIDDEN);
+        return "/api/schedules/calendar/user?userId=" + userId
+                + "&token=" + feedToken.issue(CalendarFeedToken.Kind.USER, userId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.likelion.attserver.Service.CheckIn;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+
+// 스케쥴별로 일정 주기마다 바뀌는 6자리 체크인 코드 (TOTP 방식, DB 조회 없이 검증)
+@Component
+public class CheckInCode {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final long periodSeconds;
+
+    public CheckInCode(@Value("${att.checkin.secret:}") String secret,
+                       @Value("${att.checkin.period-seconds:30}") long periodSeconds) {
+        byte[] bytes;
+        if (secret == null || secret.isBlank()) {
+            // 설정이 없으면 JwtTokenUtil처럼 실행할 때마다 새 키 생성
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+        } else {
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(bytes, ALGORITHM);
+        this.periodSeconds = periodSeconds;
+    }
+
+    public String current(Long scheduleId) {
+        return current(scheduleId, Instant.now());
+    }
+
+    String current(Long scheduleId, Instant now) {
+        return generate(scheduleId, window(now));
+    }
+
+    public long secondsLeft() {
+        return periodSeconds - Instant.now().getEpochSecond() % periodSeconds;
+    }
+
+    // 화면에 띄우는 사이 코드가 바뀔 수 있어 직전 주기 코드까지 허용
+    public boolean verify(Long scheduleId, String code) {
+        return verify(scheduleId, code, Instant.now());
+    }
+
+    boolean verify(Long scheduleId, String code, Instant now) {
+        if (scheduleId == null || code == null) return false;
+        long window = window(now);
+        byte[] given = code.getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(given, generate(scheduleId, window).getBytes(StandardCharsets.UTF_8))
+                || MessageDigest.isEqual(given, generate(scheduleId, window - 1).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long window(Instant now) {
+        return now.getEpochSecond() / periodSeconds;
+    }
+
+    private String generate(Long scheduleId, long window) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] hash = mac.doFinal(ByteBuffer.allocate(16).putLong(scheduleId).putLong(window).array());
+            // RFC 4226 dynamic truncation
+            int offset = hash[hash.length - 1] & 0x0f;
+            int binary = ((hash[offset] & 0x7f) << 24)
+                    | ((hash[offset + 1] & 0xff) << 16)
+                    | ((hash[offset + 2] & 0xff) << 8)
+                    | (hash[offset + 3] & 0xff);
+            return String.format("%06d", binary % 1_000_000);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.likelion.attserver.Service.CheckIn;
+
+import java.util.Map;
+
+public interface CheckInService {
+    Map<String, Object> issueCode(Long scheduleId);
+    void checkIn(String token, Long scheduleId, String code);
+}
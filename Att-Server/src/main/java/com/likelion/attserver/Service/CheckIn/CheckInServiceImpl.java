@@ -0,0 +1,125 @@
+package com.likelion.attserver.Service.CheckIn;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.DTO.CheckInDTO;
+import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.JWT.JwtTokenUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckInServiceImpl implements CheckInService {
+    private final AttendanceDAO attendanceDAO;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final CheckInCode checkInCode;
+    @Value("${att.checkin.late-after-minutes:10}")
+    private long lateAfterMinutes;
+    // 한 체크인이 이 횟수만큼 반영에 실패하면 버림
+    @Value("${att.checkin.max-attempts:5}")
+    private int maxAttempts;
+
+    // "scheduleId:userId" -> 첫 체크인. 주기적으로 한 트랜잭션에 모아서 반영 (write-behind)
+    private final Map<String, CheckInDTO> buffer = new ConcurrentHashMap<>();
+    // "scheduleId:userId" -> 지금까지 실패한 횟수
+    private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, Object> issueCode(Long scheduleId) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scheduleId", scheduleId);
+        result.put("code", checkInCode.current(scheduleId));
+        result.put("expiresIn", checkInCode.secondsLeft());
+        return result;
+    }
+
+    // 코드 검증은 HMAC 계산만 하고, 출석 반영은 버퍼에 넣은 뒤 바로 응답
+    @Override
+    public void checkIn(String token, Long scheduleId, String code) {
+        if (!checkInCode.verify(scheduleId, code))
+            throw new CustomException("잘못되었거나 만료된 체크인 코드", HttpStatus.BAD_REQUEST);
+        Long userId = jwtTokenUtil.getIdFromToken(token);
+        buffer.putIfAbsent(key(scheduleId, userId), CheckInDTO.builder()
+                .scheduleId(scheduleId)
+                .userId(userId)
+                .checkedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${att.checkin.flush-interval-ms:2000}")
+    public void flush() {
+        List<CheckInDTO> batch = new ArrayList<>();
+        for (String key : buffer.keySet()) {
+            CheckInDTO checkIn = buffer.remove(key);
+            if (checkIn != null) batch.add(checkIn);
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            log.info("Flushed {} check-ins ({} applied)", batch.size(), apply(batch));
+            batch.forEach(checkIn -> failures.remove(key(checkIn)));
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                requeue(batch.get(0), e);
+                return;
+            }
+            // 한 행 때문에 같은 묶음의 다른 체크인까지 막히지 않도록 하나씩 다시 반영하고, 실패한 것만 다시 넣음
+            log.warn("Check-in flush of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (CheckInDTO checkIn : batch) {
+                try {
+                    apply(List.of(checkIn));
+                    failures.remove(key(checkIn));
+                } catch (Exception rowError) {
+                    requeue(checkIn, rowError);
+                }
+            }
+        }
+    }
+
+    private long apply(List<CheckInDTO> checkIns) {
+        return attendanceDAO.applyCheckIns(checkIns, Duration.ofMinutes(lateAfterMinutes)).stream()
+                .filter(r -> r.getResult() == AttendanceResultDTO.Result.UPDATED)
+                .count();
+    }
+
+    // 다음 주기에 다시 시도하고, maxAttempts번 실패하면 버림
+    private void requeue(CheckInDTO checkIn, Exception e) {
+        String key = key(checkIn);
+        int attempts = failures.merge(key, 1, Integer::sum);
+        if (attempts >= maxAttempts) {
+            failures.remove(key);
+            log.error("Dropping check-in {} after {} failed attempts", key, attempts, e);
+            return;
+        }
+        log.warn("Check-in {} failed (attempt {}/{}), requeueing: {}", key, attempts, maxAttempts, e.getMessage());
+        buffer.putIfAbsent(key, checkIn);
+    }
+
+    private static String key(CheckInDTO checkIn) {
+        return key(checkIn.getScheduleId(), checkIn.getUserId());
+    }
+
+    private static String key(Long scheduleId, Long userId) {
+        return scheduleId + ":" + userId;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
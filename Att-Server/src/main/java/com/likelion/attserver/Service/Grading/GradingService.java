@@ -0,0 +1,11 @@
+package com.likelion.attserver.Service.Grading;
+
+import com.likelion.attserver.DTO.Grading.GradeDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
+
+import java.util.List;
+
+public interface GradingService {
+    List<GradingRuleDTO> getDefaultRules();
+    List<GradeDTO> getGrades(List<GradingRuleDTO> rules, Long teamId, Long userId);
+}
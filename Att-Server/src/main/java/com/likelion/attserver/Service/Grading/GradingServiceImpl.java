@@ -0,0 +1,57 @@
+package com.likelion.attserver.Service.Grading;
+
+import com.likelion.attserver.DAO.Grading.GradingDAO;
+import com.likelion.attserver.DTO.Grading.GradeDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
+import com.likelion.attserver.Exception.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class GradingServiceImpl implements GradingService {
+    private final GradingDAO gradingDAO;
+    private final List<GradingRuleDTO> defaultRules;
+
+    // 기본 규칙은 "TYPE:값,TYPE:값" 형식 (예: LATE_TO_ABSENT:3,LATE_WEIGHT:0.5)
+    public GradingServiceImpl(GradingDAO gradingDAO,
+                              @Value("${att.grading.rules:}") String rules) {
+        this.gradingDAO = gradingDAO;
+        this.defaultRules = parse(rules);
+    }
+
+    @Override
+    public List<GradingRuleDTO> getDefaultRules() {
+        return defaultRules;
+    }
+
+    @Override
+    public List<GradeDTO> getGrades(List<GradingRuleDTO> rules, Long teamId, Long userId) {
+        try {
+            return gradingDAO.evaluate(rules == null ? defaultRules : rules).stream()
+                    .filter(grade -> teamId == null || teamId.equals(grade.getTeamId()))
+                    .filter(grade -> userId == null || userId.equals(grade.getUserId()))
+                    .toList();
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static List<GradingRuleDTO> parse(String rules) {
+        List<GradingRuleDTO> result = new ArrayList<>();
+        for (String rule : rules.split(",")) {
+            if (rule.isBlank()) continue;
+            String[] parts = rule.trim().split(":");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Invalid grading rule: " + rule);
+            result.add(GradingRuleDTO.builder()
+                    .type(GradingRuleDTO.Type.valueOf(parts[0].trim()))
+                    .value(Double.parseDouble(parts[1].trim()))
+                    .build());
+        }
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,11 @@
+package com.likelion.attserver.Service.Leaderboard;
+
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import com.likelion.attserver.Entity.UserEntity;
+
+import java.util.List;
+
+public interface LeaderboardService {
+    List<LeaderboardEntryDTO> getTop(UserEntity.Track track, Long teamId, int limit);
+    LeaderboardEntryDTO getRank(Long userId, UserEntity.Track track, Long teamId);
+}
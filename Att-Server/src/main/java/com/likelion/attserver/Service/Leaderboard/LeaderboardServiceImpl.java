@@ -0,0 +1,39 @@
+package com.likelion.attserver.Service.Leaderboard;
+
+import com.likelion.attserver.DAO.Leaderboard.LeaderboardDAO;
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class LeaderboardServiceImpl implements LeaderboardService {
+    private static final int MAX_LIMIT = 500;
+
+    private final LeaderboardDAO leaderboardDAO;
+
+    @Override
+    public List<LeaderboardEntryDTO> getTop(UserEntity.Track track, Long teamId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new CustomException("limit must be between 1 and " + MAX_LIMIT, HttpStatus.BAD_REQUEST);
+        try {
+            return leaderboardDAO.getTop(track, teamId, limit);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public LeaderboardEntryDTO getRank(Long userId, UserEntity.Track track, Long teamId) {
+        try {
+            return leaderboardDAO.getRank(userId, track, teamId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.likelion.attserver.Service.Matrix;
+
+import com.likelion.attserver.DAO.Matrix.AttendanceMatrixDAO;
+import com.likelion.attserver.DTO.Matrix.MatrixFootprintDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixSlotDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixStreakDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceMatrixServiceImpl implements AttendanceMatrixService {
+    private final AttendanceMatrixDAO matrixDAO;
+
+    @Override
+    public List<MatrixStreakDTO> getStreaks(Long teamId, AttendanceEntity.Status status, int minLength) {
+        if (minLength < 1)
+            throw new CustomException("length must be at least 1", HttpStatus.BAD_REQUEST);
+        try {
+            return matrixDAO.getStreaks(teamId, status, minLength);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public List<MatrixSlotDTO> getSlots(Long teamId) {
+        try {
+            return matrixDAO.getSlots(teamId);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public List<MatrixFootprintDTO> getFootprint() {
+        try {
+            return matrixDAO.getFootprint();
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.likelion.attserver.Service.Revision;
+
+public interface TeamRevisionService {
+    String getTeamTag(Long teamId);
+    String getAllTag();
+}
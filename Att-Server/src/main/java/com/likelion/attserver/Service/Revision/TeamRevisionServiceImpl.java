@@ -0,0 +1,21 @@
+package com.likelion.attserver.Service.Revision;
+
+import com.likelion.attserver.DAO.Revision.TeamRevisionDAO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TeamRevisionServiceImpl implements TeamRevisionService {
+    private final TeamRevisionDAO revisionDAO;
+
+    @Override
+    public String getTeamTag(Long teamId) {
+        return revisionDAO.getTeamTag(teamId);
+    }
+
+    @Override
+    public String getAllTag() {
+        return revisionDAO.getAllTag();
+    }
+}
@@ -0,0 +1,93 @@
+package com.likelion.attserver.Service.Schedules;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.attserver.DTO.ScheduleRowDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 팀 -> 스케쥴 -> 출석 순으로 정렬된 행을 받는 대로 {팀 ID: [스케쥴...]} JSON으로 바로 씀.
+// 지금 열려 있는 팀/스케쥴 ID만 기억하므로 결과 크기와 상관없이 메모리가 일정함.
+// 필드 이름과 순서는 ScheduleResponseDTO, AttendanceDTO, UserDTO를 직렬화한 것과 같음
+class ScheduleJsonWriter implements AutoCloseable {
+    private final JsonGenerator generator;
+    private Long teamId;
+    private Long scheduleId;
+
+    ScheduleJsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        // 응답 스트림은 컨테이너가 닫음
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+    }
+
+    void row(ScheduleRowDTO row) throws IOException {
+        if (!row.getTeamId().equals(teamId)) {
+            closeTeam();
+            teamId = row.getTeamId();
+            generator.writeArrayFieldStart(teamId.toString());
+        }
+        if (row.getScheduleId() == null) return;
+
+        if (!row.getScheduleId().equals(scheduleId)) {
+            closeSchedule();
+            scheduleId = row.getScheduleId();
+            generator.writeStartObject();
+            generator.writeNumberField("id", scheduleId);
+            // 날짜/시간 형식은 ObjectMapper 설정(JavaTimeModule)을 그대로 따름
+            generator.writeFieldName("date");
+            generator.writeObject(row.getDate());
+            generator.writeFieldName("time");
+            generator.writeObject(row.getTime());
+            generator.writeArrayFieldStart("attendances");
+        }
+        if (row.getUserId() != null)
+            writeAttendance(row);
+    }
+
+    private void writeAttendance(ScheduleRowDTO row) throws IOException {
+        generator.writeStartObject();
+        number("id", row.getAttendanceId());
+        number("scheduleId", row.getScheduleId());
+        generator.writeObjectFieldStart("user");
+        number("studentId", row.getUserId());
+        generator.writeStringField("name", row.getName());
+        generator.writeStringField("phone", row.getPhone());
+        generator.writeStringField("email", row.getEmail());
+        generator.writeStringField("track", row.getTrack() == null ? null : row.getTrack().name());
+        generator.writeStringField("role", row.getRole() == null ? null : row.getRole().name());
+        generator.writeEndObject();
+        generator.writeStringField("status", row.getStatus() == null ? null : row.getStatus().name());
+        generator.writeStringField("note", row.getNote());
+        number("score", row.getScore());
+        number("version", row.getVersion());
+        generator.writeEndObject();
+    }
+
+    private void number(String field, Long value) throws IOException {
+        if (value == null) generator.writeNullField(field);
+        else generator.writeNumberField(field, value);
+    }
+
+    private void closeSchedule() throws IOException {
+        if (scheduleId == null) return;
+        generator.writeEndArray();
+        generator.writeEndObject();
+        scheduleId = null;
+    }
+
+    private void closeTeam() throws IOException {
+        closeSchedule();
+        if (teamId != null)
+            generator.writeEndArray();
+        teamId = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeTeam();
+        generator.writeEndObject();
+        generator.close();
+    }
+}
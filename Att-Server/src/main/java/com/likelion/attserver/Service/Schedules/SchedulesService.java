@@ -1,13 +1,23 @@
 package com.likelion.attserver.Service.Schedules;
 
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
+import com.likelion.attserver.DTO.RecurringScheduleResultDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
 import com.likelion.attserver.DTO.SchedulesDTO;
 
-import java.util.LinkedHashMap;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface SchedulesService {
     void createSchedule(Long teamId, List<SchedulesDTO> schedule);
-    List<LinkedHashMap<String, Object>> getSchedules(Long teamId);
-    LinkedHashMap<String, List<LinkedHashMap<String, Object>>> getAllSchedules();
+    RecurringScheduleResultDTO createRecurringSchedules(RecurringScheduleDTO request);
+    List<ScheduleResponseDTO> getSchedules(Long teamId, LocalDate from, LocalDate to, boolean upcoming, Integer limit);
+    void writeAllSchedules(OutputStream out) throws IOException;
+    SseEmitter subscribe(Long teamId);
+    String issueEventsToken(String token);
     void deleteSchedule(Long teamId, Long id);
 }
@@ -1,22 +1,54 @@
 package com.likelion.attserver.Service.Schedules;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
+import com.likelion.attserver.DTO.RecurringScheduleResultDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
 import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Event.TeamEventHub;
 import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.JWT.JwtTokenUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.LinkedHashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class SchedulesServiceImpl implements SchedulesService {
+    // 한 학기(여유 있게 1년) 이상은 잘못된 요청으로 봄
+    private static final long MAX_RECURRING_DAYS = 366;
+    private static final int MAX_DURATION = 24 * 60;
+    private static final int MAX_RESOURCE_LENGTH = 64;
+
     private final SchedulesDAO schedulesDAO;
+    private final ObjectMapper objectMapper;
+    private final TeamEventHub eventHub;
+    private final JwtTokenUtil jwtTokenUtil;
+
+    // 내보내기와 같은 커서 설정 (MySQL은 Integer.MIN_VALUE일 때 행 단위 스트리밍)
+    @Value("${att.export.fetch-size:1000}")
+    private int fetchSize;
+    @Value("${att.events.token-ttl-seconds:60}")
+    private long eventsTokenTtl;
 
     @Override
     public void createSchedule(Long teamId, List<SchedulesDTO> schedule) {
+        for (SchedulesDTO dto : schedule) {
+            checkDuration(dto.getDuration());
+            dto.setResources(normalizeResources(dto.getResources()));
+        }
         try {
             schedulesDAO.addSchedule(teamId, schedule);
         } catch (Exception e) {
@@ -25,23 +57,66 @@ public class SchedulesServiceImpl implements SchedulesService {
     }
 
     @Override
-    public List<LinkedHashMap<String, Object>> getSchedules(Long teamId) {
+    public RecurringScheduleResultDTO createRecurringSchedules(RecurringScheduleDTO request) {
+        if (request.getFrom() == null || request.getTo() == null || request.getTime() == null)
+            throw new CustomException("from, to, time are required", HttpStatus.BAD_REQUEST);
+        if (request.getDays() == null || request.getDays().isEmpty() || request.getDays().contains(null))
+            throw new CustomException("days must not be empty", HttpStatus.BAD_REQUEST);
+        if (request.getFrom().isAfter(request.getTo()))
+            throw new CustomException("from must not be after to", HttpStatus.BAD_REQUEST);
+        if (ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) > MAX_RECURRING_DAYS)
+            throw new CustomException("range must be within " + MAX_RECURRING_DAYS + " days", HttpStatus.BAD_REQUEST);
+        checkDuration(request.getDuration());
+        request.setResources(normalizeResources(request.getResources()));
         try {
-            return schedulesDAO.getSchedules(teamId);
+            return schedulesDAO.addRecurringSchedules(request);
         } catch (Exception e) {
             throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
 
     @Override
-    public LinkedHashMap<String, List<LinkedHashMap<String, Object>>> getAllSchedules() {
+    public List<ScheduleResponseDTO> getSchedules(Long teamId, LocalDate from, LocalDate to,
+                                                  boolean upcoming, Integer limit) {
+        if (limit != null && limit < 1)
+            throw new CustomException("limit must be at least 1", HttpStatus.BAD_REQUEST);
+        if (from != null && to != null && from.isAfter(to))
+            throw new CustomException("from must not be after to", HttpStatus.BAD_REQUEST);
         try {
-            return schedulesDAO.getAllSchedules();
+            return schedulesDAO.getSchedules(teamId, from, to, upcoming, limit);
         } catch (Exception e) {
             throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
 
+    // DB 커서에서 읽은 행을 바로 JSON으로 써서 전체 결과를 메모리에 들고 있지 않음
+    @Override
+    public void writeAllSchedules(OutputStream out) throws IOException {
+        try (ScheduleJsonWriter writer = new ScheduleJsonWriter(objectMapper, out)) {
+            schedulesDAO.streamAllSchedules(fetchSize, row -> {
+                try {
+                    writer.row(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(Long teamId) {
+        return eventHub.subscribe(teamId);
+    }
+
+    // 로그인 토큰의 학번/역할을 그대로 담아서, 전체 구독의 관리자 확인도 같은 방식으로 됨
+    @Override
+    public String issueEventsToken(String token) {
+        return jwtTokenUtil.generateEventsToken(String.valueOf(jwtTokenUtil.getIdFromToken(token)),
+                jwtTokenUtil.getRoleFromToken(token).name(), eventsTokenTtl * 1000);
+    }
+
     @Override
     public void deleteSchedule(Long teamId, Long id) {
         try {
@@ -50,4 +125,23 @@ public class SchedulesServiceImpl implements SchedulesService {
             throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
+
+    private static void checkDuration(Integer duration) {
+        if (duration != null && (duration < 1 || duration > MAX_DURATION))
+            throw new CustomException("duration must be between 1 and " + MAX_DURATION + " minutes", HttpStatus.BAD_REQUEST);
+    }
+
+    // 앞뒤 공백을 자르고 중복 태그는 하나로
+    private static List<String> normalizeResources(List<String> resources) {
+        if (resources == null) return List.of();
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String resource : resources) {
+            if (resource == null || resource.isBlank())
+                throw new CustomException("resources must not be blank", HttpStatus.BAD_REQUEST);
+            if (resource.strip().length() > MAX_RESOURCE_LENGTH)
+                throw new CustomException("resource must be at most " + MAX_RESOURCE_LENGTH + " characters", HttpStatus.BAD_REQUEST);
+            normalized.add(resource.strip());
+        }
+        return List.copyOf(normalized);
+    }
 }
@@ -1,5 +1,6 @@
 package com.likelion.attserver.Service.Team;
 
+import com.likelion.attserver.DTO.TeamMembersResultDTO;
 import com.likelion.attserver.DTO.UserDTO;
 
 import java.util.LinkedHashMap;
@@ -8,6 +9,7 @@ import java.util.Map;
 
 public interface TeamService {
     Map<String, Long> createTeam(Long teamId, String note, List<Long> teamData);
+    TeamMembersResultDTO setMembers(Long teamId, List<Long> members);
     Map<String, List<UserDTO>> getTeam(Long teamId);
     LinkedHashMap<Long, LinkedHashMap<String, List<UserDTO>>> getAllTeam();
     void deleteTeam(Long teamId);
@@ -1,6 +1,7 @@
 package com.likelion.attserver.Service.Team;
 
 import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.TeamMembersResultDTO;
 import com.likelion.attserver.DTO.UserDTO;
 import com.likelion.attserver.Exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,17 @@ public class TeamServiceImpl implements TeamService {
         }
     }
 
+    @Override
+    public TeamMembersResultDTO setMembers(Long teamId, List<Long> members) {
+        if (members == null || members.contains(null))
+            throw new CustomException("Invalid member list", HttpStatus.BAD_REQUEST);
+        try {
+            return teamDAO.setMembers(teamId, members);
+        } catch (Exception e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @Override
     public Map<String, List<UserDTO>> getTeam(Long teamId) {
         try{
@@ -0,0 +1,145 @@
+package com.likelion.attserver.ChangeLog;
+
+import com.likelion.attserver.DTO.AttendanceChangeDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 세그먼트가 여러 개로 넘어가도 순서대로 재생되고, 재시작 후 이어 쓰는지 확인
+class AttendanceChangeLogTest {
+    @TempDir
+    Path dir;
+
+    private AttendanceChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        changeLog = open();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        changeLog.close();
+    }
+
+    @Test
+    void replaysAcrossSegmentsAndRestart() throws Exception {
+        Instant base = Instant.parse("2025-04-01T00:00:00Z");
+        List<AttendanceChangeDTO> changes = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            changes.add(change(i % 10, base.plusSeconds(i), i % 2 == 0 ? AttendanceEntity.Status.PRESENT : AttendanceEntity.Status.LATE, i));
+        changeLog.append(changes);
+
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+
+        // 재시작 후 마지막 세그먼트 끝에서 이어 씀
+        changeLog.close();
+        changeLog = open();
+        changeLog.append(List.of(change(3L, base.plusSeconds(1000), AttendanceEntity.Status.ABSENT, 999)));
+
+        List<AttendanceChangeDTO> history = changeLog.history(3L);
+        assertThat(history).hasSize(21);
+        assertThat(history).extracting(AttendanceChangeDTO::getNewScore).isSorted();
+        assertThat(history.get(20).getNewStatus()).isEqualTo(AttendanceEntity.Status.ABSENT);
+
+        // 199초 시점에는 출석 3의 마지막 변경이 193번째
+        List<AttendanceChangeDTO> state = changeLog.stateAsOf(base.plusSeconds(199), null);
+        assertThat(state).hasSize(10);
+        assertThat(state).filteredOn(change -> change.getAttendanceId() == 3L)
+                .singleElement()
+                .extracting(AttendanceChangeDTO::getNewScore)
+                .isEqualTo(193L);
+    }
+
+    @Test
+    void readsUnknownStatusBytesAsNull() throws Exception {
+        // 상태 자리에 문자 코드가 아닌 바이트가 들어간 레코드 하나가 들어있는 세그먼트
+        changeLog.close();
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) Files.delete(file);
+        }
+        ByteBuffer record = ByteBuffer.allocate(4096);
+        record.putInt(ChangeLogSegment.FIXED_SIZE);
+        record.putLong(Instant.parse("2025-04-01T00:00:00Z").toEpochMilli());
+        record.putLong(7L).putLong(20250007L).putLong(1L).putLong(20240001L);
+        record.put((byte) 0).put((byte) 3);
+        record.putLong(Long.MIN_VALUE).putLong(2L).putLong(1L);
+        record.putShort((short) 0);
+        Files.write(dir.resolve(String.format("attendance-%020d.log", 0)), record.array());
+
+        changeLog = open();
+        changeLog.append(List.of(change(7L, Instant.parse("2025-04-02T00:00:00Z"), AttendanceEntity.Status.LATE, 3)));
+
+        assertThat(changeLog.history(7L))
+                .extracting(AttendanceChangeDTO::getOldStatus, AttendanceChangeDTO::getNewStatus)
+                .containsExactly(
+                        tuple(null, null),
+                        tuple(AttendanceEntity.Status.NOT, AttendanceEntity.Status.LATE));
+    }
+
+    @Test
+    void historySkipsOnlySegmentsWithoutTheId() throws Exception {
+        Instant base = Instant.parse("2025-04-01T00:00:00Z");
+        List<AttendanceChangeDTO> changes = new ArrayList<>();
+        for (int i = 0; i < 300; i++)
+            changes.add(change(i, base.plusSeconds(i), AttendanceEntity.Status.PRESENT, i));
+        changeLog.append(changes);
+
+        // 재시작해서 다 쓴 세그먼트의 필터를 파일에서 다시 만들어도 모든 ID를 찾음
+        changeLog.close();
+        changeLog = open();
+        for (long id = 0; id < 300; id++)
+            assertThat(changeLog.history(id)).extracting(AttendanceChangeDTO::getNewScore).containsExactly(id);
+        assertThat(changeLog.history(12345L)).isEmpty();
+    }
+
+    @Test
+    void filterHasNoFalseNegatives() {
+        AttendanceIdFilter filter = new AttendanceIdFilter(1000);
+        for (long id = 1; id <= 1000; id++) filter.add(id * 7919);
+        for (long id = 1; id <= 1000; id++) assertThat(filter.mightContain(id * 7919)).isTrue();
+        long falsePositives = LongStream.rangeClosed(1, 10000)
+                .filter(id -> filter.mightContain(-id))
+                .count();
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    private AttendanceChangeLog open() throws Exception {
+        AttendanceChangeLog log = new AttendanceChangeLog(null);
+        ReflectionTestUtils.setField(log, "dir", dir.toString());
+        ReflectionTestUtils.setField(log, "segmentSize", 4096);
+        log.open();
+        return log;
+    }
+
+    private static AttendanceChangeDTO change(long attendanceId, Instant at, AttendanceEntity.Status status, long score) {
+        return AttendanceChangeDTO.builder()
+                .changedAt(at)
+                .attendanceId(attendanceId)
+                .userId(20250000L + attendanceId)
+                .teamId(1L)
+                .changedBy(20240001L)
+                .oldStatus(AttendanceEntity.Status.NOT)
+                .newStatus(status)
+                .newScore(score)
+                .version(score)
+                .note("비고 " + score)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.likelion.attserver.Config;
+
+import com.likelion.attserver.JWT.CalendarFeedToken;
+import com.likelion.attserver.JWT.JwtTokenUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 헤더 없이 들어오는 요청이 자기 경로용 토큰일 때만 통과하는지, 전체 구독은 관리자만 되는지 확인
+@SpringBootTest
+class JwtAuthenticationFilterTest {
+    @Autowired
+    private JwtAuthenticationFilter filter;
+    @Autowired
+    private CalendarFeedToken feedToken;
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Test
+    void calendarFeedsAcceptOnlyTheirOwnToken() throws Exception {
+        String teamToken = feedToken.issue(CalendarFeedToken.Kind.TEAM, 7L);
+        String userToken = feedToken.issue(CalendarFeedToken.Kind.USER, 7L);
+
+        assertThat(status("/api/schedules/calendar", "teamId", "7", teamToken)).isEqualTo(HttpStatus.OK.value());
+        assertThat(status("/api/schedules/calendar/user", "userId", "7", userToken)).isEqualTo(HttpStatus.OK.value());
+
+        // 다른 팀, 다른 종류, 잘못된 값, 토큰 없음은 JWT 검사로 넘어가서 401
+        assertThat(status("/api/schedules/calendar", "teamId", "8", teamToken)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(status("/api/schedules/calendar/user", "userId", "7", teamToken)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(status("/api/schedules/calendar", "teamId", "7", "not-a-token")).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(status("/api/schedules/calendar", "teamId", "7", null)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+
+        // 피드가 아닌 경로에서는 같은 토큰이어도 받지 않음
+        assertThat(status("/api/schedules", "teamId", "7", teamToken)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void eventsTokenWorksOnlyOnSubscribeRoutes() throws Exception {
+        String student = jwtTokenUtil.generateEventsToken("1", "STUDENT", 60_000);
+        String admin = jwtTokenUtil.generateEventsToken("2", "ADMIN", 60_000);
+
+        assertThat(status("/api/schedules/events", "teamId", "7", student)).isEqualTo(HttpStatus.OK.value());
+        assertThat(status("/api/schedules/events/all", null, null, admin)).isEqualTo(HttpStatus.OK.value());
+
+        // 전체 구독은 관리자만
+        assertThat(status("/api/schedules/events/all", null, null, student)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        // 로그인 토큰이나 만료된 구독 토큰은 쿼리로 받지 않음
+        String login = jwtTokenUtil.generateToken("1", "STUDENT");
+        assertThat(status("/api/schedules/events", "teamId", "7", login)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        String expired = jwtTokenUtil.generateEventsToken("1", "STUDENT", -1_000);
+        assertThat(status("/api/schedules/events", "teamId", "7", expired)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        // 다른 경로에서는 쿼리로도, 헤더로도 구독 토큰을 받지 않음
+        assertThat(status("/api/schedules", "teamId", "7", student)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules");
+        request.setParameter("teamId", "7");
+        request.addHeader("Authorization", "Bearer " + student);
+        assertThat(status(request)).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+
+        // 헤더의 로그인 토큰은 구독 경로에서도 그대로 됨
+        request = new MockHttpServletRequest("GET", "/api/schedules/events");
+        request.setParameter("teamId", "7");
+        request.addHeader("Authorization", "Bearer " + login);
+        assertThat(status(request)).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private int status(String path, String idName, String id, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (idName != null) request.setParameter(idName, id);
+        if (token != null) request.setParameter("token", token);
+        return status(request);
+    }
+
+    private int status(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        // 체인까지 넘어갔으면 통과
+        assertThat(chain.getRequest() != null).isEqualTo(response.getStatus() == HttpStatus.OK.value());
+        return response.getStatus();
+    }
+}
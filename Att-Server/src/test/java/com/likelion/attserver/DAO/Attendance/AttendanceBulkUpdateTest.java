@@ -0,0 +1,129 @@
+package com.likelion.attserver.DAO.Attendance;
+
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기존 행별 findById/save 루프와 달리 일괄 수정은 행 수만큼 문장이 늘지 않는지 확인
+@SpringBootTest
+class AttendanceBulkUpdateTest {
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void loopQueriesPerRowWhileBulkBatches() {
+        List<Long> ids = seed(50);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> legacyUpdate(request(ids, AttendanceEntity.Status.PRESENT)));
+
+        // 행마다 SELECT 하나
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThanOrEqualTo(ids.size());
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(ids.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {500, 5000})
+    void bulkStatementsGrowOnlyByBatches(int rows) {
+        long small = bulkStatements(seed(50));
+        List<Long> ids = seed(rows);
+        long large = bulkStatements(ids);
+
+        // 조회 횟수는 같고 UPDATE 배치(batch_size=100)만 늘어남
+        assertThat(large - small).isLessThanOrEqualTo(rows / 100);
+        assertThat(attendanceRepository.findAllById(ids))
+                .hasSize(rows)
+                .allMatch(attendance -> attendance.getStatus() == AttendanceEntity.Status.LATE
+                        && attendance.getScore() == 1L
+                        && attendance.getVersion() == 1L);
+    }
+
+    @Test
+    void unknownIdDoesNotFailWholeList() {
+        List<Long> ids = new ArrayList<>(seed(2));
+        ids.add(-1L);
+
+        List<AttendanceResultDTO> results = attendanceDAO.bulkUpdateAttendance(request(ids, AttendanceEntity.Status.ABSENT));
+
+        assertThat(results).extracting(AttendanceResultDTO::getResult).containsExactly(
+                AttendanceResultDTO.Result.UPDATED,
+                AttendanceResultDTO.Result.UPDATED,
+                AttendanceResultDTO.Result.NOT_FOUND);
+    }
+
+    // 변경 전 AttendanceDAOImpl.updateAttendance와 같은 방식
+    private void legacyUpdate(List<AttendanceDTO> attendances) {
+        for (AttendanceDTO attendance : attendances) {
+            AttendanceEntity attendanceEntity = attendanceRepository.findById(attendance.getId()).orElseThrow();
+            attendanceEntity.setStatus(attendance.getStatus());
+            attendanceEntity.setNote(attendance.getNote());
+            attendanceEntity.setScore(attendance.getScore());
+            attendanceRepository.save(attendanceEntity);
+        }
+    }
+
+    private List<Long> seed(int rows) {
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .id(System.nanoTime())
+                .name("bench")
+                .password("bench")
+                .phone("010-0000-0000")
+                .track(UserEntity.Track.EduBack)
+                .role(UserEntity.Role.STUDENT)
+                .build());
+        List<AttendanceEntity> attendances = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            attendances.add(AttendanceEntity.builder()
+                    .user(user)
+                    .status(AttendanceEntity.Status.NOT)
+                    .build());
+        }
+        return attendanceRepository.saveAll(attendances).stream()
+                .map(AttendanceEntity::getId)
+                .toList();
+    }
+
+    private static List<AttendanceDTO> request(List<Long> ids, AttendanceEntity.Status status) {
+        return ids.stream()
+                .map(id -> AttendanceDTO.builder()
+                        .id(id)
+                        .status(status)
+                        .score(1L)
+                        .build())
+                .toList();
+    }
+
+    private long bulkStatements(List<Long> ids) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<AttendanceResultDTO> results = attendanceDAO.bulkUpdateAttendance(request(ids, AttendanceEntity.Status.LATE));
+        assertThat(results).extracting(AttendanceResultDTO::getResult).containsOnly(AttendanceResultDTO.Result.UPDATED);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(ids.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
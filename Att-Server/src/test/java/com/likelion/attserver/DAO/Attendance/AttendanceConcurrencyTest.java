@@ -0,0 +1,126 @@
+package com.likelion.attserver.DAO.Attendance;
+
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.Exception.GlobalExceptionHandler;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import com.likelion.attserver.Service.Attendance.AttendanceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 여러 관리자가 같은 출석을 동시에 수정해도 갱신이 사라지지 않는지 확인
+@SpringBootTest
+class AttendanceConcurrencyTest {
+    private static final int ADMINS = 8;
+    private static final int EDITS_PER_ADMIN = 50;
+
+    @Autowired
+    private AttendanceService attendanceService;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Test
+    void concurrentEditsAreNeverLost() throws Exception {
+        Long id = seed();
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(ADMINS);
+        List<Future<?>> admins = new ArrayList<>();
+        for (int i = 0; i < ADMINS; i++) {
+            admins.add(pool.submit(() -> {
+                for (int edit = 0; edit < EDITS_PER_ADMIN; edit++) {
+                    // 화면에서 읽은 값에 1점을 더해 저장하는 관리자
+                    AttendanceEntity current = attendanceRepository.findById(id).orElseThrow();
+                    AttendanceResultDTO result = attendanceService.bulkUpdateAttendance(List.of(AttendanceDTO.builder()
+                            .id(id)
+                            .status(AttendanceEntity.Status.PRESENT)
+                            .score(current.getScore() + 1)
+                            .version(current.getVersion())
+                            .build())).get(0);
+                    if (result.getResult() == AttendanceResultDTO.Result.UPDATED) updated.incrementAndGet();
+                    else conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> admin : admins) admin.get(2, TimeUnit.MINUTES);
+        pool.shutdown();
+
+        AttendanceEntity result = attendanceRepository.findById(id).orElseThrow();
+
+        // 성공한 수정만큼 정확히 점수와 버전이 올라가야 갱신 손실이 없는 것
+        assertThat(updated.get() + conflicts.get()).isEqualTo(ADMINS * EDITS_PER_ADMIN);
+        assertThat(result.getScore()).isEqualTo((long) updated.get());
+        assertThat(result.getVersion()).isEqualTo((long) updated.get());
+    }
+
+    @Test
+    void staleVersionReturnsCurrentState() {
+        Long id = seed();
+        AttendanceEntity loaded = attendanceRepository.findById(id).orElseThrow();
+        attendanceService.bulkUpdateAttendance(List.of(AttendanceDTO.builder()
+                .id(id).status(AttendanceEntity.Status.LATE).score(5L).version(loaded.getVersion()).build()));
+
+        AttendanceResultDTO result = attendanceService.bulkUpdateAttendance(List.of(AttendanceDTO.builder()
+                .id(id).status(AttendanceEntity.Status.ABSENT).score(0L).version(loaded.getVersion()).build())).get(0);
+
+        assertThat(result.getResult()).isEqualTo(AttendanceResultDTO.Result.CONFLICT);
+        assertThat(result.getAttendance().getStatus()).isEqualTo(AttendanceEntity.Status.LATE);
+        assertThat(result.getAttendance().getVersion()).isEqualTo(loaded.getVersion() + 1);
+    }
+
+    @Test
+    void staleVersionOnSingleUpdateIsConflict() {
+        Long id = seed();
+        AttendanceEntity loaded = attendanceRepository.findById(id).orElseThrow();
+        attendanceService.updateAttendance(List.of(AttendanceDTO.builder()
+                .id(id).status(AttendanceEntity.Status.LATE).score(5L).version(loaded.getVersion()).build()));
+
+        // DAO가 던진 409가 서비스에서 400으로 바뀌지 않고 그대로 응답 상태가 되어야 함
+        assertThatThrownBy(() -> attendanceService.updateAttendance(List.of(AttendanceDTO.builder()
+                .id(id).status(AttendanceEntity.Status.ABSENT).score(0L).version(loaded.getVersion()).build())))
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(
+                        exceptionHandler.handleCustomException(e).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(attendanceRepository.findById(id).orElseThrow().getStatus()).isEqualTo(AttendanceEntity.Status.LATE);
+
+        // 없는 출석 ID는 여전히 400
+        assertThatThrownBy(() -> attendanceService.updateAttendance(List.of(AttendanceDTO.builder()
+                .id(-1L).status(AttendanceEntity.Status.ABSENT).build())))
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private Long seed() {
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .id(System.nanoTime())
+                .name("admin")
+                .password("admin")
+                .phone("010-0000-0000")
+                .track(UserEntity.Track.EduBack)
+                .role(UserEntity.Role.STUDENT)
+                .build());
+        return attendanceRepository.save(AttendanceEntity.builder()
+                .user(user)
+                .status(AttendanceEntity.Status.NOT)
+                .score(0L)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,84 @@
+package com.likelion.attserver.DAO.Attendance;
+
+import com.likelion.attserver.DTO.FinalizedScheduleDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.SchedulesRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기준 시각이 지난 스케쥴의 NOT만 ABSENT로 바뀌고, 이미 마감된 스케쥴은 다시 건드리지 않는지 확인
+@SpringBootTest
+class AttendanceFinalizeTest {
+    private static final LocalDate DAY = LocalDate.of(2001, 3, 2);
+
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private SchedulesRepository schedulesRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void finalizesOnlyDueSchedulesOnce() {
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .id(System.nanoTime())
+                .name("finalize")
+                .password("finalize")
+                .phone("010-0000-0000")
+                .track(UserEntity.Track.EduBack)
+                .role(UserEntity.Role.STUDENT)
+                .build());
+        TeamEntity team = teamRepository.save(TeamEntity.builder()
+                .id(System.nanoTime())
+                .users(List.of(user))
+                .schedules(new ArrayList<>(List.of(
+                        schedule(LocalTime.of(9, 0), user, AttendanceEntity.Status.NOT, AttendanceEntity.Status.PRESENT),
+                        schedule(LocalTime.of(18, 0), user, AttendanceEntity.Status.NOT))))
+                .build());
+        SchedulesEntity due = team.getSchedules().get(0);
+        SchedulesEntity upcoming = team.getSchedules().get(1);
+
+        LocalDateTime cutoff = LocalDateTime.of(DAY, LocalTime.NOON);
+        List<FinalizedScheduleDTO> first = attendanceDAO.finalizeSchedules(cutoff, 100);
+        List<FinalizedScheduleDTO> second = attendanceDAO.finalizeSchedules(cutoff, 100);
+
+        assertThat(first).extracting(FinalizedScheduleDTO::getScheduleId).containsExactly(due.getId());
+        assertThat(first.get(0).getAbsentAttendanceIds()).hasSize(1);
+        assertThat(second).isEmpty();
+        assertThat(attendanceRepository.findAllById(first.get(0).getAbsentAttendanceIds()))
+                .allMatch(attendance -> attendance.getStatus() == AttendanceEntity.Status.ABSENT
+                        && attendance.getVersion() == 1L);
+        assertThat(schedulesRepository.findById(due.getId()).orElseThrow().isFinalized()).isTrue();
+        assertThat(schedulesRepository.findById(upcoming.getId()).orElseThrow().isFinalized()).isFalse();
+    }
+
+    private SchedulesEntity schedule(LocalTime time, UserEntity user, AttendanceEntity.Status... statuses) {
+        List<AttendanceEntity> attendances = new ArrayList<>();
+        for (AttendanceEntity.Status status : statuses)
+            attendances.add(AttendanceEntity.builder().user(user).status(status).build());
+        SchedulesEntity schedule = new SchedulesEntity();
+        schedule.setDate(DAY);
+        schedule.setTime(time);
+        schedule.setAttendances(attendances);
+        return schedule;
+    }
+}
@@ -0,0 +1,171 @@
+package com.likelion.attserver.DAO.Attendance;
+
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendancePageDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.AttendanceSearchRowDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.Repository.UserRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// keyset 페이지를 이어 붙인 결과가 (date, time, 스케쥴 ID, 학번) 순 한 번 조회와 같은지,
+// 페이지 경계에서 정렬 키가 같은 행이 빠지거나 겹치지 않는지 확인
+@SpringBootTest
+class AttendanceSearchTest {
+    // 다른 테스트와 겹치지 않는 날짜로 조건을 걸어 이 테스트 행만 봄
+    private static final LocalDate DAY = LocalDate.of(2097, 7, 7);
+
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void pagesFollowKeysetOrderAcrossDuplicateSortKeys() {
+        List<Long> users = seedUsers(5);
+        Long teamA = teamDAO.addTeam(System.nanoTime(), "search", users.subList(0, 3));
+        Long teamB = teamDAO.addTeam(System.nanoTime(), "search", users.subList(3, 5));
+        // 두 팀 스케쥴이 같은 날짜/시간이라 (date, time)만으로는 순서가 정해지지 않음
+        schedulesDAO.addSchedule(teamA, List.of(schedule(LocalTime.of(19, 0))));
+        schedulesDAO.addSchedule(teamB, List.of(schedule(LocalTime.of(19, 0)), schedule(LocalTime.of(9, 0))));
+        Long scheduleA = schedules(teamA).get(0).getId();
+        List<ScheduleResponseDTO> schedulesB = schedules(teamB);
+        Long morningB = schedulesB.stream().filter(s -> s.getTime().equals(LocalTime.of(9, 0))).findFirst().orElseThrow().getId();
+        Long eveningB = schedulesB.stream().filter(s -> s.getTime().equals(LocalTime.of(19, 0))).findFirst().orElseThrow().getId();
+
+        List<AttendanceSearchRowDTO> all = attendanceDAO.search(condition(100)).getItems();
+        // 시간이 빠른 스케쥴이 먼저, 같은 시간이면 스케쥴 ID, 같은 스케쥴이면 학번 순
+        List<Long> byId = List.of(scheduleA, eveningB).stream().sorted().toList();
+        List<Tuple> expected = new ArrayList<>();
+        expected.add(tuple(morningB, users.get(3)));
+        expected.add(tuple(morningB, users.get(4)));
+        for (Long scheduleId : byId) {
+            List<Long> members = scheduleId.equals(scheduleA) ? users.subList(0, 3) : users.subList(3, 5);
+            members.forEach(userId -> expected.add(tuple(scheduleId, userId)));
+        }
+        assertThat(all).extracting(AttendanceSearchRowDTO::getScheduleId, AttendanceSearchRowDTO::getUserId)
+                .containsExactlyElementsOf(expected);
+
+        // 페이지 크기마다 경계 위치가 달라져도 이어 붙이면 한 번 조회와 같음
+        for (int size = 1; size <= all.size(); size++) {
+            List<AttendanceSearchRowDTO> paged = new ArrayList<>();
+            AttendanceSearchDTO condition = condition(size);
+            int pages = 0;
+            do {
+                AttendancePageDTO page = attendanceDAO.search(condition);
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+                paged.addAll(page.getItems());
+                condition.setCursor(page.getNextCursor());
+                pages++;
+            } while (condition.getCursor() != null);
+
+            assertThat(paged).extracting(AttendanceSearchRowDTO::getId)
+                    .containsExactlyElementsOf(all.stream().map(AttendanceSearchRowDTO::getId).toList());
+            assertThat(pages).isEqualTo((all.size() + size - 1) / size);
+        }
+    }
+
+    @Test
+    void cursorKeepsOtherConditions() {
+        List<Long> users = seedUsers(3);
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "search", users);
+        schedulesDAO.addSchedule(teamId, List.of(SchedulesDTO.builder()
+                .date(DAY.plusDays(1))
+                .time(LocalTime.of(13, 0))
+                .duration(60)
+                .resources(List.of())
+                .build()));
+        ScheduleResponseDTO schedule = schedules(teamId).get(0);
+        attendanceDAO.updateAttendance(List.of(
+                mark(schedule, users.get(0), AttendanceEntity.Status.LATE),
+                mark(schedule, users.get(2), AttendanceEntity.Status.LATE)));
+
+        AttendanceSearchDTO condition = AttendanceSearchDTO.builder()
+                .teamId(teamId)
+                .status(AttendanceEntity.Status.LATE)
+                .size(1)
+                .build();
+        AttendancePageDTO first = attendanceDAO.search(condition);
+        condition.setCursor(first.getNextCursor());
+        AttendancePageDTO second = attendanceDAO.search(condition);
+
+        assertThat(first.getItems()).extracting(AttendanceSearchRowDTO::getUserId, AttendanceSearchRowDTO::getStatus)
+                .containsExactly(tuple(users.get(0), AttendanceEntity.Status.LATE));
+        assertThat(second.getItems()).extracting(AttendanceSearchRowDTO::getUserId, AttendanceSearchRowDTO::getStatus)
+                .containsExactly(tuple(users.get(2), AttendanceEntity.Status.LATE));
+        assertThat(second.getNextCursor()).isNull();
+
+        condition.setCursor("not-a-cursor");
+        assertThatThrownBy(() -> attendanceDAO.search(condition))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private static AttendanceSearchDTO condition(int size) {
+        return AttendanceSearchDTO.builder()
+                .from(DAY)
+                .to(DAY)
+                .size(size)
+                .build();
+    }
+
+    private List<ScheduleResponseDTO> schedules(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null);
+    }
+
+    private static AttendanceDTO mark(ScheduleResponseDTO schedule, Long userId, AttendanceEntity.Status status) {
+        Long id = schedule.getAttendances().stream()
+                .filter(attendance -> attendance.getUser().getStudentId().equals(userId))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        return AttendanceDTO.builder().id(id).status(status).build();
+    }
+
+    private static SchedulesDTO schedule(LocalTime time) {
+        return SchedulesDTO.builder()
+                .date(DAY)
+                .time(time)
+                .duration(60)
+                .resources(List.of())
+                .build();
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("search" + i)
+                    .password("search")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
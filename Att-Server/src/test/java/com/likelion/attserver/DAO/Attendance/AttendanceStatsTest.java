@@ -0,0 +1,122 @@
+package com.likelion.attserver.DAO.Attendance;
+
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceStatsDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// GROUP BY 집계를 key별로 접은 결과가 학생/팀/트랙마다 상태별 건수와 점수 합계를 맞게 내는지 확인
+@SpringBootTest
+class AttendanceStatsTest {
+    private static final LocalDate DAY = LocalDate.of(2099, 3, 2);
+
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void foldsStatusCountsPerKey() {
+        List<Long> users = seedUsers(2);
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "stats", users);
+        schedulesDAO.addSchedule(teamId, List.of(schedule(DAY), schedule(DAY.plusDays(1)), schedule(DAY.plusDays(2))));
+        AttendanceStatsDTO trackBefore = find(attendanceDAO.getStats().get("tracks"), UserEntity.Track.ProBack.name());
+
+        List<ScheduleResponseDTO> schedules = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        attendanceDAO.updateAttendance(List.of(
+                mark(attendanceOf(schedules.get(0), users.get(0)), AttendanceEntity.Status.PRESENT, 5L),
+                mark(attendanceOf(schedules.get(1), users.get(0)), AttendanceEntity.Status.PRESENT, 3L),
+                mark(attendanceOf(schedules.get(2), users.get(0)), AttendanceEntity.Status.ABSENT, null),
+                mark(attendanceOf(schedules.get(0), users.get(1)), AttendanceEntity.Status.LATE, 2L)));
+
+        LinkedHashMap<String, List<AttendanceStatsDTO>> stats = attendanceDAO.getStats();
+        assertThat(stats).containsOnlyKeys("users", "teams", "tracks");
+        assertThat(List.of(find(stats.get("users"), String.valueOf(users.get(0))), find(stats.get("users"), String.valueOf(users.get(1)))))
+                .extracting(AttendanceStatsDTO::getPresent, AttendanceStatsDTO::getLate, AttendanceStatsDTO::getAbsent,
+                        AttendanceStatsDTO::getNot, AttendanceStatsDTO::getScore)
+                .containsExactly(
+                        tuple(2L, 0L, 1L, 0L, 8L),
+                        tuple(0L, 1L, 0L, 2L, 2L));
+        assertThat(find(stats.get("teams"), String.valueOf(teamId)))
+                .extracting(AttendanceStatsDTO::getPresent, AttendanceStatsDTO::getLate, AttendanceStatsDTO::getAbsent,
+                        AttendanceStatsDTO::getNot, AttendanceStatsDTO::getScore)
+                .containsExactly(2L, 1L, 1L, 2L, 10L);
+
+        // 트랙은 다른 테스트 데이터와 섞이므로 이번에 바뀐 만큼만 비교
+        AttendanceStatsDTO trackAfter = find(stats.get("tracks"), UserEntity.Track.ProBack.name());
+        assertThat(trackAfter.getPresent() - trackBefore.getPresent()).isEqualTo(2L);
+        assertThat(trackAfter.getLate() - trackBefore.getLate()).isEqualTo(1L);
+        assertThat(trackAfter.getAbsent() - trackBefore.getAbsent()).isEqualTo(1L);
+        assertThat(trackAfter.getNot() - trackBefore.getNot()).isEqualTo(-4L);
+        assertThat(trackAfter.getScore() - trackBefore.getScore()).isEqualTo(10L);
+
+        // key마다 한 항목으로 접힘
+        assertThat(stats.get("users")).extracting(AttendanceStatsDTO::getKey).doesNotHaveDuplicates();
+        assertThat(stats.get("teams")).extracting(AttendanceStatsDTO::getKey).doesNotHaveDuplicates();
+    }
+
+    private static AttendanceStatsDTO find(List<AttendanceStatsDTO> stats, String key) {
+        return stats.stream()
+                .filter(entry -> entry.getKey().equals(key))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Long attendanceOf(ScheduleResponseDTO schedule, Long userId) {
+        return schedule.getAttendances().stream()
+                .filter(attendance -> attendance.getUser().getStudentId().equals(userId))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private static AttendanceDTO mark(Long id, AttendanceEntity.Status status, Long score) {
+        return AttendanceDTO.builder().id(id).status(status).score(score).build();
+    }
+
+    private static SchedulesDTO schedule(LocalDate date) {
+        return SchedulesDTO.builder()
+                .date(date)
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build();
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("stats" + i)
+                    .password("stats")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.ProBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
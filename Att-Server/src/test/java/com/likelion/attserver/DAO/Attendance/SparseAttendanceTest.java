@@ -0,0 +1,204 @@
+package com.likelion.attserver.DAO.Attendance;
+
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.AttendancePageDTO;
+import com.likelion.attserver.DTO.AttendanceResultDTO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.AttendanceSearchRowDTO;
+import com.likelion.attserver.DTO.FinalizedScheduleDTO;
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.UserDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.SchedulesRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 희소 모드: NOT 행을 미리 만들지 않고, 처음 표시될 때 행이 생기며 조회/집계는 빠진 칸을 NOT으로 채우는지 확인
+@SpringBootTest(properties = "att.attendance.sparse=true")
+class SparseAttendanceTest {
+    private static final LocalDate DAY = LocalDate.of(2099, 3, 2);
+
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private AttendanceSummaryDAO summaryDAO;
+    @Autowired
+    private SchedulesRepository schedulesRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void createsRowsOnlyWhenMarked() {
+        List<Long> users = seedUsers(3);
+        Long teamId = seedTeam(users);
+        schedulesDAO.addSchedule(teamId, List.of(schedule(DAY)));
+        Long scheduleId = schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getId();
+        assertThat(schedulesRepository.findAttendancesOf(scheduleId)).isEmpty();
+
+        // 팀원 전부 행 없이 NOT으로 보임
+        ScheduleResponseDTO before = schedulesDAO.getSchedules(teamId, null, null, false, null).get(0);
+        assertThat(before.getAttendances()).extracting(attendance -> attendance.getUser().getStudentId())
+                .containsExactlyElementsOf(users);
+        assertThat(before.getAttendances()).allMatch(attendance -> attendance.getId() == null
+                && attendance.getStatus() == AttendanceEntity.Status.NOT);
+
+        // (스케쥴, 학번)으로 보내면 그 칸의 행이 생김
+        List<AttendanceResultDTO> results = attendanceDAO.bulkUpdateAttendance(List.of(AttendanceDTO.builder()
+                .scheduleId(scheduleId)
+                .user(UserDTO.builder().studentId(users.get(0)).build())
+                .status(AttendanceEntity.Status.PRESENT)
+                .score(5L)
+                .build()));
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getResult()).isEqualTo(AttendanceResultDTO.Result.UPDATED);
+            assertThat(result.getId()).isNotNull();
+        });
+        assertThat(schedulesRepository.findAttendancesOf(scheduleId)).hasSize(1);
+
+        ScheduleResponseDTO after = schedulesDAO.getSchedules(teamId, null, null, false, null).get(0);
+        assertThat(after.getAttendances()).hasSize(3);
+        assertThat(after.getAttendances().get(0).getStatus()).isEqualTo(AttendanceEntity.Status.PRESENT);
+
+        assertThat(summaryDAO.getTeamSummary(teamId))
+                .extracting(AttendanceSummaryDTO::getUserId, AttendanceSummaryDTO::getPresent, AttendanceSummaryDTO::getNot)
+                .containsExactlyInAnyOrder(
+                        tuple(users.get(0), 1L, 0L),
+                        tuple(users.get(1), 0L, 1L),
+                        tuple(users.get(2), 0L, 1L));
+
+        // NOT 검색은 행이 없는 칸까지 (스케쥴, 학번) 순으로, 페이지를 넘겨도 빠짐없이 나옴
+        List<AttendanceSearchRowDTO> found = new ArrayList<>();
+        AttendanceSearchDTO condition = AttendanceSearchDTO.builder()
+                .teamId(teamId)
+                .status(AttendanceEntity.Status.NOT)
+                .size(1)
+                .build();
+        do {
+            AttendancePageDTO page = attendanceDAO.search(condition);
+            found.addAll(page.getItems());
+            condition.setCursor(page.getNextCursor());
+        } while (condition.getCursor() != null);
+        assertThat(found).extracting(AttendanceSearchRowDTO::getUserId).containsExactly(users.get(1), users.get(2));
+        assertThat(attendanceDAO.search(AttendanceSearchDTO.builder().teamId(teamId).size(10).build()).getItems())
+                .extracting(AttendanceSearchRowDTO::getStatus)
+                .containsExactly(AttendanceEntity.Status.PRESENT, AttendanceEntity.Status.NOT, AttendanceEntity.Status.NOT);
+    }
+
+    @Test
+    void newMemberGetsNoRows() {
+        List<Long> users = seedUsers(2);
+        Long teamId = seedTeam(users.subList(0, 1));
+        schedulesDAO.addSchedule(teamId, List.of(schedule(DAY), schedule(DAY.plusDays(1))));
+
+        teamDAO.addTeam(teamId, "sparse", List.of(users.get(1)));
+
+        List<ScheduleResponseDTO> schedules = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        for (ScheduleResponseDTO schedule : schedules) {
+            assertThat(schedulesRepository.findAttendancesOf(schedule.getId())).isEmpty();
+            assertThat(schedule.getAttendances()).extracting(attendance -> attendance.getUser().getStudentId())
+                    .containsExactlyElementsOf(users);
+        }
+        assertThat(summaryDAO.getUserSummary(users.get(1))).singleElement()
+                .satisfies(summary -> assertThat(summary.getNot()).isEqualTo(2L));
+    }
+
+    @Test
+    void finalizeCreatesAbsentRows() {
+        LocalDate day = LocalDate.of(1995, 3, 2);
+        List<Long> users = seedUsers(2);
+        Long teamId = seedTeam(users);
+        schedulesDAO.addSchedule(teamId, List.of(schedule(day)));
+        Long scheduleId = schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getId();
+        attendanceDAO.bulkUpdateAttendance(List.of(AttendanceDTO.builder()
+                .scheduleId(scheduleId)
+                .user(UserDTO.builder().studentId(users.get(0)).build())
+                .status(AttendanceEntity.Status.LATE)
+                .build()));
+
+        List<FinalizedScheduleDTO> finalized = attendanceDAO.finalizeSchedules(LocalDateTime.of(day, LocalTime.NOON), 100);
+
+        assertThat(finalized).filteredOn(schedule -> schedule.getScheduleId().equals(scheduleId)).singleElement()
+                .satisfies(schedule -> assertThat(schedule.getAbsentAttendanceIds()).hasSize(1));
+        assertThat(schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getAttendances())
+                .extracting(AttendanceDTO::getStatus)
+                .containsExactly(AttendanceEntity.Status.LATE, AttendanceEntity.Status.ABSENT);
+        assertThat(schedulesRepository.findAttendancesOf(scheduleId)).hasSize(2);
+    }
+
+    @Test
+    void recurringSchedulesCreateNoRows() {
+        List<Long> users = seedUsers(4);
+        Long teamId = seedTeam(users);
+        schedulesDAO.addRecurringSchedules(RecurringScheduleDTO.builder()
+                .teamIds(List.of(teamId))
+                .from(DAY)
+                .to(DAY.plusWeeks(4))
+                .days(List.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build());
+
+        List<ScheduleResponseDTO> schedules = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        assertThat(schedules).isNotEmpty();
+        for (ScheduleResponseDTO schedule : schedules) {
+            assertThat(schedulesRepository.findAttendancesOf(schedule.getId())).isEmpty();
+            assertThat(schedule.getAttendances()).hasSize(users.size());
+        }
+        assertThat(attendanceDAO.getStats().get("teams"))
+                .filteredOn(stats -> stats.getKey().equals(String.valueOf(teamId))).singleElement()
+                .satisfies(stats -> assertThat(stats.getNot()).isEqualTo((long) schedules.size() * users.size()));
+    }
+
+    private static SchedulesDTO schedule(LocalDate date) {
+        return SchedulesDTO.builder()
+                .date(date)
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build();
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("sparse" + i)
+                    .password("sparse")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private Long seedTeam(List<Long> users) {
+        return teamDAO.addTeam(System.nanoTime(), "sparse", users);
+    }
+}
@@ -0,0 +1,144 @@
+package com.likelion.attserver.DAO.Calendar;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 피드는 스케쥴이 바뀔 때만 다시 만들고, 그 외에는 DB를 보지 않는지 확인
+@SpringBootTest
+class CalendarFeedTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Autowired
+    private CalendarDAO calendarDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void rebuildsOnlyWhenSchedulesChange() {
+        Long teamId = seed(2);
+        schedulesDAO.addSchedule(teamId, List.of(schedule(LocalTime.of(19, 0)), schedule(LocalTime.of(21, 0))));
+        byte[] first = calendarDAO.getTeamFeed(teamId);
+        String tag = calendarDAO.getTeamTag(teamId);
+        assertThat(events(first)).isEqualTo(2);
+
+        // 다시 물으면 쿼리 없이 같은 바이트
+        Statistics statistics = statistics();
+        assertThat(calendarDAO.getTeamFeed(teamId)).isSameAs(first);
+        assertThat(calendarDAO.getTeamTag(teamId)).isEqualTo(tag);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 출석만 바뀌면 피드는 그대로
+        List<AttendanceDTO> updates = schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getAttendances().stream()
+                .map(attendance -> AttendanceDTO.builder()
+                        .id(attendance.getId())
+                        .status(AttendanceEntity.Status.PRESENT)
+                        .build())
+                .toList();
+        attendanceDAO.bulkUpdateAttendance(updates);
+        assertThat(calendarDAO.getTeamTag(teamId)).isEqualTo(tag);
+        assertThat(calendarDAO.getTeamFeed(teamId)).isSameAs(first);
+
+        // 스케쥴이 추가되면 새 버전으로 다시 만듦
+        schedulesDAO.addSchedule(teamId, List.of(schedule(LocalTime.of(23, 0))));
+        assertThat(calendarDAO.getTeamTag(teamId)).isNotEqualTo(tag);
+        assertThat(events(calendarDAO.getTeamFeed(teamId))).isEqualTo(3);
+    }
+
+    @Test
+    void userFeedFollowsTeamMembership() {
+        Long from = seed(1);
+        Long to = seed(0);
+        Long userId = teamDAO.getTeam(from).values().iterator().next().get(0).getStudentId();
+        schedulesDAO.addSchedule(to, List.of(schedule(LocalTime.of(10, 0))));
+
+        String tag = calendarDAO.getUserTag(userId);
+        assertThat(events(calendarDAO.getUserFeed(userId))).isZero();
+        Statistics statistics = statistics();
+        assertThat(calendarDAO.getUserTag(userId)).isEqualTo(tag);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 팀을 옮기면 태그가 바뀌고 새 팀의 스케쥴이 보임
+        teamDAO.addTeam(from, "from", List.of(userId));
+        teamDAO.addTeam(to, "to", List.of(userId));
+        assertThat(calendarDAO.getUserTag(userId)).isNotEqualTo(tag);
+        assertThat(events(calendarDAO.getUserFeed(userId))).isEqualTo(1);
+    }
+
+    @Test
+    void unknownUsersAreNotCached() {
+        Long unknown = -System.nanoTime();
+        assertThat(events(calendarDAO.getUserFeed(unknown))).isZero();
+
+        // 팀이 없는 학번은 캐시에 남기지 않으므로 다시 물으면 다시 조회함
+        Statistics statistics = statistics();
+        calendarDAO.getUserTag(unknown);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static int events(byte[] feed) {
+        return new String(feed, StandardCharsets.UTF_8).split("BEGIN:VEVENT", -1).length - 1;
+    }
+
+    private static SchedulesDTO schedule(LocalTime time) {
+        return SchedulesDTO.builder().date(DAY).time(time).build();
+    }
+
+    private Long seed(int members) {
+        long base = System.nanoTime();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("calendar" + i)
+                    .password("calendar")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()));
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .note("calendar")
+                .users(users)
+                .schedules(new ArrayList<>())
+                .build()).getId();
+    }
+}
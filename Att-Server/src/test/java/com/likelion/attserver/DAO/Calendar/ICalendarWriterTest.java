@@ -0,0 +1,48 @@
+package com.likelion.attserver.DAO.Calendar;
+
+import com.likelion.attserver.DTO.ScheduleResourceDTO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ICalendarWriterTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Test
+    void writesUtcTimesAndGroupsResources() {
+        String ics = new String(ICalendarWriter.write("팀 1; 백엔드", List.of(
+                new ScheduleResourceDTO(1L, 7L, DAY, LocalTime.of(19, 0), 90, "room:301"),
+                new ScheduleResourceDTO(1L, 7L, DAY, LocalTime.of(19, 0), 90, "mentor:kim"),
+                new ScheduleResourceDTO(2L, 7L, DAY.plusDays(2), LocalTime.of(9, 30), 60, null)
+        ), ZoneId.of("Asia/Seoul"), Instant.EPOCH), StandardCharsets.UTF_8);
+
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics.split("BEGIN:VEVENT", -1)).hasSize(3);
+        assertThat(ics).contains("X-WR-CALNAME:팀 1\\; 백엔드\r\n")
+                .contains("UID:schedule-1@att-server\r\n")
+                .contains("DTSTART:20250303T100000Z\r\nDTEND:20250303T113000Z\r\n")
+                .contains("LOCATION:room:301\\, mentor:kim\r\n")
+                .contains("DTSTART:20250305T003000Z\r\n");
+        assertThat(ics.split("LOCATION:", -1)).hasSize(2);
+    }
+
+    @Test
+    void foldsLongLinesWithoutSplittingCharacters() {
+        String name = "출석".repeat(40);
+        byte[] ics = ICalendarWriter.write(name, List.of(), ZoneId.of("UTC"), Instant.EPOCH);
+        String text = new String(ics, StandardCharsets.UTF_8);
+
+        assertThat(Arrays.stream(text.split("\r\n")))
+                .allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+        // 접힌 줄을 펴면 원래 값
+        assertThat(text.replace("\r\n ", "")).contains("X-WR-CALNAME:" + name + "\r\n");
+    }
+}
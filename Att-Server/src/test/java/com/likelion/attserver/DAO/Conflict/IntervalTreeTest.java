@@ -0,0 +1,55 @@
+package com.likelion.attserver.DAO.Conflict;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 무작위 삽입/삭제 뒤 겹침 검색 결과가 전수 비교와 같은지 확인
+class IntervalTreeTest {
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(7);
+        IntervalTree<Long> tree = new IntervalTree<>();
+        List<long[]> live = new ArrayList<>(); // {start, end, id}
+        for (long id = 0; id < 2000; id++) {
+            if (!live.isEmpty() && random.nextInt(4) == 0) {
+                long[] removed = live.remove(random.nextInt(live.size()));
+                assertThat(tree.remove(removed[0], removed[2])).isTrue();
+            }
+            long start = random.nextInt(10_000);
+            long[] interval = {start, start + 1 + random.nextInt(120), id};
+            tree.insert(interval[0], interval[1], interval[2], id);
+            live.add(interval);
+        }
+        assertThat(tree.size()).isEqualTo(live.size());
+
+        for (int q = 0; q < 500; q++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(60);
+            List<Long> expected = live.stream()
+                    .filter(interval -> interval[0] < end && interval[1] > start)
+                    .sorted((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[2], b[2]))
+                    .map(interval -> interval[2])
+                    .toList();
+            assertThat(tree.overlaps(start, end)).isEqualTo(expected);
+            assertThat(tree.firstOverlap(start, end)).isEqualTo(expected.isEmpty() ? null : expected.get(0));
+        }
+    }
+
+    @Test
+    void touchingIntervalsDoNotOverlap() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(60, 120, 1, "first");
+
+        assertThat(tree.firstOverlap(120, 180)).isNull();
+        assertThat(tree.firstOverlap(0, 60)).isNull();
+        assertThat(tree.firstOverlap(119, 121)).isEqualTo("first");
+        assertThat(tree.remove(60, 2)).isFalse();
+        assertThat(tree.remove(60, 1)).isTrue();
+        assertThat(tree.firstOverlap(60, 120)).isNull();
+    }
+}
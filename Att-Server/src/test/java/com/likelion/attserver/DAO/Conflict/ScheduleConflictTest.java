@@ -0,0 +1,144 @@
+package com.likelion.attserver.DAO.Conflict;
+
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
+import com.likelion.attserver.DTO.RecurringScheduleResultDTO;
+import com.likelion.attserver.DTO.ScheduleConflictDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 팀이 달라도 같은 자원(강의실/멘토)을 쓰는 시간이 겹치면 막히는지 확인
+@SpringBootTest
+class ScheduleConflictTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void rejectsOverlapOnSharedResourceAcrossTeams() {
+        String room = "room:" + System.nanoTime();
+        Long first = seed(2);
+        Long second = seed(2);
+        schedulesDAO.addSchedule(first, List.of(schedule(LocalTime.of(19, 0), 120, room)));
+
+        // 21시 시작은 겹치지 않고, 20시 시작은 겹침
+        schedulesDAO.addSchedule(second, List.of(schedule(LocalTime.of(21, 0), 60, room)));
+        assertThatThrownBy(() -> schedulesDAO.addSchedule(second, List.of(schedule(LocalTime.of(20, 0), 30, room))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(room);
+        // 태그가 다르면 같은 시간이어도 됨
+        schedulesDAO.addSchedule(second, List.of(schedule(LocalTime.of(19, 30), 30, room + "-b")));
+
+        assertThat(schedulesDAO.getSchedules(second, null, null, false, null)).hasSize(2);
+    }
+
+    @Test
+    void removedScheduleFreesResource() {
+        String mentor = "mentor:" + System.nanoTime();
+        Long first = seed(1);
+        Long second = seed(1);
+        schedulesDAO.addSchedule(first, List.of(schedule(LocalTime.of(10, 0), 60, mentor)));
+        Long scheduleId = schedulesDAO.getSchedules(first, null, null, false, null).get(0).getId();
+
+        schedulesDAO.removeSchedule(first, scheduleId);
+        schedulesDAO.addSchedule(second, List.of(schedule(LocalTime.of(10, 30), 60, mentor)));
+
+        assertThat(schedulesDAO.getSchedules(second, null, null, false, null)).hasSize(1);
+    }
+
+    @Test
+    void recurringReportsConflictsInOnePass() {
+        String room = "room:" + System.nanoTime();
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) teamIds.add(seed(1));
+        // 첫 팀은 월요일 19시를 미리 잡아둠
+        schedulesDAO.addSchedule(teamIds.get(0), List.of(schedule(LocalTime.of(19, 0), 60, room)));
+
+        RecurringScheduleDTO request = RecurringScheduleDTO.builder()
+                .teamIds(teamIds)
+                .from(DAY)
+                .to(DAY.plusWeeks(16))
+                .days(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY))
+                .time(LocalTime.of(19, 0))
+                .duration(90)
+                .resources(List.of(room))
+                .build();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecurringScheduleResultDTO result = schedulesDAO.addRecurringSchedules(request);
+
+        int slots = 2 * 16 + 1;
+        // 후보마다 겹침 조회를 보내지 않고 메모리의 구간 트리에서 찾음
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(teamIds.size() * slots - 1);
+        // 회차마다 첫 팀만 자리를 잡음. 첫 날은 첫 팀이 미리 잡아둔 스케쥴이라 skipped로 빠짐
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getSchedules()).isEqualTo(slots - 1);
+        assertThat(result.getConflicts()).hasSize((teamIds.size() - 1) * slots)
+                .allSatisfy(conflict -> assertThat(conflict.getResource()).isEqualTo(room));
+        assertThat(result.getConflicts()).extracting(ScheduleConflictDTO::getConflictTeamId)
+                .containsOnly(teamIds.get(0));
+        assertThat(schedulesDAO.getSchedules(teamIds.get(0), null, null, false, null)).hasSize(slots);
+
+        // 같은 요청을 다시 보내면 첫 팀은 전부 이미 있고, 나머지는 커밋된 스케쥴과 겹침
+        RecurringScheduleResultDTO again = schedulesDAO.addRecurringSchedules(request);
+        assertThat(again.getSchedules()).isZero();
+        assertThat(again.getSkipped()).isEqualTo(slots);
+        assertThat(again.getConflicts()).hasSize((teamIds.size() - 1) * slots)
+                .allSatisfy(conflict -> assertThat(conflict.getConflictScheduleId()).isNotNull());
+        assertThat(schedulesDAO.getSchedules(teamIds.get(1), null, null, false, null)).isEmpty();
+    }
+
+    private static SchedulesDTO schedule(LocalTime time, int duration, String resource) {
+        return SchedulesDTO.builder()
+                .date(DAY)
+                .time(time)
+                .duration(duration)
+                .resources(List.of(resource))
+                .build();
+    }
+
+    private Long seed(int members) {
+        long base = System.nanoTime();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("conflict" + i)
+                    .password("conflict")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()));
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .users(users)
+                .schedules(new ArrayList<>())
+                .build()).getId();
+    }
+}
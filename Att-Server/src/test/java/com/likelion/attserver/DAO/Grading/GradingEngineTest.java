@@ -0,0 +1,88 @@
+package com.likelion.attserver.DAO.Grading;
+
+import com.likelion.attserver.DTO.Grading.GradeDTO;
+import com.likelion.attserver.DTO.Grading.GradingRuleDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.likelion.attserver.Entity.AttendanceEntity.Status.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 규칙별 계산 결과와, 천 명 x 여러 기수 데이터를 병렬로 돌려도 순차 결과와 같은지 확인
+class GradingEngineTest {
+    private static final List<GradingRuleDTO> RULES = List.of(
+            rule(GradingRuleDTO.Type.FAIL_OVER_ABSENCES, 2),
+            rule(GradingRuleDTO.Type.LATE_WEIGHT, 0.5),
+            rule(GradingRuleDTO.Type.DROP_LOWEST, 1),
+            rule(GradingRuleDTO.Type.LATE_TO_ABSENT, 3));
+
+    @Test
+    void appliesRulesInTypeOrder() {
+        GradingEngine.Sequence sequence = new GradingEngine.Sequence(1L, 2L,
+                new AttendanceEntity.Status[]{PRESENT, LATE, LATE, LATE, LATE, ABSENT, NOT},
+                new Long[]{10L, 3L, null, 7L, 1L, 0L, 100L});
+
+        GradeDTO grade = GradingEngine.evaluate(sequence, GradingEngine.compile(RULES));
+
+        // LATE 4번 -> ABSENT 1번 + LATE 1번, NOT 회차는 점수까지 제외
+        assertThat(grade.getSessions()).isEqualTo(6);
+        assertThat(grade.getLate()).isEqualTo(1);
+        assertThat(grade.getAbsent()).isEqualTo(2);
+        assertThat(grade.getAttendanceRate()).isCloseTo(1.5 / 6, within(1e-9));
+        assertThat(grade.getScore()).isEqualTo(10 + 3 + 7 + 1);
+        assertThat(grade.isPassed()).isTrue();
+
+        GradeDTO strict = GradingEngine.evaluate(sequence, GradingEngine.compile(List.of(
+                rule(GradingRuleDTO.Type.LATE_TO_ABSENT, 2),
+                rule(GradingRuleDTO.Type.FAIL_OVER_ABSENCES, 2))));
+        assertThat(strict.getAbsent()).isEqualTo(3);
+        assertThat(strict.isPassed()).isFalse();
+    }
+
+    @Test
+    void parallelGradingMatchesSequential() {
+        Random random = new Random(13);
+        AttendanceEntity.Status[] statuses = {PRESENT, PRESENT, PRESENT, LATE, ABSENT};
+        List<GradingEngine.Sequence> sequences = new ArrayList<>();
+        for (long cohort = 0; cohort < 3; cohort++) {
+            for (long student = 0; student < 1000; student++) {
+                AttendanceEntity.Status[] row = new AttendanceEntity.Status[40];
+                Long[] scores = new Long[40];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = statuses[random.nextInt(statuses.length)];
+                    scores[i] = (long) random.nextInt(11);
+                }
+                sequences.add(new GradingEngine.Sequence(cohort, cohort * 10_000 + student, row, scores));
+            }
+        }
+
+        EnumMap<GradingRuleDTO.Type, Double> rules = GradingEngine.compile(RULES);
+        List<GradeDTO> grades = sequences.parallelStream()
+                .map(sequence -> GradingEngine.evaluate(sequence, rules))
+                .toList();
+        List<GradeDTO> sequential = sequences.stream()
+                .map(sequence -> GradingEngine.evaluate(sequence, rules))
+                .toList();
+
+        assertThat(grades).hasSize(3000)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential);
+        for (int i = 0; i < grades.size(); i++) {
+            GradeDTO grade = grades.get(i);
+            Long[] scores = sequences.get(i).scores();
+            long total = Arrays.stream(scores).mapToLong(Long::longValue).sum();
+            long lowest = Arrays.stream(scores).mapToLong(Long::longValue).min().orElseThrow();
+            assertThat(grade.getSessions()).isEqualTo(40);
+            assertThat(grade.getScore()).isEqualTo(total - lowest);
+            assertThat(grade.getAttendanceRate()).isBetween(0.0, 1.0);
+            assertThat(grade.isPassed()).isEqualTo(grade.getAbsent() <= 2);
+        }
+    }
+
+    private static GradingRuleDTO rule(GradingRuleDTO.Type type, double value) {
+        return GradingRuleDTO.builder().type(type).value(value).build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.likelion.attserver.DAO.Leaderboard;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.AttendanceSummaryRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// 스케쥴/팀원 변경을 다시 만들지 않고 차이만큼 반영한 보드가 요약 테이블에서 새로 만든 보드와 같은지 확인
+@SpringBootTest
+class LeaderboardDeltaTest {
+    private static final LocalDate DAY = LocalDate.of(2099, 3, 2);
+
+    @Autowired
+    private LeaderboardDAO leaderboardDAO;
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceSummaryRepository summaryRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void deltasMatchRebuild() {
+        List<Long> users = seedUsers(3);
+        Long teamA = teamDAO.addTeam(System.nanoTime(), "leaderboard", users.subList(0, 2));
+        Long teamB = teamDAO.addTeam(System.nanoTime(), "leaderboard", users.subList(2, 3));
+        schedulesDAO.addSchedule(teamA, List.of(schedule(DAY), schedule(DAY.plusDays(1))));
+        schedulesDAO.addSchedule(teamB, List.of(schedule(DAY)));
+
+        // 스케쥴만 생기고 점수가 없어도 팀원은 0점으로 올라와 있음
+        assertThat(leaderboardDAO.getTop(null, teamA, 10))
+                .extracting(LeaderboardEntryDTO::getUserId, LeaderboardEntryDTO::getScore)
+                .containsExactlyInAnyOrder(tuple(users.get(0), 0L), tuple(users.get(1), 0L));
+
+        List<ScheduleResponseDTO> schedulesA = schedules(teamA);
+        attendanceDAO.updateAttendance(List.of(
+                mark(attendanceOf(schedulesA.get(0), users.get(0)), AttendanceEntity.Status.PRESENT, 5L),
+                mark(attendanceOf(schedulesA.get(0), users.get(1)), AttendanceEntity.Status.LATE, 2L),
+                mark(attendanceOf(schedulesA.get(1), users.get(0)), AttendanceEntity.Status.PRESENT, 3L),
+                mark(attendanceOf(schedules(teamB).get(0), users.get(2)), AttendanceEntity.Status.PRESENT, 4L)));
+
+        // 토글: 세 번째 유저는 A에도 들어가고 두 번째 유저는 빠짐
+        teamDAO.addTeam(teamA, "leaderboard", List.of(users.get(2), users.get(1)));
+        // 첫 회차를 지우면 그 회차 점수만큼 빠짐
+        schedulesDAO.removeSchedule(teamA, schedulesA.get(0).getId());
+
+        assertThat(leaderboardDAO.getTop(null, teamA, 10))
+                .extracting(LeaderboardEntryDTO::getUserId, LeaderboardEntryDTO::getScore)
+                .containsExactly(tuple(users.get(0), 3L), tuple(users.get(2), 0L));
+        assertThat(leaderboardDAO.getTop(null, teamB, 10))
+                .extracting(LeaderboardEntryDTO::getUserId, LeaderboardEntryDTO::getScore)
+                .containsExactly(tuple(users.get(2), 4L));
+        assertThat(leaderboardDAO.getRank(users.get(2), null, null).getScore()).isEqualTo(4L);
+        assertMatchesRebuild(users, List.of(teamA, teamB));
+
+        // 팀이 지워지면 그 팀 점수는 빠지고, 다른 팀에 남은 유저는 보드에 남음
+        teamDAO.removeTeam(teamB);
+        assertThat(leaderboardDAO.getTop(null, teamB, 10)).isEmpty();
+        assertThat(leaderboardDAO.getRank(users.get(2), null, null).getScore()).isEqualTo(0L);
+        assertMatchesRebuild(users, List.of(teamA, teamB));
+    }
+
+    // rebuild가 요약 테이블을 읽기 직전에 커밋된 변경과 읽는 중에 커밋된 변경 모두 점수에 한 번씩만 들어감
+    @Test
+    void rebuildAppliesChangesCommittedDuringReadOnce() throws Exception {
+        List<Long> users = seedUsers(1);
+        Long userId = users.get(0);
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "leaderboard", users);
+        schedulesDAO.addSchedule(teamId, List.of(schedule(DAY), schedule(DAY.plusDays(1))));
+        List<ScheduleResponseDTO> schedules = schedules(teamId);
+
+        LeaderboardDAOImpl target = AopTestUtils.getTargetObject(leaderboardDAO);
+        ReentrantReadWriteLock commits = (ReentrantReadWriteLock) ReflectionTestUtils.getField(target, "commits");
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Thread concurrent = new Thread(() -> attendanceDAO.updateAttendance(List.of(
+                mark(attendanceOf(schedules.get(1), userId), AttendanceEntity.Status.PRESENT, 3L))));
+
+        AttendanceSummaryRepository reading = mock(AttendanceSummaryRepository.class, delegatesTo(summaryRepository));
+        doAnswer(invocation -> {
+            // 읽기 직전에 커밋되고 patch까지 끝난 변경: 읽은 행에 들어 있으므로 다시 반영하면 안 됨
+            requiresNew.executeWithoutResult(status -> attendanceDAO.updateAttendance(List.of(
+                    mark(attendanceOf(schedules.get(0), userId), AttendanceEntity.Status.PRESENT, 5L))));
+            // 읽는 중에 커밋하려는 변경: 읽기가 끝날 때까지 커밋을 기다렸다가 새 보드에 반영됨
+            concurrent.start();
+            while (!commits.hasQueuedThreads() && concurrent.isAlive()) Thread.onSpinWait();
+            return summaryRepository.findLeaderboardRows();
+        }).when(reading).findLeaderboardRows();
+
+        ReflectionTestUtils.setField(target, "summaryRepository", reading);
+        try {
+            leaderboardDAO.rebuild();
+        } finally {
+            ReflectionTestUtils.setField(target, "summaryRepository", summaryRepository);
+        }
+        concurrent.join();
+
+        assertThat(leaderboardDAO.getRank(userId, null, null).getScore()).isEqualTo(8L);
+        assertThat(leaderboardDAO.getRank(userId, null, teamId).getScore()).isEqualTo(8L);
+        assertMatchesRebuild(users, List.of(teamId));
+    }
+
+    private void assertMatchesRebuild(List<Long> users, List<Long> teamIds) {
+        Map<String, Long> patched = snapshot(users, teamIds);
+        leaderboardDAO.rebuild();
+        assertThat(snapshot(users, teamIds)).isEqualTo(patched);
+    }
+
+    // 이 테스트 유저들의 전체/트랙/팀 점수. 보드에 없으면 키가 빠짐
+    private Map<String, Long> snapshot(List<Long> users, List<Long> teamIds) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Long userId : users) {
+            rank(userId, null, null).ifPresent(score -> result.put("overall-" + userId, score));
+            rank(userId, UserEntity.Track.EduBack, null).ifPresent(score -> result.put("track-" + userId, score));
+            for (Long teamId : teamIds)
+                rank(userId, null, teamId).ifPresent(score -> result.put("team-" + teamId + "-" + userId, score));
+        }
+        return result;
+    }
+
+    private Optional<Long> rank(Long userId, UserEntity.Track track, Long teamId) {
+        try {
+            return Optional.of(leaderboardDAO.getRank(userId, track, teamId).getScore());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private List<ScheduleResponseDTO> schedules(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null);
+    }
+
+    private static Long attendanceOf(ScheduleResponseDTO schedule, Long userId) {
+        return schedule.getAttendances().stream()
+                .filter(attendance -> attendance.getUser().getStudentId().equals(userId))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private static AttendanceDTO mark(Long id, AttendanceEntity.Status status, Long score) {
+        return AttendanceDTO.builder().id(id).status(status).score(score).build();
+    }
+
+    private static SchedulesDTO schedule(LocalDate date) {
+        return SchedulesDTO.builder()
+                .date(date)
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build();
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("leaderboard" + i)
+                    .password("leaderboard")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,66 @@
+package com.likelion.attserver.DAO.Leaderboard;
+
+import com.likelion.attserver.DTO.Leaderboard.LeaderboardEntryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 무작위 점수 변경과 유저 제거 뒤의 순위가 전체 정렬 결과와 같은지 확인
+class LeaderboardTest {
+    private static final int USERS = 1000;
+    private static final int UPDATES = 100_000;
+
+    @Test
+    void matchesFullSortAfterRandomUpdates() {
+        Random random = new Random(7);
+        Leaderboard board = new Leaderboard();
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < UPDATES; i++) {
+            long userId = random.nextInt(USERS);
+            long delta = random.nextInt(11) - 3;
+            board.add(userId, delta);
+            expected.merge(userId, delta, Long::sum);
+        }
+
+        assertMatches(board, expected);
+
+        // 빠진 유저는 순위에서 사라지고 남은 유저 순위가 그만큼 당겨짐
+        for (long userId = 0; userId < USERS; userId += 3) {
+            assertThat(board.remove(userId)).isEqualTo(expected.remove(userId));
+            assertThat(board.contains(userId)).isFalse();
+            assertThat(board.rankOf(userId, Map.of())).isNull();
+        }
+        assertThat(board.remove(-1L)).isNull();
+        assertMatches(board, expected);
+    }
+
+    @Test
+    void tiesShareRank() {
+        Leaderboard board = new Leaderboard();
+        board.add(1L, 10);
+        board.add(2L, 7);
+        board.add(3L, 7);
+        board.add(4L, 3);
+
+        assertThat(board.top(10, Map.of())).extracting(LeaderboardEntryDTO::getRank).containsExactly(1, 2, 2, 4);
+        assertThat(board.rankOf(3L, Map.of()).getRank()).isEqualTo(2);
+    }
+
+    private static void assertMatches(Leaderboard board, Map<Long, Long> expected) {
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<LeaderboardEntryDTO> top = board.top(50, Map.of());
+        assertThat(top).hasSize(50);
+        for (int i = 0; i < top.size(); i++) {
+            assertThat(top.get(i).getUserId()).isEqualTo(sorted.get(i).getKey());
+            assertThat(top.get(i).getScore()).isEqualTo(sorted.get(i).getValue());
+        }
+
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            long above = expected.values().stream().filter(score -> score > entry.getValue()).count();
+            assertThat(board.rankOf(entry.getKey(), Map.of()).getRank()).isEqualTo(above + 1);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.likelion.attserver.DAO.Matrix;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixCellDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixFootprintDTO;
+import com.likelion.attserver.DTO.Matrix.MatrixStreakDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// 비트셋 행렬로 구한 연속 결석이 엔티티 목록을 도는 기존 방식과 같고, 한 번 만든 뒤에는 DB를 읽지 않는지 확인
+@SpringBootTest
+class AttendanceMatrixTest {
+    private static final int USERS = 40;
+    private static final int SCHEDULES = 200;
+
+    @Autowired
+    private AttendanceMatrixDAO matrixDAO;
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bitsetStreaksMatchEntityTraversal() {
+        Long teamId = seed();
+        Map<Long, Integer> expected = transactionTemplate.execute(status -> entityStreaks(teamId));
+        matrixDAO.getMatrix(teamId);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<MatrixStreakDTO> streaks = matrixDAO.getStreaks(teamId, AttendanceEntity.Status.ABSENT, 1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Map<Long, Integer> actual = new HashMap<>();
+        streaks.forEach(streak -> actual.put(streak.getUserId(), streak.getLongest()));
+        assertThat(actual).isNotEmpty().isEqualTo(expected);
+
+        // 칸마다 상태별 1비트라 출석 ID 인덱스보다 작음
+        MatrixFootprintDTO footprint = matrixDAO.getMatrix(teamId).footprint();
+        assertThat(footprint)
+                .extracting(MatrixFootprintDTO::getUsers, MatrixFootprintDTO::getSchedules, MatrixFootprintDTO::getCells)
+                .containsExactly(USERS, SCHEDULES, USERS * SCHEDULES);
+        assertThat(footprint.getBitsetBytes()).isLessThan(footprint.getIndexBytes());
+    }
+
+    @Test
+    void committedUpdatesArePatchedIn() {
+        Long teamId = seed();
+        matrixDAO.getMatrix(teamId);
+        // 첫 회차를 모두 출석으로 바꾸면 그 회차의 인원이 바로 반영되어야 함
+        attendanceDAO.bulkUpdateAttendance(firstSlotPresent(teamId));
+
+        assertThat(matrixDAO.getSlots(teamId).get(0).getPresent()).isEqualTo(USERS);
+    }
+
+    @Test
+    void matrixBuiltAcrossACommitIsNotCached() {
+        Long teamId = seed();
+        List<AttendanceDTO> updates = firstSlotPresent(teamId);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 칸을 읽은 직후, 행렬이 캐시에 들어가기 전에 변경이 커밋됨. 캐시에 없으니 patch도 건너뜀
+        AttendanceRepository reading = mock(AttendanceRepository.class, delegatesTo(attendanceRepository));
+        doAnswer(invocation -> {
+            List<MatrixCellDTO> cells = attendanceRepository.findMatrixCells(teamId);
+            requiresNew.executeWithoutResult(status -> attendanceDAO.bulkUpdateAttendance(updates));
+            return cells;
+        }).when(reading).findMatrixCells(teamId);
+
+        AttendanceMatrixDAOImpl target = AopTestUtils.getTargetObject(matrixDAO);
+        ReflectionTestUtils.setField(target, "attendanceRepository", reading);
+        try {
+            matrixDAO.getMatrix(teamId);
+        } finally {
+            ReflectionTestUtils.setField(target, "attendanceRepository", attendanceRepository);
+        }
+
+        // 읽기 전 상태로 만든 행렬은 버려지고 다음 조회에서 새로 만듦
+        assertThat(matrixDAO.getSlots(teamId).get(0).getPresent()).isEqualTo(USERS);
+    }
+
+    private List<AttendanceDTO> firstSlotPresent(Long teamId) {
+        return transactionTemplate.execute(status ->
+                teamRepository.findById(teamId).orElseThrow().getSchedules().stream()
+                        .min(Comparator.comparing(SchedulesEntity::getDate).thenComparing(SchedulesEntity::getTime))
+                        .orElseThrow()
+                        .getAttendances().stream()
+                        .map(attendance -> AttendanceDTO.builder()
+                                .id(attendance.getId())
+                                .status(AttendanceEntity.Status.PRESENT)
+                                .build())
+                        .toList());
+    }
+
+    // 변경 전 방식: 팀 -> 스케쥴 -> 출석 엔티티를 유저마다 다시 훑음
+    private Map<Long, Integer> entityStreaks(Long teamId) {
+        TeamEntity team = teamRepository.findById(teamId).orElseThrow();
+        List<SchedulesEntity> schedules = new ArrayList<>(team.getSchedules());
+        schedules.sort(Comparator.comparing(SchedulesEntity::getDate).thenComparing(SchedulesEntity::getTime));
+        Map<Long, Integer> result = new HashMap<>();
+        for (UserEntity user : team.getUsers()) {
+            int run = 0;
+            int longest = 0;
+            for (SchedulesEntity schedule : schedules) {
+                for (AttendanceEntity attendance : schedule.getAttendances()) {
+                    if (!attendance.getUser().getId().equals(user.getId())) continue;
+                    run = attendance.getStatus() == AttendanceEntity.Status.ABSENT ? run + 1 : 0;
+                    longest = Math.max(longest, run);
+                }
+            }
+            if (longest > 0) result.put(user.getId(), longest);
+        }
+        return result;
+    }
+
+    private Long seed() {
+        Random random = new Random(42);
+        List<UserEntity> users = new ArrayList<>();
+        long base = System.nanoTime();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("matrix" + i)
+                    .password("matrix")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()));
+        }
+        List<SchedulesEntity> schedules = new ArrayList<>();
+        LocalDate day = LocalDate.of(2025, 3, 3);
+        for (int s = 0; s < SCHEDULES; s++) {
+            List<AttendanceEntity> attendances = new ArrayList<>();
+            for (UserEntity user : users) {
+                // 결석이 자주 이어지도록 절반 확률
+                AttendanceEntity.Status status = random.nextBoolean()
+                        ? AttendanceEntity.Status.ABSENT
+                        : AttendanceEntity.Status.PRESENT;
+                attendances.add(AttendanceEntity.builder().user(user).status(status).build());
+            }
+            SchedulesEntity schedule = new SchedulesEntity();
+            schedule.setDate(day.plusDays(s));
+            schedule.setTime(LocalTime.of(19, 0));
+            schedule.setAttendances(attendances);
+            schedules.add(schedule);
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .users(users)
+                .schedules(schedules)
+                .build()).getId();
+    }
+}
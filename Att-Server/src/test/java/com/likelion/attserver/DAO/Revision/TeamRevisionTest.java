@@ -0,0 +1,87 @@
+package com.likelion.attserver.DAO.Revision;
+
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Event.UserChangedEvent;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 쓰기 경로가 커밋되면 그 팀의 태그와 전체 태그만 바뀌는지 확인
+@SpringBootTest
+class TeamRevisionTest {
+    @Autowired
+    private TeamRevisionDAO revisionDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void scheduleWriteChangesOnlyItsTeamTag() {
+        Long changed = seed();
+        Long untouched = seed();
+        String changedTag = revisionDAO.getTeamTag(changed);
+        String untouchedTag = revisionDAO.getTeamTag(untouched);
+        String allTag = revisionDAO.getAllTag();
+
+        // 쓰기 없이 다시 물으면 같은 태그
+        assertThat(revisionDAO.getTeamTag(changed)).isEqualTo(changedTag);
+        assertThat(revisionDAO.getAllTag()).isEqualTo(allTag);
+
+        schedulesDAO.addSchedule(changed, List.of(SchedulesDTO.builder()
+                .date(LocalDate.of(2025, 3, 4))
+                .time(LocalTime.of(19, 0))
+                .build()));
+
+        assertThat(revisionDAO.getTeamTag(changed)).isNotEqualTo(changedTag);
+        assertThat(revisionDAO.getTeamTag(untouched)).isEqualTo(untouchedTag);
+        assertThat(revisionDAO.getAllTag()).isNotEqualTo(allTag);
+    }
+
+    @Test
+    void bumpAllChangesEveryTeamTag() {
+        Long teamId = seed();
+        String teamTag = revisionDAO.getTeamTag(teamId);
+        String allTag = revisionDAO.getAllTag();
+
+        // 유저 정보 수정은 모든 팀 응답에 걸침
+        eventPublisher.publishEvent(new UserChangedEvent(System.nanoTime(), false));
+
+        assertThat(revisionDAO.getTeamTag(teamId)).isNotEqualTo(teamTag);
+        assertThat(revisionDAO.getAllTag()).isNotEqualTo(allTag);
+    }
+
+    private Long seed() {
+        long base = System.nanoTime();
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .id(base)
+                .name("revision")
+                .password("revision")
+                .phone("010-0000-0000")
+                .track(UserEntity.Track.EduBack)
+                .role(UserEntity.Role.STUDENT)
+                .build());
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .users(new ArrayList<>(List.of(user)))
+                .schedules(new ArrayList<>())
+                .build()).getId();
+    }
+}
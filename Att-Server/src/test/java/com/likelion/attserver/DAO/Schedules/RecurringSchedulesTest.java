@@ -0,0 +1,145 @@
+package com.likelion.attserver.DAO.Schedules;
+
+import com.likelion.attserver.DTO.RecurringScheduleDTO;
+import com.likelion.attserver.DTO.RecurringScheduleResultDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 반복 스케쥴이 요일/제외일대로 펼쳐지고, 기존 칸은 건너뛰며, 팀원마다 출석이 생기는지 확인
+@SpringBootTest
+class RecurringSchedulesTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 6, 30);
+    private static final LocalTime TIME = LocalTime.of(19, 0);
+
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void expandsSkipsExistingAndCreatesAttendances() {
+        // 첫 화요일(3/4)은 이미 있는 스케쥴
+        Long first = seed(3, LocalDate.of(2025, 3, 4));
+        Long second = seed(2, null);
+        RecurringScheduleDTO request = RecurringScheduleDTO.builder()
+                .teamIds(List.of(first, second, first))
+                .from(FROM)
+                .to(TO)
+                .days(List.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY))
+                .time(TIME)
+                .except(List.of(LocalDate.of(2025, 5, 1)))
+                .build();
+
+        RecurringScheduleResultDTO result = schedulesDAO.addRecurringSchedules(request);
+
+        int slots = slots(request);
+        assertThat(result.getTeams()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getSchedules()).isEqualTo(2 * slots - 1);
+        assertThat(result.getAttendances()).isEqualTo(3 * (slots - 1) + 2 * slots);
+
+        List<ScheduleResponseDTO> schedules = schedulesDAO.getSchedules(first, FROM, TO, false, null);
+        assertThat(schedules).hasSize(slots)
+                .allSatisfy(schedule -> {
+                    assertThat(schedule.getDate().getDayOfWeek()).isIn(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY);
+                    assertThat(schedule.getDate()).isNotEqualTo(LocalDate.of(2025, 5, 1));
+                    assertThat(schedule.getAttendances()).hasSize(3)
+                            .allSatisfy(attendance -> assertThat(attendance.getStatus()).isEqualTo(AttendanceEntity.Status.NOT));
+                });
+        assertThat(schedulesDAO.getSchedules(second, FROM, TO, false, null)).hasSize(slots);
+
+        // 다시 돌려도 전부 건너뜀
+        RecurringScheduleResultDTO again = schedulesDAO.addRecurringSchedules(request);
+        assertThat(again.getSchedules()).isZero();
+        assertThat(again.getSkipped()).isEqualTo(2 * slots);
+    }
+
+    @Test
+    void buildsCohortSemester() {
+        List<Long> teams = new ArrayList<>();
+        for (int t = 0; t < 20; t++)
+            teams.add(seed(30, null));
+        RecurringScheduleDTO request = RecurringScheduleDTO.builder()
+                .teamIds(teams)
+                .from(FROM)
+                .to(TO)
+                .days(List.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY))
+                .time(TIME)
+                .build();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecurringScheduleResultDTO result = schedulesDAO.addRecurringSchedules(request);
+
+        // 스케쥴/출석 행은 엔티티를 거치지 않고 JDBC 배치로만 들어감
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(result.getSchedules()).isEqualTo(20 * slots(request));
+        assertThat(result.getAttendances()).isEqualTo(20 * 30 * slots(request));
+        for (Long teamId : List.of(teams.get(0), teams.get(19))) {
+            assertThat(schedulesDAO.getSchedules(teamId, FROM, TO, false, null)).hasSize(slots(request))
+                    .allSatisfy(schedule -> assertThat(schedule.getAttendances()).hasSize(30));
+        }
+    }
+
+    private static int slots(RecurringScheduleDTO request) {
+        Set<LocalDate> except = request.getExcept() == null ? Set.of() : new HashSet<>(request.getExcept());
+        int count = 0;
+        for (LocalDate date = request.getFrom(); !date.isAfter(request.getTo()); date = date.plusDays(1))
+            if (request.getDays().contains(date.getDayOfWeek()) && !except.contains(date))
+                count++;
+        return count;
+    }
+
+    private Long seed(int members, LocalDate existing) {
+        long base = System.nanoTime();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("recurring" + i)
+                    .password("recurring")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()));
+        }
+        List<SchedulesEntity> schedules = new ArrayList<>();
+        if (existing != null) {
+            SchedulesEntity schedule = new SchedulesEntity();
+            schedule.setDate(existing);
+            schedule.setTime(TIME);
+            schedule.setAttendances(new ArrayList<>(users.stream()
+                    .map(user -> AttendanceEntity.builder().user(user).status(AttendanceEntity.Status.NOT).build())
+                    .toList()));
+            schedules.add(schedule);
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .users(users)
+                .schedules(schedules)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,122 @@
+package com.likelion.attserver.DAO.Schedules;
+
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.AttendanceRepository;
+import com.likelion.attserver.Repository.SchedulesRepository;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 스케쥴 하나를 지울 때 팀의 기록 길이와 상관없이 문장 수가 같은지 확인
+@SpringBootTest
+class ScheduleRemovalTest {
+    private static final int MEMBERS = 4;
+
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SchedulesRepository schedulesRepository;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void removalCostDoesNotGrowWithHistory() {
+        long shortHistory = statementsToRemoveFirst(seed(3));
+        long longHistory = statementsToRemoveFirst(seed(60));
+
+        assertThat(longHistory).isEqualTo(shortHistory);
+    }
+
+    @Test
+    void removesOnlyTargetScheduleAndItsAttendances() {
+        Long teamId = seed(5);
+        List<ScheduleResponseDTO> before = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        ScheduleResponseDTO target = before.get(2);
+        List<Long> attendanceIds = target.getAttendances().stream().map(AttendanceDTO::getId).toList();
+
+        schedulesDAO.removeSchedule(teamId, target.getId());
+
+        List<ScheduleResponseDTO> after = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        assertThat(after).hasSize(4).extracting(ScheduleResponseDTO::getId).doesNotContain(target.getId());
+        assertThat(after).allSatisfy(schedule -> assertThat(schedule.getAttendances()).hasSize(MEMBERS));
+        assertThat(schedulesRepository.existsById(target.getId())).isFalse();
+        assertThat(attendanceRepository.findAllById(attendanceIds)).isEmpty();
+    }
+
+    @Test
+    void rejectsScheduleOfAnotherTeam() {
+        Long owner = seed(1);
+        Long other = seed(1);
+        Long scheduleId = schedulesDAO.getSchedules(owner, null, null, false, null).get(0).getId();
+
+        assertThatThrownBy(() -> schedulesDAO.removeSchedule(other, scheduleId))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> schedulesDAO.removeSchedule(-1L, scheduleId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(schedulesRepository.existsById(scheduleId)).isTrue();
+    }
+
+    private long statementsToRemoveFirst(Long teamId) {
+        Long scheduleId = schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        schedulesDAO.removeSchedule(teamId, scheduleId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seed(int schedules) {
+        long base = System.nanoTime();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("remove" + i)
+                    .password("remove")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()));
+        }
+        List<SchedulesEntity> scheduleEntities = new ArrayList<>();
+        for (int s = 0; s < schedules; s++) {
+            List<AttendanceEntity> attendances = new ArrayList<>();
+            for (UserEntity user : users)
+                attendances.add(AttendanceEntity.builder().user(user).status(AttendanceEntity.Status.NOT).build());
+            SchedulesEntity schedule = new SchedulesEntity();
+            schedule.setDate(LocalDate.of(2025, 3, 3).plusDays(s));
+            schedule.setTime(LocalTime.of(19, 0));
+            schedule.setAttendances(attendances);
+            scheduleEntities.add(schedule);
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .users(users)
+                .schedules(scheduleEntities)
+                .build()).getId();
+    }
+}
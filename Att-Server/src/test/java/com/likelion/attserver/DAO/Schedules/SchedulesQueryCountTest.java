@@ -0,0 +1,107 @@
+package com.likelion.attserver.DAO.Schedules;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import com.likelion.attserver.Service.Schedules.SchedulesService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 팀 x 스케쥴 x 팀원 수와 상관없이 전체 스케쥴 조회가 쿼리 한 번으로 끝나는지 확인
+@SpringBootTest
+class SchedulesQueryCountTest {
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SchedulesService schedulesService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void getAllSchedulesUsesSingleQuery() throws IOException {
+        Long small = seed(2, 2);
+        Long large = seed(10, 12);
+        Long empty = seed(0, 0);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        schedulesService.writeAllSchedules(out);
+        long queries = statistics.getPrepareStatementCount();
+        JsonNode result = objectMapper.readTree(out.toByteArray());
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(result.get(small.toString())).hasSize(2);
+        assertThat(result.get(large.toString())).hasSize(12)
+                .allSatisfy(schedule -> assertThat(schedule.get("attendances")).hasSize(10)
+                        .allSatisfy(attendance -> assertThat(attendance.get("user").get("name").asText()).startsWith("query")));
+        assertThat(result.get(empty.toString())).isEmpty();
+    }
+
+    // 스트리밍으로 쓴 JSON이 팀별 조회(ScheduleResponseDTO)를 직렬화한 것과 같은 모양인지
+    @Test
+    void streamedJsonMatchesTypedResponse() throws IOException {
+        Long teamId = seed(3, 4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        schedulesService.writeAllSchedules(out);
+
+        JsonNode streamed = objectMapper.readTree(out.toByteArray()).get(teamId.toString());
+        JsonNode typed = objectMapper.readTree(
+                objectMapper.writeValueAsBytes(schedulesDAO.getSchedules(teamId, null, null, false, null)));
+        assertThat(streamed).isEqualTo(typed);
+    }
+
+    private Long seed(int members, int schedules) {
+        long base = System.nanoTime();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("query" + i)
+                    .password("query")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()));
+        }
+        List<SchedulesEntity> scheduleEntities = new ArrayList<>();
+        for (int s = 0; s < schedules; s++) {
+            List<AttendanceEntity> attendances = new ArrayList<>();
+            for (UserEntity user : users)
+                attendances.add(AttendanceEntity.builder().user(user).status(AttendanceEntity.Status.NOT).build());
+            SchedulesEntity schedule = new SchedulesEntity();
+            schedule.setDate(LocalDate.of(2025, 3, 3).plusDays(s));
+            schedule.setTime(LocalTime.of(19, 0));
+            schedule.setAttendances(attendances);
+            scheduleEntities.add(schedule);
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .users(users)
+                .schedules(scheduleEntities)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,86 @@
+package com.likelion.attserver.DAO.Schedules;
+
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 날짜 범위, 다가오는 스케쥴, 개수 제한이 DB 조회 조건으로 처리되는지 확인
+@SpringBootTest
+class SchedulesRangeQueryTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void filtersByRangeUpcomingAndLimit() {
+        Long teamId = seed();
+
+        assertThat(dates(schedulesDAO.getSchedules(teamId, null, null, false, null))).hasSize(10);
+        assertThat(dates(schedulesDAO.getSchedules(teamId, TODAY.minusDays(2), TODAY.plusDays(1), false, null)))
+                .containsExactly(TODAY.minusDays(2), TODAY.minusDays(1), TODAY, TODAY.plusDays(1));
+        // 오늘 스케쥴은 23:59 시작이라 아직 다가오는 스케쥴
+        assertThat(dates(schedulesDAO.getSchedules(teamId, null, null, true, 2)))
+                .containsExactly(TODAY, TODAY.plusDays(1));
+        assertThat(schedulesDAO.getSchedules(teamId, null, null, true, 1).get(0).getAttendances()).hasSize(1);
+        // 기간 안에 스케쥴이 없으면 빈 목록
+        assertThat(schedulesDAO.getSchedules(teamId, TODAY.plusDays(10), null, false, null)).isEmpty();
+    }
+
+    @Test
+    void unknownTeamIsAnError() {
+        assertThatThrownBy(() -> schedulesDAO.getSchedules(-1L, null, null, false, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Team not found");
+    }
+
+    private static List<LocalDate> dates(List<ScheduleResponseDTO> schedules) {
+        return schedules.stream().map(ScheduleResponseDTO::getDate).toList();
+    }
+
+    private Long seed() {
+        long teamId = System.nanoTime();
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .id(teamId)
+                .name("range")
+                .password("range")
+                .phone("010-0000-0000")
+                .track(UserEntity.Track.EduBack)
+                .role(UserEntity.Role.STUDENT)
+                .build());
+        List<SchedulesEntity> schedules = new ArrayList<>();
+        // 뒤섞인 순서로 넣어도 날짜 순으로 나와야 함
+        for (int offset : new int[]{3, -5, 0, 4, -1, 2, -3, 1, -2, -4}) {
+            SchedulesEntity schedule = new SchedulesEntity();
+            schedule.setDate(TODAY.plusDays(offset));
+            schedule.setTime(LocalTime.of(23, 59));
+            schedule.setAttendances(new ArrayList<>(List.of(
+                    AttendanceEntity.builder().user(user).status(AttendanceEntity.Status.NOT).build())));
+            schedules.add(schedule);
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(teamId)
+                .users(List.of(user))
+                .schedules(schedules)
+                .build()).getId();
+    }
+}
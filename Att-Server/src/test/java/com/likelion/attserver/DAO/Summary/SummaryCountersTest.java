@@ -0,0 +1,121 @@
+package com.likelion.attserver.DAO.Summary;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.Stats.SummaryDriftDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 출석 수정, 스케쥴 추가/삭제, 팀원 변경을 거쳐도 카운터가 출석 테이블에서 다시 센 값과 같은지 확인
+@SpringBootTest
+class SummaryCountersTest {
+    private static final LocalDate DAY = LocalDate.of(2099, 3, 2);
+
+    @Autowired
+    private AttendanceSummaryDAO summaryDAO;
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void countersNeverDrift() {
+        List<Long> users = seedUsers(3);
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "summary", users.subList(0, 2));
+        schedulesDAO.addSchedule(teamId, List.of(schedule(DAY), schedule(DAY.plusDays(1)), schedule(DAY.plusDays(2))));
+        assertNoDrift(teamId);
+
+        // 단건 수정과 일괄 수정
+        List<AttendanceDTO> first = schedules(teamId).get(0).getAttendances();
+        attendanceDAO.updateAttendance(List.of(
+                mark(first.get(0).getId(), AttendanceEntity.Status.PRESENT, 3L),
+                mark(first.get(1).getId(), AttendanceEntity.Status.LATE, 1L)));
+        assertNoDrift(teamId);
+        attendanceDAO.bulkUpdateAttendance(List.of(
+                mark(first.get(0).getId(), AttendanceEntity.Status.ABSENT, 0L),
+                mark(schedules(teamId).get(1).getAttendances().get(0).getId(), AttendanceEntity.Status.PRESENT, 5L)));
+        assertNoDrift(teamId);
+
+        // 기존 토글 경로: 세 번째 유저는 들어오고 첫 번째 유저는 빠짐
+        teamDAO.addTeam(teamId, "summary", List.of(users.get(2), users.get(0)));
+        assertNoDrift(teamId);
+
+        // 목록으로 맞추기: 첫 번째 유저가 다시 들어오고 두 번째 유저가 빠짐
+        teamDAO.setMembers(teamId, List.of(users.get(0), users.get(2)));
+        assertNoDrift(teamId);
+
+        // 스케쥴 추가와 삭제
+        schedulesDAO.addSchedule(teamId, List.of(schedule(DAY.plusDays(3))));
+        assertNoDrift(teamId);
+        schedulesDAO.removeSchedule(teamId, schedules(teamId).get(0).getId());
+        assertNoDrift(teamId);
+
+        assertThat(summaryDAO.getTeamSummary(teamId))
+                .extracting(AttendanceSummaryDTO::getUserId, AttendanceSummaryDTO::getPresent, AttendanceSummaryDTO::getNot)
+                .containsExactlyInAnyOrder(
+                        tuple(users.get(0), 0L, 3L),
+                        tuple(users.get(2), 0L, 3L));
+        assertThat(summaryDAO.rebuild()).noneMatch(drift -> teamId.equals(drift.getTeamId()));
+    }
+
+    private void assertNoDrift(Long teamId) {
+        List<SummaryDriftDTO> drifts = summaryDAO.verify().stream()
+                .filter(drift -> teamId.equals(drift.getTeamId()))
+                .toList();
+        assertThat(drifts).isEmpty();
+    }
+
+    private List<ScheduleResponseDTO> schedules(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null);
+    }
+
+    private static AttendanceDTO mark(Long id, AttendanceEntity.Status status, Long score) {
+        return AttendanceDTO.builder().id(id).status(status).score(score).build();
+    }
+
+    private static SchedulesDTO schedule(LocalDate date) {
+        return SchedulesDTO.builder()
+                .date(date)
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build();
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("summary" + i)
+                    .password("summary")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,129 @@
+package com.likelion.attserver.DAO.Team;
+
+import com.likelion.attserver.DAO.Docs.DocsDAO;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.SchedulesEntity;
+import com.likelion.attserver.Entity.TeamEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.TeamRepository;
+import com.likelion.attserver.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 경로마다 필요한 연관만 읽는지 Hibernate 통계로 확인 (EAGER일 때는 팀 하나만 읽어도 스케쥴/출석 전부가 따라왔음)
+@SpringBootTest
+class TeamFetchPlanTest {
+    private static final int MEMBERS = 5;
+    private static final int SCHEDULES = 20;
+
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private DocsDAO docsDAO;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void renameLoadsNoSchedules() {
+        Long teamId = seed();
+        Statistics statistics = statistics();
+
+        teamDAO.addTeam(teamId, "renamed", List.of());
+
+        assertThat(loads(statistics, SchedulesEntity.class)).isZero();
+        assertThat(loads(statistics, AttendanceEntity.class)).isZero();
+        assertThat(teamDAO.getTeam(teamId)).containsKey("renamed");
+    }
+
+    @Test
+    void teamReadsLoadOnlyMembers() {
+        Long teamId = seed();
+        Statistics statistics = statistics();
+
+        assertThat(teamDAO.getTeam(teamId).values().iterator().next()).hasSize(MEMBERS);
+        teamDAO.getTeams();
+        docsDAO.getAll();
+
+        assertThat(loads(statistics, SchedulesEntity.class)).isZero();
+        assertThat(loads(statistics, AttendanceEntity.class)).isZero();
+    }
+
+    @Test
+    void memberChangeFetchesAttendancesInOneQuery() {
+        Long teamId = seed();
+        UserEntity joined = user(System.nanoTime(), "joined");
+        Statistics statistics = statistics();
+
+        teamDAO.addTeam(teamId, "fetch", List.of(joined.getId()));
+
+        // 팀 + 스케쥴 한 번, 출석 한 번. 스케쥴마다 출석 컬렉션을 따로 읽지 않음
+        assertThat(statistics.getCollectionFetchCount()).isLessThanOrEqualTo(2);
+        List<ScheduleResponseDTO> schedules = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        assertThat(schedules).hasSize(SCHEDULES)
+                .allSatisfy(schedule -> assertThat(schedule.getAttendances()).hasSize(MEMBERS + 1));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private long loads(Statistics statistics, Class<?> entity) {
+        return statistics.getEntityStatistics(entity.getName()).getLoadCount();
+    }
+
+    private UserEntity user(long id, String name) {
+        return userRepository.save(UserEntity.builder()
+                .id(id)
+                .name(name)
+                .password("fetch")
+                .phone("010-0000-0000")
+                .track(UserEntity.Track.EduBack)
+                .role(UserEntity.Role.STUDENT)
+                .build());
+    }
+
+    private Long seed() {
+        long base = System.nanoTime();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++)
+            users.add(user(base + i, "fetch" + i));
+        List<SchedulesEntity> schedules = new ArrayList<>();
+        for (int s = 0; s < SCHEDULES; s++) {
+            List<AttendanceEntity> attendances = new ArrayList<>();
+            for (UserEntity user : users)
+                attendances.add(AttendanceEntity.builder().user(user).status(AttendanceEntity.Status.NOT).build());
+            SchedulesEntity schedule = new SchedulesEntity();
+            schedule.setDate(LocalDate.of(2025, 3, 3).plusDays(s));
+            schedule.setTime(LocalTime.of(19, 0));
+            schedule.setAttendances(attendances);
+            schedules.add(schedule);
+        }
+        return teamRepository.save(TeamEntity.builder()
+                .id(base)
+                .note("fetch")
+                .users(users)
+                .schedules(schedules)
+                .build()).getId();
+    }
+}
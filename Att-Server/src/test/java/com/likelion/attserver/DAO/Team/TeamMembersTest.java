@@ -0,0 +1,139 @@
+package com.likelion.attserver.DAO.Team;
+
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Summary.AttendanceSummaryDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleResponseDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.DTO.TeamMembersResultDTO;
+import com.likelion.attserver.DTO.Stats.AttendanceSummaryDTO;
+import com.likelion.attserver.DTO.UserDTO;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 팀원 목록을 통째로 맞출 때 차이만큼만 출석 행이 생기고 지워지는지 확인
+@SpringBootTest
+class TeamMembersTest {
+    private static final int SCHEDULES = 12;
+
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private AttendanceSummaryDAO summaryDAO;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void reconcilesMembersAndAttendances() {
+        List<Long> users = seedUsers(4);
+        Long teamId = seedTeam(users.subList(0, 3));
+
+        TeamMembersResultDTO result = teamDAO.setMembers(teamId, List.of(users.get(1), users.get(3), users.get(2), users.get(3)));
+
+        assertThat(result.getAdded()).containsExactly(users.get(3));
+        assertThat(result.getRemoved()).containsExactly(users.get(0));
+        assertThat(result.getCreatedAttendances()).isEqualTo(SCHEDULES);
+        assertThat(result.getDeletedAttendances()).isEqualTo(SCHEDULES);
+
+        assertThat(teamDAO.getTeam(teamId).values().iterator().next())
+                .extracting(UserDTO::getStudentId)
+                .containsExactlyInAnyOrder(users.get(1), users.get(2), users.get(3));
+        List<ScheduleResponseDTO> schedules = schedulesDAO.getSchedules(teamId, null, null, false, null);
+        assertThat(schedules).hasSize(SCHEDULES).allSatisfy(schedule ->
+                assertThat(schedule.getAttendances()).extracting(AttendanceDTO::getUser)
+                        .extracting(UserDTO::getStudentId)
+                        .containsExactlyInAnyOrder(users.get(1), users.get(2), users.get(3)));
+        assertThat(summaryDAO.getTeamSummary(teamId))
+                .extracting(AttendanceSummaryDTO::getUserId, AttendanceSummaryDTO::getNot)
+                .containsExactlyInAnyOrder(
+                        tuple(users.get(1), (long) SCHEDULES),
+                        tuple(users.get(2), (long) SCHEDULES),
+                        tuple(users.get(3), (long) SCHEDULES));
+
+        // 같은 목록을 다시 보내면 바뀌는 것 없음
+        TeamMembersResultDTO again = teamDAO.setMembers(teamId, List.of(users.get(3), users.get(2), users.get(1)));
+        assertThat(again.getAdded()).isEmpty();
+        assertThat(again.getRemoved()).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownUsersAndOtherTeamsMembers() {
+        List<Long> users = seedUsers(2);
+        Long teamId = seedTeam(users.subList(0, 1));
+        Long otherId = seedTeam(users.subList(1, 2));
+
+        assertThatThrownBy(() -> teamDAO.setMembers(teamId, List.of(users.get(0), -1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("User not found");
+        assertThatThrownBy(() -> teamDAO.setMembers(teamId, List.of(users.get(1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(otherId));
+        assertThat(teamDAO.getTeam(teamId).values().iterator().next())
+                .extracting(UserDTO::getStudentId)
+                .containsExactly(users.get(0));
+    }
+
+    @Test
+    void toggleStillAllowsMembersOfOtherTeams() {
+        List<Long> users = seedUsers(2);
+        Long teamId = seedTeam(users.subList(0, 1));
+        Long otherId = seedTeam(users.subList(1, 2));
+
+        // 기존 addTeam 토글은 다른 팀 소속 여부를 따지지 않음
+        teamDAO.addTeam(teamId, "members", List.of(users.get(1)));
+
+        assertThat(teamDAO.getTeam(teamId).values().iterator().next())
+                .extracting(UserDTO::getStudentId)
+                .containsExactlyInAnyOrder(users.get(0), users.get(1));
+        assertThat(teamDAO.getTeam(otherId).values().iterator().next())
+                .extracting(UserDTO::getStudentId)
+                .containsExactly(users.get(1));
+        assertThat(schedulesDAO.getSchedules(teamId, null, null, false, null)).allSatisfy(schedule ->
+                assertThat(schedule.getAttendances()).hasSize(2));
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("members" + i)
+                    .password("members")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private Long seedTeam(List<Long> users) {
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "members", users);
+        List<SchedulesDTO> schedules = new ArrayList<>();
+        for (int i = 0; i < SCHEDULES; i++) {
+            schedules.add(SchedulesDTO.builder()
+                    .date(LocalDate.of(2099, 3, 2).plusDays(i))
+                    .time(LocalTime.of(19, 0))
+                    .duration(60)
+                    .resources(List.of())
+                    .build());
+        }
+        schedulesDAO.addSchedule(teamId, schedules);
+        return teamId;
+    }
+}
@@ -0,0 +1,95 @@
+package com.likelion.attserver.Event;
+
+import com.likelion.attserver.DTO.TeamEventDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 전송이 막힌 구독자는 쓰는 쪽을 붙잡지 않고 끊기고, 정상 구독자는 순서대로 받는지 확인
+class EventSubscriberTest {
+    @Test
+    void stuckClientIsDroppedWithoutBlockingWriter() {
+        // 전송 작업을 실행하지 않는 풀 = 전혀 읽지 않는 클라이언트
+        List<Runnable> pending = new ArrayList<>();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicBoolean completed = new AtomicBoolean();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sent.incrementAndGet();
+            }
+
+            @Override
+            public void complete() {
+                completed.set(true);
+            }
+        };
+        AtomicInteger offered = new AtomicInteger();
+        List<Integer> closedAt = new ArrayList<>();
+        EventSubscriber subscriber = new EventSubscriber(emitter, 8, pending::add, s -> closedAt.add(offered.get()));
+
+        for (int i = 0; i < 100; i++) {
+            offered.set(i);
+            subscriber.offer(event(i));
+        }
+
+        // 큐 8칸이 찬 다음 이벤트에서 바로 끊기고, 그 뒤로는 쌓지 않음
+        assertThat(closedAt).containsExactly(8);
+        // 첫 전송 예약과 끊은 뒤 emitter 종료만 풀에 넘어감
+        assertThat(pending).hasSize(2);
+        // 늦게 실행된 전송 작업은 버린 이벤트를 보내지 않고 연결만 닫음
+        pending.forEach(Runnable::run);
+        assertThat(sent).hasValue(0);
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    void deliversInOrder() {
+        List<Long> sent = new ArrayList<>();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                builder.build().stream()
+                        .filter(part -> part.getData() instanceof TeamEventDTO)
+                        .forEach(part -> sent.add(((TeamEventDTO) part.getData()).getTeamId()));
+            }
+        };
+        EventSubscriber subscriber = new EventSubscriber(emitter, 8, Runnable::run, s -> { });
+
+        for (int i = 0; i < 20; i++)
+            subscriber.offer(event(i));
+
+        assertThat(sent).hasSize(20).isSorted();
+    }
+
+    @Test
+    void failedSendClosesSubscriber() {
+        AtomicInteger closed = new AtomicInteger();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        EventSubscriber subscriber = new EventSubscriber(emitter, 8, Runnable::run, s -> closed.incrementAndGet());
+
+        subscriber.offer(event(1));
+        subscriber.offer(event(2));
+
+        assertThat(closed).hasValue(1);
+    }
+
+    private static TeamEventDTO event(long teamId) {
+        return TeamEventDTO.builder()
+                .type(TeamEventDTO.Type.SCHEDULE)
+                .teamId(teamId)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.likelion.attserver.Service.Attendance;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceSearchDTO;
+import com.likelion.attserver.DTO.AttendanceSearchRowDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커서로 흘려 쓴 내보내기 파일이 같은 조건의 검색 결과와 같은 행을 같은 순서로 담는지 확인
+@SpringBootTest(properties = "att.export.fetch-size=2")
+class AttendanceExportTest {
+    @Autowired
+    private AttendanceService attendanceService;
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void exportsSearchRowsInOrder() throws Exception {
+        Long teamId = seedTeam(3, 2);
+        AttendanceSearchDTO condition = AttendanceSearchDTO.builder().teamId(teamId).size(100).build();
+        List<AttendanceSearchRowDTO> rows = attendanceDAO.search(condition).getItems();
+        assertThat(rows).hasSize(6);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        attendanceService.export(condition, "csv", out);
+
+        List<String> lines = Arrays.asList(out.toString(StandardCharsets.UTF_8).substring(1).split("\r\n"));
+        assertThat(lines.get(0)).isEqualTo("attendanceId,teamId,scheduleId,date,time,studentId,name,track,status,score,note");
+        assertThat(lines.subList(1, lines.size()))
+                .extracting(line -> Long.parseLong(line.substring(0, line.indexOf(','))))
+                .containsExactlyElementsOf(rows.stream().map(AttendanceSearchRowDTO::getId).toList());
+        assertThat(lines.get(1)).endsWith(",EduBack,NOT,,");
+    }
+
+    private Long seedTeam(int members, int schedules) {
+        long base = System.nanoTime();
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("export" + i)
+                    .password("export")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "export", users);
+        List<SchedulesDTO> dates = new ArrayList<>();
+        for (int i = 0; i < schedules; i++) {
+            dates.add(SchedulesDTO.builder()
+                    .date(LocalDate.of(2099, 3, 2).plusDays(i))
+                    .time(LocalTime.of(19, 0))
+                    .duration(60)
+                    .resources(List.of())
+                    .build());
+        }
+        schedulesDAO.addSchedule(teamId, dates);
+        return teamId;
+    }
+}
@@ -0,0 +1,154 @@
+package com.likelion.attserver.Service.Attendance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceChunkDTO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// NDJSON 스트림이 청크 단위로 커밋되고, 실패한 청크나 깨진 줄이 있어도 앞서 커밋된 청크는 남는지 확인
+@SpringBootTest(properties = "att.stream.chunk-size=2")
+class AttendanceStreamTest {
+    @Autowired
+    private AttendanceService attendanceService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void commitsEveryChunkAndThePartialTail() throws Exception {
+        Long teamId = seedTeam(4);
+        List<Long> ids = attendanceIds(teamId);
+
+        List<AttendanceChunkDTO> lines = stream(
+                line(ids.get(0)), line(ids.get(1)), line(ids.get(2)), line(ids.get(3)), line(-1L));
+
+        // 2 + 2 + 남은 1줄, 마지막에 요약 줄
+        assertThat(lines).extracting(AttendanceChunkDTO::getChunk, AttendanceChunkDTO::getSize,
+                        AttendanceChunkDTO::getUpdated, AttendanceChunkDTO::getNotFound,
+                        AttendanceChunkDTO::getProcessed, AttendanceChunkDTO::isDone)
+                .containsExactly(
+                        tuple(1, 2, 2, 0, 2L, false),
+                        tuple(2, 2, 2, 0, 4L, false),
+                        tuple(3, 1, 0, 1, 5L, false),
+                        tuple(3, 0, 0, 0, 5L, true));
+        assertThat(lines).extracting(AttendanceChunkDTO::getError).containsOnlyNulls();
+        assertThat(statuses(teamId).values()).containsOnly(AttendanceEntity.Status.PRESENT);
+    }
+
+    @Test
+    void keepsCommittedChunksWhenAChunkOrLineFails() throws Exception {
+        Long teamId = seedTeam(5);
+        List<Long> ids = attendanceIds(teamId);
+
+        // 두 번째 청크는 note가 컬럼 길이를 넘어 통째로 롤백되고, 깨진 줄에서 읽기를 멈춤
+        List<AttendanceChunkDTO> lines = stream(
+                line(ids.get(0)), line(ids.get(1)),
+                objectMapper.writeValueAsString(AttendanceDTO.builder()
+                        .id(ids.get(2))
+                        .status(AttendanceEntity.Status.PRESENT)
+                        .note("x".repeat(300))
+                        .build()),
+                line(ids.get(3)),
+                line(ids.get(4)),
+                "{broken");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0).getError()).isNull();
+        assertThat(lines.get(0).getProcessed()).isEqualTo(2L);
+        // 실패한 청크는 누적 커밋 수를 늘리지 않음
+        assertThat(lines.get(1).getError()).isNotNull();
+        assertThat(lines.get(1).getProcessed()).isEqualTo(2L);
+        // 깨진 줄 앞까지 읽은 행은 마지막 청크로 커밋됨
+        assertThat(lines.get(2))
+                .extracting(AttendanceChunkDTO::getChunk, AttendanceChunkDTO::getSize, AttendanceChunkDTO::getProcessed)
+                .containsExactly(3, 1, 3L);
+        assertThat(lines.get(3).isDone()).isTrue();
+        assertThat(lines.get(3).getProcessed()).isEqualTo(3L);
+        assertThat(lines.get(3).getError()).startsWith("Invalid line after 3 rows");
+
+        Map<Long, AttendanceEntity.Status> statuses = statuses(teamId);
+        assertThat(ids).extracting(statuses::get).containsExactly(
+                AttendanceEntity.Status.PRESENT,
+                AttendanceEntity.Status.PRESENT,
+                AttendanceEntity.Status.NOT,
+                AttendanceEntity.Status.NOT,
+                AttendanceEntity.Status.PRESENT);
+    }
+
+    private List<AttendanceChunkDTO> stream(String... lines) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        attendanceService.streamUpdateAttendance(
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), out);
+        return objectMapper.readerFor(AttendanceChunkDTO.class)
+                .<AttendanceChunkDTO>readValues(out.toByteArray())
+                .readAll();
+    }
+
+    private String line(Long id) throws Exception {
+        return objectMapper.writeValueAsString(AttendanceDTO.builder()
+                .id(id)
+                .status(AttendanceEntity.Status.PRESENT)
+                .score(1L)
+                .build());
+    }
+
+    private List<Long> attendanceIds(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getAttendances().stream()
+                .map(AttendanceDTO::getId)
+                .toList();
+    }
+
+    private Map<Long, AttendanceEntity.Status> statuses(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getAttendances().stream()
+                .collect(Collectors.toMap(AttendanceDTO::getId, AttendanceDTO::getStatus));
+    }
+
+    private Long seedTeam(int members) {
+        long base = System.nanoTime();
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("stream" + i)
+                    .password("stream")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "stream", users);
+        schedulesDAO.addSchedule(teamId, List.of(SchedulesDTO.builder()
+                .date(LocalDate.of(2099, 3, 2))
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build()));
+        return teamId;
+    }
+}
@@ -0,0 +1,76 @@
+package com.likelion.attserver.Service.Attendance;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SheetWriterTest {
+    private static final List<Object> ROW = Arrays.asList(7L, "김, \"멋사\"", null, "a < b & c", "줄\n바꿈");
+
+    @Test
+    void writesEscapedCsvWithBom() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SheetWriter sheet = SheetWriter.of("CSV", out)) {
+            sheet.row(List.of("id", "name", "score", "note", "memo"));
+            sheet.row(ROW);
+        }
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF");
+        assertThat(csv.substring(1)).isEqualTo("id,name,score,note,memo\r\n"
+                + "7,\"김, \"\"멋사\"\"\",,a < b & c,\"줄\n바꿈\"\r\n");
+    }
+
+    @Test
+    void writesSingleSheetWorkbook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SheetWriter sheet = SheetWriter.of("xlsx", out)) {
+            sheet.row(List.of("id", "name"));
+            sheet.row(ROW);
+        }
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(entries).containsOnlyKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        assertThat(entries.get("[Content_Types].xml")).contains("/xl/worksheets/sheet1.xml");
+
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertThat(sheet).endsWith("</sheetData></worksheet>");
+        assertThat(sheet.split("<row>", -1)).hasSize(3);
+        // 숫자는 값 셀, 문자열은 인라인 문자열로 XML 이스케이프, null은 빈 셀
+        assertThat(sheet).contains("<row><c t=\"inlineStr\"><is><t>id</t></is></c><c t=\"inlineStr\"><is><t>name</t></is></c></row>")
+                .contains("<row><c><v>7</v></c>"
+                        + "<c t=\"inlineStr\"><is><t>김, &quot;멋사&quot;</t></is></c>"
+                        + "<c/>"
+                        + "<c t=\"inlineStr\"><is><t>a &lt; b &amp; c</t></is></c>"
+                        + "<c t=\"inlineStr\"><is><t>줄\n바꿈</t></is></c></row>");
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertThatThrownBy(() -> SheetWriter.of("pdf", new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pdf");
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null)
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return entries;
+    }
+}
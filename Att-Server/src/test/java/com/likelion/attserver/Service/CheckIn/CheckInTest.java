@@ -0,0 +1,202 @@
+package com.likelion.attserver.Service.CheckIn;
+
+import com.likelion.attserver.DAO.Attendance.AttendanceDAO;
+import com.likelion.attserver.DAO.Schedules.SchedulesDAO;
+import com.likelion.attserver.DAO.Team.TeamDAO;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.CheckInDTO;
+import com.likelion.attserver.DTO.SchedulesDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import com.likelion.attserver.Exception.CustomException;
+import com.likelion.attserver.JWT.JwtTokenUtil;
+import com.likelion.attserver.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 체크인 코드가 현재/직전 주기만 통과하는지, 버퍼에 모은 체크인이 한 번에 반영되고
+// 묶음이 실패하면 하나씩 다시 반영하며, 계속 실패하는 체크인은 정해진 횟수 뒤에 버리는지 확인
+@SpringBootTest
+class CheckInTest {
+    private static final long PERIOD = 30;
+
+    @Autowired
+    private AttendanceDAO attendanceDAO;
+    @Autowired
+    private SchedulesDAO schedulesDAO;
+    @Autowired
+    private TeamDAO teamDAO;
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void acceptsCurrentAndPreviousWindowOnly() {
+        CheckInCode code = new CheckInCode("check-in-test", PERIOD);
+        Instant now = Instant.ofEpochSecond(PERIOD * 1_000_000 + 7);
+
+        assertThat(code.verify(1L, code.current(1L, now), now)).isTrue();
+        // 주기가 막 바뀐 직후에도 화면에 떠 있던 직전 코드는 통과
+        assertThat(code.verify(1L, code.current(1L, now.minusSeconds(PERIOD)), now)).isTrue();
+        assertThat(code.verify(1L, code.current(1L, now.minusSeconds(2 * PERIOD)), now)).isFalse();
+        assertThat(code.verify(1L, code.current(1L, now.plusSeconds(PERIOD)), now)).isFalse();
+
+        // 같은 주기 안에서는 코드가 그대로고, 다른 스케쥴이나 다른 키의 코드는 받지 않음
+        assertThat(code.current(1L, now.plusSeconds(PERIOD - 8))).isEqualTo(code.current(1L, now));
+        assertThat(code.verify(2L, code.current(1L, now), now)).isFalse();
+        assertThat(new CheckInCode("other-secret", PERIOD).verify(1L, code.current(1L, now), now)).isFalse();
+        assertThat(code.verify(1L, null, now)).isFalse();
+    }
+
+    @Test
+    void retriesFailedBatchOneByOne() {
+        List<Long> users = seedUsers(3);
+        Long teamId = seedTeam(users);
+        Long scheduleId = scheduleOf(teamId);
+
+        // 첫 반영만 실패하고 이후는 실제 DAO로 넘김
+        AttendanceDAO flaky = mock(AttendanceDAO.class, delegatesTo(attendanceDAO));
+        doThrow(new IllegalStateException("database unavailable"))
+                .doAnswer(delegatesTo(attendanceDAO))
+                .when(flaky).applyCheckIns(anyList(), any(Duration.class));
+        CheckInCode code = new CheckInCode("check-in-test", PERIOD);
+        CheckInServiceImpl checkInService = checkInService(flaky, code);
+
+        checkInService.checkIn(token(users.get(0)), scheduleId, code.current(scheduleId));
+        checkInService.checkIn(token(users.get(0)), scheduleId, code.current(scheduleId));
+        checkInService.checkIn(token(users.get(1)), scheduleId, code.current(scheduleId));
+        assertThatThrownBy(() -> checkInService.checkIn(token(users.get(2)), scheduleId, "abcdef"))
+                .isInstanceOf(CustomException.class);
+
+        // 응답은 버퍼에 넣고 바로 끝나므로 아직 반영 전
+        assertThat(statuses(teamId)).containsOnly(AttendanceEntity.Status.NOT);
+
+        // 묶음이 실패하면 같은 주기에 하나씩 다시 반영됨 (같은 학생의 중복 체크인은 하나로)
+        checkInService.flush();
+        assertThat(statuses(teamId)).containsExactly(
+                AttendanceEntity.Status.PRESENT, AttendanceEntity.Status.PRESENT, AttendanceEntity.Status.NOT);
+
+        // 버퍼가 비었으면 DB를 건드리지 않음
+        checkInService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CheckInDTO>> batches = ArgumentCaptor.forClass(List.class);
+        verify(flaky, times(3)).applyCheckIns(batches.capture(), any(Duration.class));
+        assertThat(batches.getAllValues().get(0)).extracting(CheckInDTO::getUserId)
+                .containsExactlyInAnyOrder(users.get(0), users.get(1));
+        assertThat(batches.getAllValues().subList(1, 3)).extracting(batch -> batch.get(0).getUserId())
+                .containsExactlyInAnyOrder(users.get(0), users.get(1));
+    }
+
+    @Test
+    void dropsCheckInThatKeepsFailing() {
+        List<Long> users = seedUsers(3);
+        Long teamId = seedTeam(users);
+        Long scheduleId = scheduleOf(teamId);
+        Long poisoned = users.get(1);
+
+        // 두 번째 학생이 들어간 묶음은 항상 실패
+        AttendanceDAO flaky = mock(AttendanceDAO.class, delegatesTo(attendanceDAO));
+        doAnswer(invocation -> {
+            List<CheckInDTO> checkIns = invocation.getArgument(0);
+            if (checkIns.stream().anyMatch(checkIn -> checkIn.getUserId().equals(poisoned)))
+                throw new IllegalStateException("constraint violation");
+            return attendanceDAO.applyCheckIns(checkIns, invocation.getArgument(1));
+        }).when(flaky).applyCheckIns(anyList(), any(Duration.class));
+        CheckInCode code = new CheckInCode("check-in-test", PERIOD);
+        CheckInServiceImpl checkInService = checkInService(flaky, code);
+        ReflectionTestUtils.setField(checkInService, "maxAttempts", 3);
+
+        // 1회차: 묶음 실패 -> 첫 학생은 따로 반영, 두 번째 학생은 다시 들어감 (1회 실패)
+        checkInService.checkIn(token(users.get(0)), scheduleId, code.current(scheduleId));
+        checkInService.checkIn(token(poisoned), scheduleId, code.current(scheduleId));
+        checkInService.flush();
+        assertThat(statuses(teamId)).containsExactly(
+                AttendanceEntity.Status.PRESENT, AttendanceEntity.Status.NOT, AttendanceEntity.Status.NOT);
+
+        // 2회차: 혼자 남은 행은 하나씩 다시 시도하지 않음 (2회 실패)
+        checkInService.flush();
+
+        // 3회차: 새로 들어온 체크인은 반영되고, 세 번 실패한 행은 버려짐
+        checkInService.checkIn(token(users.get(2)), scheduleId, code.current(scheduleId));
+        checkInService.flush();
+        assertThat(statuses(teamId)).containsExactly(
+                AttendanceEntity.Status.PRESENT, AttendanceEntity.Status.NOT, AttendanceEntity.Status.PRESENT);
+
+        // 버려졌으므로 다음 주기엔 반영할 것이 없음
+        checkInService.flush();
+        verify(flaky, times(1 + 2 + 1 + 1 + 2)).applyCheckIns(anyList(), any(Duration.class));
+    }
+
+    private CheckInServiceImpl checkInService(AttendanceDAO dao, CheckInCode code) {
+        CheckInServiceImpl checkInService = new CheckInServiceImpl(dao, jwtTokenUtil, code);
+        ReflectionTestUtils.setField(checkInService, "lateAfterMinutes", 10L);
+        ReflectionTestUtils.setField(checkInService, "maxAttempts", 5);
+        return checkInService;
+    }
+
+    private Long seedTeam(List<Long> users) {
+        Long teamId = teamDAO.addTeam(System.nanoTime(), "checkin", users);
+        schedulesDAO.addSchedule(teamId, List.of(SchedulesDTO.builder()
+                .date(LocalDate.of(2099, 3, 2))
+                .time(LocalTime.of(19, 0))
+                .duration(60)
+                .resources(List.of())
+                .build()));
+        return teamId;
+    }
+
+    private Long scheduleOf(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getId();
+    }
+
+    private String token(Long userId) {
+        return jwtTokenUtil.generateToken(String.valueOf(userId), UserEntity.Role.STUDENT);
+    }
+
+    // 학번 순
+    private List<AttendanceEntity.Status> statuses(Long teamId) {
+        return schedulesDAO.getSchedules(teamId, null, null, false, null).get(0).getAttendances().stream()
+                .sorted((a, b) -> a.getUser().getStudentId().compareTo(b.getUser().getStudentId()))
+                .map(AttendanceDTO::getStatus)
+                .toList();
+    }
+
+    private List<Long> seedUsers(int count) {
+        long base = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(UserEntity.builder()
+                    .id(base + i)
+                    .name("checkin" + i)
+                    .password("checkin")
+                    .phone("010-0000-0000")
+                    .track(UserEntity.Track.EduBack)
+                    .role(UserEntity.Role.STUDENT)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
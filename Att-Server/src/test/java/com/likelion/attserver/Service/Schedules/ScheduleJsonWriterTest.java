@@ -0,0 +1,120 @@
+package com.likelion.attserver.Service.Schedules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.likelion.attserver.DTO.AttendanceDTO;
+import com.likelion.attserver.DTO.ScheduleRowDTO;
+import com.likelion.attserver.Entity.AttendanceEntity;
+import com.likelion.attserver.Entity.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 행 단위 스트리밍 직렬화가 기존 LinkedHashMap 조립 후 직렬화와 같은 JSON을 내고, 결과 크기와 상관없이 받는 대로 흘려보내는지 확인
+class ScheduleJsonWriterTest {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    // Jackson 생성기 출력 버퍼(8000바이트)에 여유를 둔 값
+    private static final int BUFFER_BYTES = 16 * 1024;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void holdsAtMostOneBufferBeforeClose(int attendances) throws IOException {
+        List<ScheduleRowDTO> rows = rows(attendances);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ScheduleJsonWriter writer = new ScheduleJsonWriter(MAPPER, out);
+        for (ScheduleRowDTO row : rows)
+            writer.row(row);
+        int beforeClose = out.size();
+        writer.close();
+
+        // 닫기 전까지 출력 스트림에 안 나간 양은 행 수와 상관없이 버퍼 하나 이하
+        assertThat(out.size()).isGreaterThan(BUFFER_BYTES);
+        assertThat(out.size() - beforeClose).isLessThanOrEqualTo(BUFFER_BYTES);
+        assertThat(MAPPER.readTree(out.toByteArray()).get("1")).hasSize(attendances / 200);
+    }
+
+    @Test
+    void producesSameJsonAsMaps() throws IOException {
+        List<ScheduleRowDTO> rows = new ArrayList<>(rows(40));
+        // 스케쥴 없는 팀, 출석 없는 스케쥴, null 필드
+        rows.add(new ScheduleRowDTO(999L, null, null, null, null, null, null, null, null, null, null, null, null, null, null));
+        rows.add(new ScheduleRowDTO(1000L, 5000L, LocalDate.of(2025, 3, 4), LocalTime.of(19, 0),
+                null, null, null, null, null, null, null, null, null, null, null));
+
+        ByteArrayOutputStream maps = new ByteArrayOutputStream();
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        legacy(rows, maps);
+        streaming(rows, streamed);
+
+        assertThat(MAPPER.readTree(streamed.toByteArray())).isEqualTo(MAPPER.readTree(maps.toByteArray()));
+    }
+
+    // 팀 10개, 팀당 팀원 20명, 나머지는 스케쥴 수로 채움
+    private static List<ScheduleRowDTO> rows(int attendances) {
+        int teams = 10;
+        int members = 20;
+        int schedulesPerTeam = Math.max(1, attendances / (teams * members));
+        List<ScheduleRowDTO> rows = new ArrayList<>();
+        long attendanceId = 1;
+        long scheduleId = 1;
+        for (long team = 1; team <= teams; team++) {
+            for (int s = 0; s < schedulesPerTeam; s++, scheduleId++) {
+                for (int m = 0; m < members; m++) {
+                    long userId = team * 1000 + m;
+                    rows.add(new ScheduleRowDTO(team, scheduleId, LocalDate.of(2025, 3, 4).plusDays(s), LocalTime.of(19, 0),
+                            attendanceId++, AttendanceEntity.Status.PRESENT, m % 5 == 0 ? "note" : null, 1L, 0L,
+                            userId, "user" + userId, "010-0000-0000", userId + "@likelion.org",
+                            UserEntity.Track.EduBack, UserEntity.Role.STUDENT));
+                }
+            }
+        }
+        return rows;
+    }
+
+    // 변경 전 getAllSchedules 방식: 팀/스케쥴마다 LinkedHashMap을 만들어 전체를 들고 있다가 직렬화
+    private static void legacy(List<ScheduleRowDTO> rows, OutputStream out) throws IOException {
+        LinkedHashMap<String, List<LinkedHashMap<String, Object>>> result = new LinkedHashMap<>();
+        Long scheduleId = null;
+        List<AttendanceDTO> attendances = null;
+        for (ScheduleRowDTO row : rows) {
+            List<LinkedHashMap<String, Object>> schedules =
+                    result.computeIfAbsent(row.getTeamId().toString(), id -> new ArrayList<>());
+            if (row.getScheduleId() == null) continue;
+            if (!row.getScheduleId().equals(scheduleId)) {
+                scheduleId = row.getScheduleId();
+                attendances = new ArrayList<>();
+                LinkedHashMap<String, Object> scheduleMap = new LinkedHashMap<>();
+                scheduleMap.put("id", row.getScheduleId());
+                scheduleMap.put("date", row.getDate());
+                scheduleMap.put("time", row.getTime());
+                scheduleMap.put("attendances", attendances);
+                schedules.add(scheduleMap);
+            }
+            if (row.getAttendanceId() != null)
+                attendances.add(row.toAttendanceDTO());
+        }
+        MAPPER.writeValue(out, result);
+    }
+
+    private static void streaming(List<ScheduleRowDTO> rows, OutputStream out) throws IOException {
+        try (ScheduleJsonWriter writer = new ScheduleJsonWriter(MAPPER, out)) {
+            for (ScheduleRowDTO row : rows)
+                writer.row(row);
+        }
+    }
+}